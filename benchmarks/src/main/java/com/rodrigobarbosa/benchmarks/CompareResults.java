@@ -0,0 +1,98 @@
+package com.rodrigobarbosa.benchmarks;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares two JMH result files ({@code -rf json}) benchmark by benchmark:
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.rodrigobarbosa.benchmarks.CompareResults baseline.json current.json [threshold%]
+ * </pre>
+ *
+ * Secondary results (such as auxiliary counters) are compared as {@code benchmark:name}. A change
+ * counts only when the two scores are further apart than their combined error; for
+ * time-per-operation modes and event counts a higher score is a regression, for throughput a lower
+ * one. Exits with status 1 when a regression is worse than {@code threshold%} (default 5), so CI
+ * can fail on it.
+ */
+public final class CompareResults {
+
+  private record Score(double value, double error, String unit, boolean higherIsBetter) {}
+
+  private CompareResults() {}
+
+  public static void main(String[] args) {
+    if (args.length < 2 || args.length > 3) {
+      System.err.println("usage: CompareResults <baseline.json> <current.json> [threshold%]");
+      System.exit(2);
+    }
+    Map<String, Score> baseline = read(new File(args[0]));
+    Map<String, Score> current = read(new File(args[1]));
+    double threshold = args.length == 3 ? Double.parseDouble(args[2]) : 5;
+    int regressions = 0;
+    int failing = 0;
+    for (var entry : current.entrySet()) {
+      Score now = entry.getValue();
+      Score before = baseline.get(entry.getKey());
+      if (before == null) {
+        System.out.printf(
+            "%-70s %10s -> %10.2f %s  (new)%n", entry.getKey(), "", now.value(), now.unit());
+        continue;
+      }
+      double change = (now.value() - before.value()) / before.value() * 100;
+      String verdict = "";
+      if (Math.abs(now.value() - before.value()) > now.error() + before.error()) {
+        boolean better = now.higherIsBetter() == now.value() > before.value();
+        verdict = better ? "faster" : "SLOWER";
+        if (!better) {
+          regressions++;
+          if (Math.abs(change) > threshold) {
+            failing++;
+            verdict += " (over " + threshold + "%)";
+          }
+        }
+      }
+      System.out.printf(
+          "%-70s %10.2f -> %10.2f %s  %+6.1f%% %s%n",
+          entry.getKey(), before.value(), now.value(), now.unit(), change, verdict);
+    }
+    System.out.printf(
+        "%n%d regression(s), %d over the %s%% threshold%n", regressions, failing, threshold);
+    if (failing > 0) System.exit(1);
+  }
+
+  private static Map<String, Score> read(File file) {
+    Map<String, Score> scores = new TreeMap<>();
+    for (JsonNode run : JsonMapper.shared().readTree(file)) {
+      Map<String, String> params = new LinkedHashMap<>();
+      run.path("params").properties().forEach(p -> params.put(p.getKey(), p.getValue().asString()));
+      String name = run.path("benchmark").asString().replace("com.rodrigobarbosa.benchmarks.", "");
+      String suffix = params.isEmpty() ? "" : " " + params;
+      boolean throughput = run.path("mode").asString().equals("thrpt");
+      scores.put(name + suffix, score(run.path("primaryMetric"), throughput));
+      // Secondary results, e.g. auxiliary counters such as payload sizes.
+      for (var secondary : run.path("secondaryMetrics").properties()) {
+        scores.put(
+            name + ":" + secondary.getKey() + suffix, score(secondary.getValue(), throughput));
+      }
+    }
+    return scores;
+  }
+
+  private static Score score(JsonNode metric, boolean throughput) {
+    // "NaN" when the run had a single measurement iteration.
+    double error = metric.path("scoreError").asDouble(0);
+    String unit = metric.path("scoreUnit").asString();
+    // Event counts ("#") are sizes and tallies: more is worse whatever the mode.
+    return new Score(
+        metric.path("score").asDouble(),
+        Double.isNaN(error) ? 0 : error,
+        unit,
+        throughput && !unit.equals("#"));
+  }
+}
@@ -0,0 +1,55 @@
+package com.rodrigobarbosa.benchmarks;
+
+import com.rodrigobarbosa.menu.api.dto.MenuItemMapper;
+import com.rodrigobarbosa.menu.api.dto.MenuItemResponse;
+import com.rodrigobarbosa.menu.domain.MenuItem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MenuItemMapper#toResponse} over a page of menu items, as done by {@code GET /menu-items}
+ * and {@code POST /menu-items/lookup}; {@code items} is the page size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MenuItemMappingBenchmark {
+
+  @Param({"1", "20", "100"})
+  public int items;
+
+  private List<MenuItem> page;
+
+  @Setup
+  public void setUp() {
+    page = new ArrayList<>(items);
+    for (int i = 0; i < items; i++) {
+      page.add(
+          new MenuItem(
+              String.format("65f1c0ffee00000000%06d", i),
+              "Menu item " + i,
+              1290 + 55 * (i % 40),
+              i % 10 != 0));
+    }
+  }
+
+  @Benchmark
+  public List<MenuItemResponse> toResponse() {
+    return page.stream().map(MenuItemMapper::toResponse).toList();
+  }
+}
@@ -0,0 +1,100 @@
+package com.rodrigobarbosa.benchmarks;
+
+import com.rodrigobarbosa.order.domain.OrderItem;
+import com.rodrigobarbosa.order.service.OrderServiceImpl;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The order total computed by {@code POST /orders}, as whole cents ({@link
+ * OrderServiceImpl#totalAmountCents}) vs the {@code BigDecimal} multiply/add it replaced, by number
+ * of order items. Run with {@code -prof gc} to see the allocation difference. Each fork also prints
+ * the BSON size of the stored amounts ({@code Int64} vs {@code Decimal128}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+  public enum Representation {
+    CENTS,
+    BIG_DECIMAL
+  }
+
+  @Param({"1", "10", "100"})
+  public int items;
+
+  @Param({"CENTS", "BIG_DECIMAL"})
+  public Representation representation;
+
+  private List<OrderItem> orderItems;
+  private List<DecimalItem> decimalItems;
+
+  private record DecimalItem(BigDecimal price, int quantity) {}
+
+  @Setup
+  public void setUp() {
+    orderItems = OrderFixtures.items(items);
+    decimalItems = new ArrayList<>(items);
+    for (OrderItem item : orderItems) {
+      decimalItems.add(
+          new DecimalItem(BigDecimal.valueOf(item.getPriceCents(), 2), item.getQuantity()));
+    }
+    System.out.printf(
+        "%n%s amounts of %d items: %d bytes stored%n", representation, items, storedBytes());
+  }
+
+  @Benchmark
+  public void total(Blackhole blackhole) {
+    // Consumed per branch so the cents total is not boxed.
+    switch (representation) {
+      case CENTS -> blackhole.consume(OrderServiceImpl.totalAmountCents(orderItems));
+      case BIG_DECIMAL ->
+          blackhole.consume(
+              decimalItems.stream()
+                  .map(it -> it.price().multiply(BigDecimal.valueOf(it.quantity())))
+                  .reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+  }
+
+  /** BSON size of just the amount fields, the only part of the document that changes. */
+  private int storedBytes() {
+    Document document = new Document();
+    List<Document> prices = new ArrayList<>(items);
+    long totalCents = OrderServiceImpl.totalAmountCents(orderItems);
+    for (OrderItem item : orderItems) {
+      prices.add(
+          representation == Representation.CENTS
+              ? new Document("priceCents", item.getPriceCents())
+              : new Document("price", new Decimal128(BigDecimal.valueOf(item.getPriceCents(), 2))));
+    }
+    document.append("orderItems", prices);
+    if (representation == Representation.CENTS) {
+      document.append("totalAmountCents", totalCents);
+    } else {
+      document.append("totalAmount", new Decimal128(BigDecimal.valueOf(totalCents, 2)));
+    }
+    return new RawBsonDocument(document, new DocumentCodec()).getByteBuffer().remaining();
+  }
+}
@@ -0,0 +1,83 @@
+package com.rodrigobarbosa.benchmarks;
+
+import com.rodrigobarbosa.order.messaging.OrderStatusChangedEvent;
+import com.rodrigobarbosa.order.messaging.RabbitMessagingConfig;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Encode/decode cost of {@link OrderStatusChangedEvent} through the converter the order service
+ * registers, per wire format. {@code encode} also reports the payload size of each format as its
+ * {@code payloadBytes} secondary result, so it lands in the JSON results next to the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderEventSerializationBenchmark {
+
+  @Param({"JSON", "CBOR"})
+  public RabbitMessagingConfig.Serialization format;
+
+  private MessageConverter converter;
+  private OrderStatusChangedEvent event;
+  private Message encoded;
+
+  @Setup
+  public void setUp() {
+    converter = new RabbitMessagingConfig().orderEventMessageConverter(format);
+    event =
+        new OrderStatusChangedEvent(
+            "2f1c8a52-51a4-4b43-9a3e-6a1f0e7c9d10",
+            OrderStatusChangedEvent.TYPE,
+            "65f1c0ffee0000000000abcd",
+            "ze.pequeno@city.god",
+            "Ze Pequeno",
+            "PREPARING",
+            Instant.parse("2026-02-20T10:15:30.123Z"));
+    encoded = converter.toMessage(event, new MessageProperties());
+    encoded.getMessageProperties().setInferredArgumentType(OrderStatusChangedEvent.class);
+  }
+
+  @Benchmark
+  public Message encode(Payload payload) {
+    Message message = converter.toMessage(event, new MessageProperties());
+    payload.payloadBytes = message.getBody().length;
+    return message;
+  }
+
+  @Benchmark
+  public Object decode() {
+    return converter.fromMessage(encoded);
+  }
+
+  /** Size of the encoded body, in bytes; the same on every call. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Payload {
+    public long payloadBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      payloadBytes = 0;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.rodrigobarbosa.benchmarks;
+
+import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
+import com.rodrigobarbosa.order.domain.Customer;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderItem;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.service.OrderServiceImpl;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Deterministic orders of a given size, shaped like the ones the demo scripts create. */
+final class OrderFixtures {
+
+  private static final Instant CREATED_AT = Instant.parse("2026-02-20T10:15:30.123Z");
+
+  private OrderFixtures() {}
+
+  static List<OrderItem> items(int count) {
+    List<OrderItem> items = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      // Prices like 12.90, 13.45, ... with quantities 1..5.
+      items.add(new OrderItem(productId(i), "Menu item " + i, priceCents(i), 1 + i % 5));
+    }
+    return items;
+  }
+
+  static Order order(int itemCount) {
+    List<OrderItem> items = items(itemCount);
+    return new Order(
+        "65f1c0ffee0000000000abcd",
+        new Customer("Ze Pequeno", "Rua do Ouvidor, 50", "ze.pequeno@city.god"),
+        items,
+        OrderServiceImpl.totalAmountCents(items),
+        OrderStatus.PREPARING,
+        CREATED_AT,
+        CREATED_AT.plusSeconds(90));
+  }
+
+  static CreateOrderRequest createRequest(int itemCount) {
+    List<CreateOrderRequest.CreateOrderItemRequest> items = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      items.add(new CreateOrderRequest.CreateOrderItemRequest(productId(i), 1 + i % 5));
+    }
+    return new CreateOrderRequest(
+        new CreateOrderRequest.CustomerRequest(
+            "Ze Pequeno", "Rua do Ouvidor, 50", "ze.pequeno@city.god"),
+        items);
+  }
+
+  /** Prices like 12.90, 13.45, ... */
+  static long priceCents(int i) {
+    return 1290 + 55 * (i % 40);
+  }
+
+  private static String productId(int i) {
+    return String.format("65f1c0ffee00000000%06d", i);
+  }
+}
@@ -0,0 +1,71 @@
+package com.rodrigobarbosa.benchmarks;
+
+import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
+import com.rodrigobarbosa.order.api.dto.OrderMapper;
+import com.rodrigobarbosa.order.api.dto.OrderResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Jackson cost of the order service's HTTP bodies, by number of order items: the {@code POST
+ * /orders} request and the {@link OrderResponse} every order endpoint returns. {@code
+ * OrderStatusChangedEvent} is covered by {@link OrderEventSerializationBenchmark}, through the
+ * message converter the service actually uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderJsonBenchmark {
+
+  @Param({"1", "10", "100"})
+  public int items;
+
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+  private CreateOrderRequest createRequest;
+  private byte[] createRequestJson;
+  private OrderResponse response;
+  private byte[] responseJson;
+
+  @Setup
+  public void setUp() {
+    createRequest = OrderFixtures.createRequest(items);
+    createRequestJson = jsonMapper.writeValueAsBytes(createRequest);
+    response = OrderMapper.toResponse(OrderFixtures.order(items));
+    responseJson = jsonMapper.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public CreateOrderRequest readCreateOrderRequest() {
+    return jsonMapper.readValue(createRequestJson, CreateOrderRequest.class);
+  }
+
+  @Benchmark
+  public byte[] writeCreateOrderRequest() {
+    return jsonMapper.writeValueAsBytes(createRequest);
+  }
+
+  @Benchmark
+  public OrderResponse readOrderResponse() {
+    return jsonMapper.readValue(responseJson, OrderResponse.class);
+  }
+
+  @Benchmark
+  public byte[] writeOrderResponse() {
+    return jsonMapper.writeValueAsBytes(response);
+  }
+}
@@ -0,0 +1,56 @@
+package com.rodrigobarbosa.benchmarks;
+
+import com.rodrigobarbosa.order.api.dto.OrderMapper;
+import com.rodrigobarbosa.order.api.dto.OrderResponse;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderItem;
+import com.rodrigobarbosa.order.service.OrderServiceImpl;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request CPU work on the order domain: {@link OrderMapper#toResponse} (every order endpoint)
+ * and the total computed by {@code POST /orders}, by number of order items. {@link MoneyBenchmark}
+ * compares that total with the {@code BigDecimal} one it replaced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderMappingBenchmark {
+
+  @Param({"1", "10", "100"})
+  public int items;
+
+  private Order order;
+  private List<OrderItem> orderItems;
+
+  @Setup
+  public void setUp() {
+    order = OrderFixtures.order(items);
+    orderItems = order.getOrderItems();
+  }
+
+  @Benchmark
+  public OrderResponse toResponse() {
+    return OrderMapper.toResponse(order);
+  }
+
+  @Benchmark
+  public long totalAmount() {
+    return OrderServiceImpl.totalAmountCents(orderItems);
+  }
+}
@@ -0,0 +1,41 @@
+package com.rodrigobarbosa.benchmarks;
+
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OrderStatusTransition;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link OrderStatusTransition#isAllowed} over every (from, to) pair, so the result is not a
+ * constant the JIT can fold; reported per check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderStatusTransitionBenchmark {
+
+  private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+  @Benchmark
+  @OperationsPerInvocation(16) // 4 statuses x 4
+  public void isAllowed(Blackhole bh) {
+    for (OrderStatus from : STATUSES) {
+      for (OrderStatus to : STATUSES) {
+        bh.consume(OrderStatusTransition.isAllowed(from, to));
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.rodrigobarbosa.loadtest;
+
+import com.rodrigobarbosa.loadtest.standin.MenuStandIns;
+import com.rodrigobarbosa.loadtest.standin.OrderStandIns;
+import com.rodrigobarbosa.menu.MenuApplication;
+import com.rodrigobarbosa.order.OrderApplication;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Both services started in this JVM on random ports, talking to each other over HTTP exactly as
+ * deployed, with MongoDB and RabbitMQ replaced by the in-memory stand-ins. What is measured is
+ * therefore the services' own request path (web layer, validation, menu lookup, caching, mapping),
+ * not the database.
+ */
+public final class InProcessServices implements AutoCloseable {
+
+  private static final List<String> COMMON_ARGS =
+      List.of(
+          "--server.port=0",
+          "--spring.main.banner-mode=off",
+          "--spring.data.mongodb.repositories.type=none",
+          // Nothing should reach a real database; fail fast if something tries.
+          "--spring.mongodb.uri=mongodb://127.0.0.1:1/loadtest?serverSelectionTimeoutMS=100",
+          "--spring.rabbitmq.listener.simple.auto-startup=false",
+          // Two applications in one JVM: keep their meters apart.
+          "--management.metrics.use-global-registry=false",
+          "--springdoc.api-docs.enabled=false",
+          "--springdoc.swagger-ui.enabled=false",
+          "--logging.level.root=WARN",
+          "--logging.level.org.mongodb.driver=OFF",
+          // Background Mongo jobs retry against the unreachable URI above.
+          "--logging.level.com.rodrigobarbosa.order.repo.OrderIndexes=OFF",
+          "--logging.level.com.rodrigobarbosa.order.repo.OrderMoneyMigration=OFF",
+          "--logging.level.com.rodrigobarbosa.menu.repo.MenuItemMoneyMigration=OFF");
+
+  private final ConfigurableApplicationContext menu;
+  private final ConfigurableApplicationContext order;
+
+  private InProcessServices(
+      ConfigurableApplicationContext menu, ConfigurableApplicationContext order) {
+    this.menu = menu;
+    this.order = order;
+  }
+
+  /**
+   * @param extraArgs passed to both services, e.g. {@code --spring.threads.virtual.enabled=true}
+   */
+  public static InProcessServices start(List<String> extraArgs) {
+    ConfigurableApplicationContext menu = run(MenuApplication.class, MenuStandIns.class, extraArgs);
+    try {
+      List<String> orderArgs = new ArrayList<>(extraArgs);
+      orderArgs.add("--menu.base-url=http://localhost:" + port(menu));
+      orderArgs.add("--menu.replica.enabled=false");
+      orderArgs.add("--app.rabbit.publisher.mode=sync");
+      orderArgs.add(
+          "--logging.level.com.rodrigobarbosa.order.messaging.LoggingNotificationSink=WARN");
+      return new InProcessServices(
+          menu, run(OrderApplication.class, OrderStandIns.class, orderArgs));
+    } catch (RuntimeException e) {
+      menu.close();
+      throw e;
+    }
+  }
+
+  private static ConfigurableApplicationContext run(
+      Class<?> application, Class<?> standIns, List<String> extraArgs) {
+    List<String> args = new ArrayList<>(COMMON_ARGS);
+    // Both jars ship an application.yaml at the root; load the one next to the application class.
+    args.add("--spring.config.location=" + configLocation(application));
+    args.addAll(extraArgs);
+    return new SpringApplicationBuilder(application, standIns).run(args.toArray(String[]::new));
+  }
+
+  private static String configLocation(Class<?> application) {
+    URL codeSource = application.getProtectionDomain().getCodeSource().getLocation();
+    String location = codeSource.toExternalForm();
+    return location.endsWith(".jar")
+        ? "jar:" + location + "!/application.yaml"
+        : location + (location.endsWith("/") ? "" : "/") + "application.yaml";
+  }
+
+  private static int port(ConfigurableApplicationContext context) {
+    return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+  }
+
+  public URI orderBaseUrl() {
+    return URI.create("http://localhost:" + port(order));
+  }
+
+  public URI menuBaseUrl() {
+    return URI.create("http://localhost:" + port(menu));
+  }
+
+  @Override
+  public void close() {
+    order.close();
+    menu.close();
+  }
+}
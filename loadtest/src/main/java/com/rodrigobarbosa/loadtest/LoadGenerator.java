@@ -0,0 +1,113 @@
+package com.rodrigobarbosa.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives one phase as an open model: request {@code i} is due at {@code start + i / rate} and is
+ * issued then on its own virtual thread, regardless of how many earlier ones are still waiting. A
+ * slow service therefore builds a queue that shows up in the latencies, instead of silently
+ * lowering the offered load. {@code maxInFlight} only protects the generator itself; requests that
+ * wait for it are still timed from when they were due.
+ */
+public class LoadGenerator {
+
+  private final ServiceClient client;
+  private final OrderPool pool;
+  private final int maxInFlight;
+
+  public LoadGenerator(ServiceClient client, OrderPool pool, int maxInFlight) {
+    this.client = client;
+    this.pool = pool;
+    this.maxInFlight = maxInFlight;
+  }
+
+  public PhaseResult run(Workload.Phase phase) throws InterruptedException {
+    PhaseResult result = new PhaseResult(phase);
+    Operation[] operations = phase.mix().keySet().toArray(Operation[]::new);
+    int[] cumulativeWeights = cumulativeWeights(phase.mix(), operations);
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    long planned = phase.plannedRequests();
+    long start = System.nanoTime();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long i = 0; i < planned; i++) {
+        long dueAt = start + (long) (i * 1e9 / phase.rate());
+        for (long wait; (wait = dueAt - System.nanoTime()) > 0; ) {
+          LockSupport.parkNanos(wait);
+        }
+        Operation operation = pick(operations, cumulativeWeights);
+        inFlight.acquire();
+        executor.execute(
+            () -> {
+              try {
+                execute(operation, phase, dueAt, result);
+              } finally {
+                inFlight.release();
+              }
+            });
+      }
+    }
+    result.finish(System.nanoTime() - start);
+    return result;
+  }
+
+  private static int[] cumulativeWeights(Map<Operation, Integer> mix, Operation[] operations) {
+    int[] cumulative = new int[operations.length];
+    int total = 0;
+    for (int i = 0; i < operations.length; i++) {
+      total += mix.get(operations[i]);
+      cumulative[i] = total;
+    }
+    return cumulative;
+  }
+
+  private static Operation pick(Operation[] operations, int[] cumulativeWeights) {
+    int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[operations.length - 1]);
+    int i = 0;
+    while (cumulativeWeights[i] <= ticket) i++;
+    return operations[i];
+  }
+
+  /**
+   * Issues {@code operation}, falling back to a request that is possible when there is nothing to
+   * act on yet (a status update with no order left to advance reads one instead; a read before any
+   * order exists creates one). The latency is recorded under the operation actually issued.
+   */
+  private void execute(Operation operation, Workload.Phase phase, long dueAt, PhaseResult result) {
+    try {
+      switch (operation) {
+        case CREATE -> {
+          int items = ThreadLocalRandom.current().nextInt(phase.minItems(), phase.maxItems() + 1);
+          ServiceClient.Result created = client.createOrder(pool.products(items));
+          result.record(operation, System.nanoTime() - dueAt, created.ok());
+          if (created.ok()) pool.created(created.id());
+        }
+        case GET -> {
+          String id = pool.randomOrder();
+          if (id == null) {
+            execute(Operation.CREATE, phase, dueAt, result);
+            return;
+          }
+          result.record(operation, System.nanoTime() - dueAt, client.getOrder(id).ok());
+        }
+        case LIST -> result.record(operation, System.nanoTime() - dueAt, client.listOrders().ok());
+        case UPDATE_STATUS -> {
+          OrderPool.Advanceable order = pool.takeAdvanceable();
+          if (order == null) {
+            execute(Operation.GET, phase, dueAt, result);
+            return;
+          }
+          ServiceClient.Result updated = client.updateStatus(order.id(), order.next());
+          result.record(operation, System.nanoTime() - dueAt, updated.ok());
+          pool.release(order, updated.ok());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
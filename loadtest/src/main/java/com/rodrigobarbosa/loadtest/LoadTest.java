@@ -0,0 +1,190 @@
+package com.rodrigobarbosa.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Runs a {@link Workload} against the order service and reports latency percentiles per operation.
+ * Exits with 1 when a recorded phase misses its objectives, so it can gate a build.
+ *
+ * <pre>
+ * java -jar loadtest/target/loadtest.jar WORKLOAD.ndjson [--report=FILE.json] [--max-in-flight=N]
+ *     [--order-url=URL --menu-url=URL] [--any.spring.property=VALUE ...]
+ * </pre>
+ *
+ * Without {@code --order-url}/{@code --menu-url} both services are started in this JVM (see {@link
+ * InProcessServices}); other {@code --name=value} options are passed to them as Spring properties.
+ */
+public final class LoadTest {
+
+  static final int PASSED = 0;
+  static final int SLO_VIOLATED = 1;
+  static final int USAGE_ERROR = 2;
+
+  private static final int SEED_CONCURRENCY = 8;
+
+  private LoadTest() {}
+
+  public static void main(String[] args) throws Exception {
+    System.exit(run(args, System.out));
+  }
+
+  static int run(String[] args, PrintStream out) throws Exception {
+    Path workloadFile = null;
+    Path reportFile = null;
+    URI orderUrl = null;
+    URI menuUrl = null;
+    int maxInFlight = 10_000;
+    List<String> serviceArgs = new ArrayList<>();
+    for (String arg : args) {
+      if (arg.startsWith("--report=")) {
+        reportFile = Path.of(value(arg));
+      } else if (arg.startsWith("--order-url=")) {
+        orderUrl = URI.create(value(arg));
+      } else if (arg.startsWith("--menu-url=")) {
+        menuUrl = URI.create(value(arg));
+      } else if (arg.startsWith("--max-in-flight=")) {
+        maxInFlight = Integer.parseInt(value(arg));
+      } else if (arg.startsWith("--")) {
+        serviceArgs.add(arg);
+      } else if (workloadFile == null) {
+        workloadFile = Path.of(arg);
+      } else {
+        return usage(out, "Unexpected argument: " + arg);
+      }
+    }
+    if (workloadFile == null) return usage(out, "No workload file given");
+    if ((orderUrl == null) != (menuUrl == null)) {
+      return usage(out, "--order-url and --menu-url go together");
+    }
+
+    Workload workload;
+    try {
+      workload = Workload.read(workloadFile);
+    } catch (IllegalArgumentException e) {
+      return usage(out, e.getMessage());
+    }
+
+    InProcessServices services = null;
+    if (orderUrl == null) {
+      out.println("Starting menu and order services in-process...");
+      services = InProcessServices.start(serviceArgs);
+      orderUrl = services.orderBaseUrl();
+      menuUrl = services.menuBaseUrl();
+    }
+    try {
+      ServiceClient client = new ServiceClient(orderUrl, menuUrl);
+      OrderPool pool = seed(client, workload.setup(), out);
+      LoadGenerator generator = new LoadGenerator(client, pool, maxInFlight);
+      List<PhaseResult> recorded = new ArrayList<>();
+      for (Workload.Phase phase : workload.phases()) {
+        out.printf(
+            "%nPhase %s: %.1f req/s for %ds%s%n",
+            phase.name(),
+            phase.rate(),
+            phase.durationSeconds(),
+            phase.record() ? "" : " (warm-up, not recorded)");
+        PhaseResult result = generator.run(phase);
+        print(result, out);
+        if (phase.record()) recorded.add(result);
+      }
+      boolean passed = recorded.stream().allMatch(result -> result.violations().isEmpty());
+      if (reportFile != null) writeReport(reportFile, workloadFile, recorded, passed);
+      out.println(passed ? "\nAll objectives met." : "\nObjectives missed.");
+      return passed ? PASSED : SLO_VIOLATED;
+    } finally {
+      if (services != null) services.close();
+    }
+  }
+
+  private static String value(String arg) {
+    return arg.substring(arg.indexOf('=') + 1);
+  }
+
+  private static int usage(PrintStream out, String problem) {
+    out.println(problem);
+    out.println(
+        "Usage: LoadTest WORKLOAD.ndjson [--report=FILE.json] [--max-in-flight=N]"
+            + " [--order-url=URL --menu-url=URL] [--spring.property=VALUE ...]");
+    return USAGE_ERROR;
+  }
+
+  /** Creates the menu items and orders of {@code setup} through the public API. */
+  private static OrderPool seed(ServiceClient client, Workload.Setup setup, PrintStream out)
+      throws InterruptedException {
+    List<String> productIds = new ArrayList<>(setup.menuItems());
+    for (int i = 0; i < setup.menuItems(); i++) {
+      BigDecimal price = BigDecimal.valueOf(500 + (i * 37L) % 4500, 2);
+      ServiceClient.Result created = client.createMenuItem("Load item " + i, price);
+      if (!created.ok()) {
+        throw new IllegalStateException("Could not create menu item: HTTP " + created.status());
+      }
+      productIds.add(created.id());
+    }
+    OrderPool pool = new OrderPool(productIds);
+    LongAdder failed = new LongAdder();
+    Semaphore permits = new Semaphore(SEED_CONCURRENCY);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < setup.orders(); i++) {
+        int items = 1 + i % 3;
+        permits.acquire();
+        executor.execute(
+            () -> {
+              try {
+                ServiceClient.Result created = client.createOrder(pool.products(items));
+                if (created.ok()) {
+                  pool.created(created.id());
+                } else {
+                  failed.increment();
+                }
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } finally {
+                permits.release();
+              }
+            });
+      }
+    }
+    out.printf(
+        "Seeded %d menu items and %d orders (%d failed)%n",
+        setup.menuItems(), setup.orders() - failed.sum(), failed.sum());
+    return pool;
+  }
+
+  private static void print(PhaseResult result, PrintStream out) {
+    out.printf(
+        "planned %d, completed %d, errors %d, %.1f req/s%n",
+        result.phase().plannedRequests(), result.completed(), result.errors(), result.throughput());
+    out.print(result.table());
+    if (result.phase().record()) {
+      result.violations().forEach(violation -> out.println("SLO MISSED: " + violation));
+    }
+  }
+
+  private static void writeReport(
+      Path file, Path workloadFile, List<PhaseResult> recorded, boolean passed) throws IOException {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("workload", workloadFile.toString());
+    report.put("passed", passed);
+    report.put("phases", recorded.stream().map(PhaseResult::toReport).toList());
+    if (file.getParent() != null) Files.createDirectories(file.getParent());
+    JsonMapper.builder()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .build()
+        .writeValue(file.toFile(), report);
+  }
+}
@@ -0,0 +1,33 @@
+package com.rodrigobarbosa.loadtest;
+
+import java.util.Arrays;
+
+/** Requests the load generator can issue against the order service. */
+public enum Operation {
+  /** {@code POST /orders}; every create also looks its items up in the menu service. */
+  CREATE("create"),
+  /** {@code GET /orders/{id}} of an order created earlier. */
+  GET("get"),
+  /** {@code GET /orders?limit=20}, the first page of the history. */
+  LIST("list"),
+  /** {@code PATCH /orders/{id}/status}, moving an order one step forward. */
+  UPDATE_STATUS("updateStatus");
+
+  private final String key;
+
+  Operation(String key) {
+    this.key = key;
+  }
+
+  /** Name used in workload files and reports. */
+  public String key() {
+    return key;
+  }
+
+  public static Operation ofKey(String key) {
+    return Arrays.stream(values())
+        .filter(operation -> operation.key.equals(key))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + key));
+  }
+}
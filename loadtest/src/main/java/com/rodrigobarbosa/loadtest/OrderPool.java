@@ -0,0 +1,69 @@
+package com.rodrigobarbosa.loadtest;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * What the generator knows about the data under test: the menu item ids to order from, the most
+ * recently created order ids (for reads), and the orders that can still move forward (for status
+ * updates). An order is handed to at most one status update at a time, so updates never race each
+ * other and a rejected transition means the service misbehaved.
+ */
+public class OrderPool {
+
+  private static final int RECENT_CAPACITY = 1 << 14;
+
+  /** An order waiting for its next status update; {@code next} is the status to move it to. */
+  public record Advanceable(String id, String next) {
+
+    /** The step after {@code next}, or null once the order is delivered. */
+    Advanceable advanced() {
+      return "PREPARING".equals(next) ? new Advanceable(id, "DELIVERED") : null;
+    }
+  }
+
+  private final List<String> productIds;
+  private final AtomicReferenceArray<String> recent = new AtomicReferenceArray<>(RECENT_CAPACITY);
+  private final AtomicLong created = new AtomicLong();
+  private final Queue<Advanceable> advanceable = new ConcurrentLinkedQueue<>();
+
+  public OrderPool(List<String> productIds) {
+    this.productIds = List.copyOf(productIds);
+  }
+
+  /** {@code count} random menu item ids (with repetition). */
+  public List<String> products(int count) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return random.ints(count, 0, productIds.size()).mapToObj(productIds::get).toList();
+  }
+
+  public void created(String orderId) {
+    recent.set((int) (created.getAndIncrement() % RECENT_CAPACITY), orderId);
+    advanceable.add(new Advanceable(orderId, "PREPARING"));
+  }
+
+  /** A random recently created order, or null before the first one. */
+  public String randomOrder() {
+    long known = Math.min(created.get(), RECENT_CAPACITY);
+    if (known == 0) return null;
+    return recent.get((int) ThreadLocalRandom.current().nextLong(known));
+  }
+
+  /** Takes the next order to advance, or null if none is waiting. */
+  public Advanceable takeAdvanceable() {
+    return advanceable.poll();
+  }
+
+  /**
+   * Hands an order back after its update. An order whose update failed is not handed out again: its
+   * status is unknown.
+   */
+  public void release(Advanceable order, boolean applied) {
+    Advanceable next = applied ? order.advanced() : null;
+    if (next != null) advanceable.add(next);
+  }
+}
@@ -0,0 +1,158 @@
+package com.rodrigobarbosa.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and failures of one phase, per operation. Latency runs from the moment a request was
+ * <em>scheduled</em> to start until its response arrived, so time spent queued behind a slow
+ * service counts (no coordinated omission).
+ */
+public class PhaseResult {
+
+  private final Workload.Phase phase;
+  private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+  private volatile long elapsedNanos;
+
+  public PhaseResult(Workload.Phase phase) {
+    this.phase = phase;
+    for (Operation operation : Operation.values()) {
+      // Microseconds, three significant digits; resizes for outliers.
+      latencies.put(operation, new ConcurrentHistogram(3));
+      errors.put(operation, new LongAdder());
+    }
+  }
+
+  public Workload.Phase phase() {
+    return phase;
+  }
+
+  void record(Operation operation, long latencyNanos, boolean ok) {
+    latencies.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    if (!ok) errors.get(operation).increment();
+  }
+
+  void finish(long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public long completed() {
+    return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+  }
+
+  public long errors() {
+    return errors.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  public double throughput() {
+    return elapsedNanos == 0 ? 0 : completed() * 1e9 / elapsedNanos;
+  }
+
+  /** Latency at {@code percentile} (0-100) in milliseconds. */
+  public double percentileMillis(Operation operation, double percentile) {
+    return latencies.get(operation).getValueAtPercentile(percentile) / 1000.0;
+  }
+
+  /** Objectives of the phase that were missed, as readable sentences; empty when all held. */
+  public List<String> violations() {
+    List<String> violations = new ArrayList<>();
+    Workload.Slo slo = phase.slo();
+    if (slo.maxP99Millis() != null) {
+      slo.maxP99Millis()
+          .forEach(
+              (key, max) -> {
+                Operation operation = Operation.ofKey(key);
+                if (latencies.get(operation).getTotalCount() == 0) return;
+                double p99 = percentileMillis(operation, 99);
+                if (p99 > max) {
+                  violations.add("%s p99 %.1f ms > %.1f ms".formatted(operation.key(), p99, max));
+                }
+              });
+    }
+    long completed = completed();
+    if (slo.maxErrorRate() != null && completed > 0) {
+      double errorRate = (double) errors() / completed;
+      if (errorRate > slo.maxErrorRate()) {
+        violations.add("error rate %.4f > %.4f".formatted(errorRate, slo.maxErrorRate()));
+      }
+    }
+    if (slo.minThroughputRatio() != null) {
+      double ratio = (double) completed / phase.plannedRequests();
+      if (ratio < slo.minThroughputRatio()) {
+        violations.add(
+            "completed %d of %d planned requests (%.3f < %.3f)"
+                .formatted(completed, phase.plannedRequests(), ratio, slo.minThroughputRatio()));
+      }
+    }
+    return violations;
+  }
+
+  /** One row per operation that ran. */
+  public String table() {
+    StringBuilder table = new StringBuilder();
+    table.append(
+        "%-13s %8s %7s %9s %9s %9s %9s %9s%n"
+            .formatted(
+                "operation",
+                "count",
+                "errors",
+                "p50 ms",
+                "p90 ms",
+                "p99 ms",
+                "p99.9 ms",
+                "max ms"));
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = latencies.get(operation);
+      if (histogram.getTotalCount() == 0) continue;
+      table.append(
+          "%-13s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n"
+              .formatted(
+                  operation.key(),
+                  histogram.getTotalCount(),
+                  errors.get(operation).sum(),
+                  percentileMillis(operation, 50),
+                  percentileMillis(operation, 90),
+                  percentileMillis(operation, 99),
+                  percentileMillis(operation, 99.9),
+                  histogram.getMaxValue() / 1000.0));
+    }
+    return table.toString();
+  }
+
+  /** Plain maps and numbers, ready to be written as JSON. */
+  public Map<String, Object> toReport() {
+    Map<String, Object> operations = new LinkedHashMap<>();
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = latencies.get(operation);
+      if (histogram.getTotalCount() == 0) continue;
+      Map<String, Object> stats = new LinkedHashMap<>();
+      stats.put("count", histogram.getTotalCount());
+      stats.put("errors", errors.get(operation).sum());
+      stats.put("p50Millis", percentileMillis(operation, 50));
+      stats.put("p90Millis", percentileMillis(operation, 90));
+      stats.put("p99Millis", percentileMillis(operation, 99));
+      stats.put("p999Millis", percentileMillis(operation, 99.9));
+      stats.put("maxMillis", histogram.getMaxValue() / 1000.0);
+      operations.put(operation.key(), stats);
+    }
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("name", phase.name());
+    report.put("rate", phase.rate());
+    report.put("durationSeconds", phase.durationSeconds());
+    report.put("planned", phase.plannedRequests());
+    report.put("completed", completed());
+    report.put("errors", errors());
+    report.put("throughput", throughput());
+    report.put("operations", operations);
+    report.put("violations", violations());
+    return report;
+  }
+}
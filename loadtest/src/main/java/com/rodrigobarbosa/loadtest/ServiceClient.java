@@ -0,0 +1,112 @@
+package com.rodrigobarbosa.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * The public HTTP API of both services, as the load generator uses it. Every call returns the
+ * status code (and the created id, where there is one) instead of throwing on non-2xx, so failures
+ * are counted rather than aborting the run.
+ */
+public class ServiceClient {
+
+  private static final JsonMapper MAPPER = JsonMapper.shared();
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  /** Outcome of one call; {@code id} is only set by successful creates. */
+  public record Result(int status, String id) {
+    public boolean ok() {
+      return status >= 200 && status < 300;
+    }
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  private record Created(String id) {}
+
+  private final HttpClient http;
+  private final URI orderBaseUrl;
+  private final URI menuBaseUrl;
+
+  public ServiceClient(URI orderBaseUrl, URI menuBaseUrl) {
+    this.http =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    this.orderBaseUrl = orderBaseUrl;
+    this.menuBaseUrl = menuBaseUrl;
+  }
+
+  public Result createMenuItem(String name, BigDecimal price) throws InterruptedException {
+    return send(
+        post(menuBaseUrl.resolve("/menu-items"), Map.of("name", name, "price", price)), true);
+  }
+
+  /** Creates an order with one item of quantity 1 per product id. */
+  public Result createOrder(List<String> productIds) throws InterruptedException {
+    List<Map<String, Object>> items = new ArrayList<>(productIds.size());
+    for (String productId : productIds) {
+      items.add(Map.of("productId", productId, "quantity", 1));
+    }
+    Map<String, Object> customer =
+        Map.of("fullName", "Load Test", "address", "1 Bench Street", "email", "load@example.com");
+    return send(
+        post(orderBaseUrl.resolve("/orders"), Map.of("customer", customer, "orderItems", items)),
+        true);
+  }
+
+  public Result getOrder(String id) throws InterruptedException {
+    return send(request(orderBaseUrl.resolve("/orders/" + id)).GET().build(), false);
+  }
+
+  public Result listOrders() throws InterruptedException {
+    return send(request(orderBaseUrl.resolve("/orders?limit=20")).GET().build(), false);
+  }
+
+  public Result updateStatus(String id, String status) throws InterruptedException {
+    HttpRequest request =
+        request(orderBaseUrl.resolve("/orders/" + id + "/status"))
+            .method("PATCH", body(Map.of("status", status)))
+            .build();
+    return send(request, false);
+  }
+
+  private HttpRequest post(URI uri, Object payload) {
+    return request(uri).POST(body(payload)).build();
+  }
+
+  private static HttpRequest.Builder request(URI uri) {
+    return HttpRequest.newBuilder(uri)
+        .timeout(TIMEOUT)
+        .header("Content-Type", "application/json")
+        .header("Accept", "application/json");
+  }
+
+  private static HttpRequest.BodyPublisher body(Object payload) {
+    return HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(payload));
+  }
+
+  private Result send(HttpRequest request, boolean readId) throws InterruptedException {
+    try {
+      HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+      String id = null;
+      if (readId && response.statusCode() / 100 == 2) {
+        id = MAPPER.readValue(response.body(), Created.class).id();
+      }
+      return new Result(response.statusCode(), id);
+    } catch (IOException e) {
+      // Connection refused, reset or timed out: counted like a server error.
+      return new Result(0, null);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.rodrigobarbosa.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * A load test described as NDJSON, one step per line, run top to bottom:
+ *
+ * <pre>
+ * {"type":"setup","menuItems":50,"orders":500}
+ * {"type":"phase","name":"warmup","rate":50,"durationSeconds":10,"mix":{"create":1,"get":3},"record":false}
+ * {"type":"phase","name":"steady","rate":200,"durationSeconds":30,"mix":{"create":2,"get":5,"list":2,"updateStatus":1},
+ *  "items":[1,5],"slo":{"maxP99Millis":{"create":250,"get":50},"maxErrorRate":0.01,"minThroughputRatio":0.95}}
+ * </pre>
+ *
+ * Empty lines and lines starting with {@code #} are skipped.
+ */
+public record Workload(Setup setup, List<Phase> phases) {
+
+  private static final JsonMapper MAPPER =
+      JsonMapper.builder().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+
+  /** Data created through the public API before the first phase. */
+  public record Setup(int menuItems, int orders) {}
+
+  /**
+   * Requests arrive at a constant {@code rate} per second for {@code durationSeconds}, whether or
+   * not earlier ones have completed (open model); each picks an operation with probability
+   * proportional to its {@code mix} weight. Phases with {@code record=false} warm the services up
+   * and are left out of the report.
+   *
+   * @param minItems lower bound of the number of items per created order
+   * @param maxItems upper bound (inclusive)
+   */
+  public record Phase(
+      String name,
+      double rate,
+      int durationSeconds,
+      Map<Operation, Integer> mix,
+      int minItems,
+      int maxItems,
+      boolean record,
+      Slo slo) {
+
+    public long plannedRequests() {
+      return Math.round(rate * durationSeconds);
+    }
+  }
+
+  /**
+   * Objectives checked at the end of a recorded phase; null fields are not checked.
+   *
+   * @param maxP99Millis per-operation bound on the 99th percentile latency
+   * @param maxErrorRate bound on failed / completed requests, over all operations
+   * @param minThroughputRatio lower bound on completed / planned requests
+   */
+  public record Slo(
+      Map<String, Double> maxP99Millis, Double maxErrorRate, Double minThroughputRatio) {
+
+    static final Slo NONE = new Slo(Map.of(), null, null);
+  }
+
+  private record Line(
+      String type,
+      Integer menuItems,
+      Integer orders,
+      String name,
+      Double rate,
+      Integer durationSeconds,
+      Map<String, Integer> mix,
+      int[] items,
+      Boolean record,
+      Slo slo) {}
+
+  public static Workload read(Path file) throws IOException {
+    Setup setup = new Setup(0, 0);
+    List<Phase> phases = new ArrayList<>();
+    List<String> lines = Files.readAllLines(file);
+    for (int i = 0; i < lines.size(); i++) {
+      String text = lines.get(i).strip();
+      if (text.isEmpty() || text.startsWith("#")) continue;
+      try {
+        Line line = MAPPER.readValue(text, Line.class);
+        switch (String.valueOf(line.type())) {
+          case "setup" -> setup = setup(line);
+          case "phase" -> phases.add(phase(line, phases.size()));
+          default -> throw new IllegalArgumentException("Unknown type: " + line.type());
+        }
+      } catch (JacksonException | IllegalArgumentException e) {
+        throw new IllegalArgumentException(
+            file + ":" + (i + 1) + ": " + e.getMessage().lines().findFirst().orElse(""), e);
+      }
+    }
+    if (phases.isEmpty()) throw new IllegalArgumentException(file + ": no phases");
+    boolean creates = phases.stream().anyMatch(phase -> phase.mix().containsKey(Operation.CREATE));
+    if (creates && setup.menuItems() == 0) {
+      throw new IllegalArgumentException(file + ": creating orders needs a setup with menuItems");
+    }
+    return new Workload(setup, List.copyOf(phases));
+  }
+
+  private static Setup setup(Line line) {
+    int menuItems = line.menuItems() == null ? 0 : line.menuItems();
+    int orders = line.orders() == null ? 0 : line.orders();
+    if (menuItems < 0 || orders < 0) throw new IllegalArgumentException("Negative setup size");
+    if (orders > 0 && menuItems == 0) {
+      throw new IllegalArgumentException("Seeding orders needs menuItems > 0");
+    }
+    return new Setup(menuItems, orders);
+  }
+
+  private static Phase phase(Line line, int index) {
+    if (line.rate() == null || line.rate() <= 0) {
+      throw new IllegalArgumentException("rate must be positive");
+    }
+    if (line.durationSeconds() == null || line.durationSeconds() <= 0) {
+      throw new IllegalArgumentException("durationSeconds must be positive");
+    }
+    if (line.mix() == null || line.mix().isEmpty()) {
+      throw new IllegalArgumentException("mix must name at least one operation");
+    }
+    Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    line.mix()
+        .forEach(
+            (key, weight) -> {
+              if (weight < 0) throw new IllegalArgumentException("Negative weight for " + key);
+              if (weight > 0) mix.put(Operation.ofKey(key), weight);
+            });
+    if (mix.isEmpty()) throw new IllegalArgumentException("mix weights are all zero");
+    int[] items = line.items() == null ? new int[] {1, 3} : line.items();
+    if (items.length != 2 || items[0] < 1 || items[1] < items[0]) {
+      throw new IllegalArgumentException("items must be [min, max] with 1 <= min <= max");
+    }
+    Slo slo = line.slo() == null ? Slo.NONE : line.slo();
+    if (slo.maxP99Millis() != null) slo.maxP99Millis().keySet().forEach(Operation::ofKey);
+    return new Phase(
+        line.name() == null ? "phase-" + (index + 1) : line.name(),
+        line.rate(),
+        line.durationSeconds(),
+        mix,
+        items[0],
+        items[1],
+        line.record() == null || line.record(),
+        slo);
+  }
+}
@@ -0,0 +1,31 @@
+package com.rodrigobarbosa.loadtest.standin;
+
+import com.rodrigobarbosa.menu.domain.MenuItem;
+import com.rodrigobarbosa.menu.repo.MenuItemRepository;
+import com.rodrigobarbosa.menu.repo.TotalCount;
+import java.util.List;
+
+/** {@link MenuItemRepository} for the load test; counts are always exact. */
+public class InMemoryMenuItemRepository extends InMemoryMongoRepository<MenuItem>
+    implements MenuItemRepository {
+
+  @Override
+  protected String idOf(MenuItem item) {
+    return item.getId();
+  }
+
+  @Override
+  protected MenuItem copy(MenuItem item, String id) {
+    return new MenuItem(id, item.getName(), item.getPriceCents(), item.isAvailable());
+  }
+
+  @Override
+  public List<MenuItem> findWithOffsetLimit(long offset, int limit) {
+    return documents.values().stream().skip(offset).limit(limit).map(this::copy).toList();
+  }
+
+  @Override
+  public TotalCount totalRecords() {
+    return TotalCount.exact(documents.size());
+  }
+}
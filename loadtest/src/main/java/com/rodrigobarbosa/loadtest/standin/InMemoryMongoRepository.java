@@ -0,0 +1,172 @@
+package com.rodrigobarbosa.loadtest.standin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+
+/**
+ * The parts of {@link MongoRepository} the services use, over a map keyed by generated {@link
+ * ObjectId}s, so iteration follows insertion order like a collection scan does. Documents are
+ * copied on the way in and out, as the driver would, so callers never share state with the store.
+ * Query-by-example and paging are not used by the services and throw.
+ */
+abstract class InMemoryMongoRepository<T> implements MongoRepository<T, String> {
+
+  protected final ConcurrentNavigableMap<String, T> documents = new ConcurrentSkipListMap<>();
+
+  protected abstract String idOf(T document);
+
+  /** A copy of {@code document} carrying {@code id}. */
+  protected abstract T copy(T document, String id);
+
+  protected T copy(T document) {
+    return copy(document, idOf(document));
+  }
+
+  /**
+   * Called after a document is inserted or replaced; {@code previous} is the copy it replaced, or
+   * null.
+   */
+  protected void onSaved(T previous, T stored) {}
+
+  protected void onDeleted(T removed) {}
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <S extends T> S save(S entity) {
+    String id = idOf(entity) != null ? idOf(entity) : new ObjectId().toHexString();
+    T stored = copy(entity, id);
+    onSaved(documents.put(id, stored), stored);
+    return (S) copy(stored);
+  }
+
+  @Override
+  public <S extends T> List<S> saveAll(Iterable<S> entities) {
+    List<S> saved = new ArrayList<>();
+    for (S entity : entities) saved.add(save(entity));
+    return saved;
+  }
+
+  @Override
+  public <S extends T> S insert(S entity) {
+    return save(entity);
+  }
+
+  @Override
+  public <S extends T> List<S> insert(Iterable<S> entities) {
+    return saveAll(entities);
+  }
+
+  @Override
+  public Optional<T> findById(String id) {
+    return Optional.ofNullable(documents.get(id)).map(this::copy);
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return documents.containsKey(id);
+  }
+
+  @Override
+  public List<T> findAll() {
+    return documents.values().stream().map(this::copy).toList();
+  }
+
+  @Override
+  public List<T> findAllById(Iterable<String> ids) {
+    List<T> found = new ArrayList<>();
+    for (String id : ids) findById(id).ifPresent(found::add);
+    return found;
+  }
+
+  @Override
+  public long count() {
+    return documents.size();
+  }
+
+  @Override
+  public void deleteById(String id) {
+    T removed = documents.remove(id);
+    if (removed != null) onDeleted(removed);
+  }
+
+  @Override
+  public void delete(T entity) {
+    deleteById(idOf(entity));
+  }
+
+  @Override
+  public void deleteAllById(Iterable<? extends String> ids) {
+    for (String id : ids) deleteById(id);
+  }
+
+  @Override
+  public void deleteAll(Iterable<? extends T> entities) {
+    for (T entity : entities) delete(entity);
+  }
+
+  @Override
+  public void deleteAll() {
+    for (String id : documents.keySet()) deleteById(id);
+  }
+
+  @Override
+  public List<T> findAll(Sort sort) {
+    throw unsupported();
+  }
+
+  @Override
+  public Page<T> findAll(Pageable pageable) {
+    throw unsupported();
+  }
+
+  @Override
+  public <S extends T> Optional<S> findOne(Example<S> example) {
+    throw unsupported();
+  }
+
+  @Override
+  public <S extends T> List<S> findAll(Example<S> example) {
+    throw unsupported();
+  }
+
+  @Override
+  public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+    throw unsupported();
+  }
+
+  @Override
+  public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+    throw unsupported();
+  }
+
+  @Override
+  public <S extends T> long count(Example<S> example) {
+    throw unsupported();
+  }
+
+  @Override
+  public <S extends T> boolean exists(Example<S> example) {
+    throw unsupported();
+  }
+
+  @Override
+  public <S extends T, R> R findBy(
+      Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+    throw unsupported();
+  }
+
+  private static UnsupportedOperationException unsupported() {
+    return new UnsupportedOperationException("Not supported by the in-memory stand-in");
+  }
+}
@@ -0,0 +1,86 @@
+package com.rodrigobarbosa.loadtest.standin;
+
+import com.rodrigobarbosa.order.messaging.OrderEventPublisher;
+import com.rodrigobarbosa.order.messaging.OrderNotificationConsumer;
+import com.rodrigobarbosa.order.messaging.OrderStatusChangedEvent;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Stands in for RabbitMQ on both sides: published events are serialized with the application's
+ * {@link MessageConverter}, queued, and delivered in batches to {@link OrderNotificationConsumer}
+ * on a dedicated thread, as the listener container would. Every publish is confirmed.
+ */
+public class InMemoryOrderEventBroker implements OrderEventPublisher, AutoCloseable {
+
+  private final MessageConverter messageConverter;
+  private final OrderNotificationConsumer consumer;
+  private final int batchSize;
+  private final BlockingQueue<Message> queue = new LinkedBlockingQueue<>();
+  private final Thread deliverer;
+  private final LongAdder delivered = new LongAdder();
+  private volatile boolean running = true;
+
+  public InMemoryOrderEventBroker(
+      MessageConverter messageConverter, OrderNotificationConsumer consumer, int batchSize) {
+    this.messageConverter = messageConverter;
+    this.consumer = consumer;
+    this.batchSize = batchSize;
+    this.deliverer = Thread.ofPlatform().name("in-memory-broker").daemon().start(this::deliver);
+  }
+
+  @Override
+  public void publish(OrderStatusChangedEvent event) {
+    queue.add(messageConverter.toMessage(event, new MessageProperties()));
+  }
+
+  @Override
+  public Set<String> publishConfirmed(List<OrderStatusChangedEvent> events) {
+    Set<String> confirmed = new HashSet<>();
+    for (OrderStatusChangedEvent event : events) {
+      publish(event);
+      confirmed.add(event.eventId());
+    }
+    return confirmed;
+  }
+
+  /** Events handed to the consumer so far. */
+  public long delivered() {
+    return delivered.sum();
+  }
+
+  private void deliver() {
+    List<Message> batch = new ArrayList<>(batchSize);
+    while (running) {
+      try {
+        Message first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) continue;
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        consumer.onMessages(batch);
+        delivered.add(batch.size());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    running = false;
+    deliverer.interrupt();
+    deliverer.join(1000);
+  }
+}
@@ -0,0 +1,253 @@
+package com.rodrigobarbosa.loadtest.standin;
+
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OrderStatusTransition;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import com.rodrigobarbosa.order.repo.BulkStatusResult;
+import com.rodrigobarbosa.order.repo.OrderCursor;
+import com.rodrigobarbosa.order.repo.OrderFilter;
+import com.rodrigobarbosa.order.repo.OrderRepository;
+import com.rodrigobarbosa.order.repo.StatusChange;
+import com.rodrigobarbosa.order.repo.StatusUpdateResult;
+import com.rodrigobarbosa.order.repo.TotalCount;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import org.bson.types.ObjectId;
+
+/**
+ * {@link OrderRepository} with the same contract as the Mongo implementation: status updates are
+ * atomic and guarded by the current status, timestamps are stored with millisecond precision, and
+ * paging walks a (createdAt, id) index newest first.
+ */
+public class InMemoryOrderRepository extends InMemoryMongoRepository<Order>
+    implements OrderRepository {
+
+  private static final Comparator<OrderCursor> NEWEST_FIRST =
+      Comparator.comparing(OrderCursor::createdAt).thenComparing(OrderCursor::id).reversed();
+
+  private final NavigableSet<OrderCursor> index = new ConcurrentSkipListSet<>(NEWEST_FIRST);
+  private final Set<String> withPendingEvents = ConcurrentHashMap.newKeySet();
+
+  @Override
+  protected String idOf(Order order) {
+    return order.getId();
+  }
+
+  @Override
+  protected Order copy(Order order, String id) {
+    Order copy =
+        new Order(
+            id,
+            order.getCustomer(),
+            order.getOrderItems(),
+            order.getTotalAmountCents(),
+            order.getOrderStatus(),
+            millis(order.getCreatedAt()),
+            millis(order.getUpdatedAt()));
+    if (!order.getOutbox().isEmpty()) copy.setOutbox(new ArrayList<>(order.getOutbox()));
+    copy.setStatusEventId(order.getStatusEventId());
+    return copy;
+  }
+
+  private static Instant millis(Instant instant) {
+    return instant == null ? null : instant.truncatedTo(ChronoUnit.MILLIS);
+  }
+
+  private static OrderCursor cursorOf(Order order) {
+    return new OrderCursor(
+        Objects.requireNonNullElse(order.getCreatedAt(), Instant.EPOCH), order.getId());
+  }
+
+  @Override
+  protected void onSaved(Order previous, Order stored) {
+    if (previous != null) index.remove(cursorOf(previous));
+    index.add(cursorOf(stored));
+    trackOutbox(stored);
+  }
+
+  @Override
+  protected void onDeleted(Order removed) {
+    index.remove(cursorOf(removed));
+    withPendingEvents.remove(removed.getId());
+  }
+
+  private void trackOutbox(Order order) {
+    if (order.getOutbox().isEmpty()) {
+      withPendingEvents.remove(order.getId());
+    } else {
+      withPendingEvents.add(order.getId());
+    }
+  }
+
+  @Override
+  public List<Order> findWithOffsetLimit(long offset, int size) {
+    return page(index, offset, size);
+  }
+
+  @Override
+  public List<Order> findAfter(OrderCursor cursor, int limit) {
+    return page(cursor == null ? index : index.tailSet(cursor, false), 0, limit);
+  }
+
+  private List<Order> page(NavigableSet<OrderCursor> cursors, long offset, int limit) {
+    return cursors.stream()
+        .skip(offset)
+        .map(cursor -> documents.get(cursor.id()))
+        .filter(Objects::nonNull)
+        .limit(limit)
+        .map(this::copy)
+        .toList();
+  }
+
+  @Override
+  public Stream<Order> streamOrders(OrderFilter filter) {
+    return index.descendingSet().stream()
+        .filter(cursor -> filter.from() == null || !cursor.createdAt().isBefore(filter.from()))
+        .filter(cursor -> filter.to() == null || cursor.createdAt().isBefore(filter.to()))
+        .map(cursor -> documents.get(cursor.id()))
+        .filter(Objects::nonNull)
+        .filter(order -> filter.status() == null || order.getOrderStatus() == filter.status())
+        .map(
+            order -> {
+              Order copy = copy(order);
+              copy.setOutbox(null);
+              return copy;
+            });
+  }
+
+  @Override
+  public TotalCount totalRecords() {
+    return TotalCount.exact(documents.size());
+  }
+
+  @Override
+  public StatusUpdateResult updateStatus(
+      String id, OrderStatus status, Instant updatedAt, OutboxEvent event) {
+    StatusUpdateResult[] result = {new StatusUpdateResult.NotFound()};
+    documents.computeIfPresent(
+        id,
+        (key, current) -> {
+          if (!OrderStatusTransition.allowedSources(status).contains(current.getOrderStatus())) {
+            result[0] = new StatusUpdateResult.Rejected(current.getOrderStatus());
+            return current;
+          }
+          Order updated = withStatus(current, status, updatedAt, event);
+          result[0] = new StatusUpdateResult.Updated(copy(updated));
+          return updated;
+        });
+    return result[0];
+  }
+
+  @Override
+  public Map<String, OrderStatus> findStatuses(Collection<String> ids) {
+    Map<String, OrderStatus> statuses = new HashMap<>();
+    for (String id : ids) {
+      Order order = documents.get(id);
+      if (order != null) statuses.put(id, order.getOrderStatus());
+    }
+    return statuses;
+  }
+
+  @Override
+  public BulkStatusResult updateStatuses(List<StatusChange> changes, Instant updatedAt) {
+    Set<String> updated = new HashSet<>();
+    Map<String, OrderStatus> current = new HashMap<>();
+    for (StatusChange change : changes) {
+      documents.computeIfPresent(
+          change.orderId(),
+          (key, order) -> {
+            if (order.getOrderStatus() != change.from()) {
+              current.put(key, order.getOrderStatus());
+              return order;
+            }
+            updated.add(key);
+            return withStatus(order, change.to(), updatedAt, change.event());
+          });
+    }
+    return new BulkStatusResult(updated, current);
+  }
+
+  private Order withStatus(
+      Order current, OrderStatus status, Instant updatedAt, OutboxEvent event) {
+    Order updated = copy(current);
+    updated.setOrderStatus(status);
+    updated.setUpdatedAt(millis(updatedAt));
+    updated.setStatusEventId(event.getEventId());
+    List<OutboxEvent> outbox = new ArrayList<>(current.getOutbox());
+    outbox.add(event);
+    updated.setOutbox(outbox);
+    withPendingEvents.add(updated.getId());
+    return updated;
+  }
+
+  @Override
+  public List<Order> findWithPendingEvents(int limit) {
+    return withPendingEvents.stream()
+        .map(documents::get)
+        .filter(order -> order != null && !order.getOutbox().isEmpty())
+        .sorted(Comparator.comparing(InMemoryOrderRepository::oldestEvent))
+        .limit(limit)
+        .map(
+            order -> {
+              Order loaded = new Order();
+              loaded.setId(order.getId());
+              loaded.setCustomer(order.getCustomer());
+              loaded.setOutbox(new ArrayList<>(order.getOutbox()));
+              return loaded;
+            })
+        .toList();
+  }
+
+  private static Instant oldestEvent(Order order) {
+    return order.getOutbox().stream()
+        .map(OutboxEvent::getOccurredAt)
+        .min(Comparator.naturalOrder())
+        .orElse(Instant.MAX);
+  }
+
+  @Override
+  public void removeOutboxEvents(Map<String, ? extends Collection<String>> eventIdsByOrder) {
+    eventIdsByOrder.forEach(
+        (orderId, eventIds) ->
+            documents.computeIfPresent(
+                orderId,
+                (key, current) -> {
+                  Order updated = copy(current);
+                  List<OutboxEvent> outbox = new ArrayList<>(current.getOutbox());
+                  outbox.removeIf(event -> eventIds.contains(event.getEventId()));
+                  updated.setOutbox(outbox.isEmpty() ? null : outbox);
+                  trackOutbox(updated);
+                  return updated;
+                }));
+  }
+
+  @Override
+  public Map<Integer, String> insertUnordered(List<Order> orders) {
+    for (Order order : orders) {
+      if (order.getId() == null) order.setId(new ObjectId().toHexString());
+      insert(order);
+    }
+    return Map.of();
+  }
+
+  @Override
+  public boolean acquireOutboxLease(String owner, Instant now, Duration ttl) {
+    // One order application per harness, so one relay.
+    return true;
+  }
+}
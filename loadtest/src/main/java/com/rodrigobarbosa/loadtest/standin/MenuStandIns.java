@@ -0,0 +1,24 @@
+package com.rodrigobarbosa.loadtest.standin;
+
+import com.rodrigobarbosa.menu.messaging.MenuEventPublisher;
+import com.rodrigobarbosa.menu.repo.MenuItemRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/** Replaces the menu service's Mongo repository and RabbitMQ publisher. */
+@Configuration(proxyBeanMethods = false)
+public class MenuStandIns {
+
+  @Bean
+  public MenuItemRepository menuItemRepository() {
+    return new InMemoryMenuItemRepository();
+  }
+
+  /** Nothing consumes menu events during a load test (the order replica is off). */
+  @Bean
+  @Primary
+  public MenuEventPublisher discardingMenuEventPublisher() {
+    return event -> {};
+  }
+}
@@ -0,0 +1,32 @@
+package com.rodrigobarbosa.loadtest.standin;
+
+import com.rodrigobarbosa.order.messaging.OrderNotificationConsumer;
+import com.rodrigobarbosa.order.repo.OrderRepository;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Replaces the order service's Mongo repository and RabbitMQ publisher. Spring Data repositories
+ * must be switched off ({@code spring.data.mongodb.repositories.type=none}) for these to be the
+ * only ones.
+ */
+@Configuration(proxyBeanMethods = false)
+public class OrderStandIns {
+
+  @Bean
+  public OrderRepository orderRepository() {
+    return new InMemoryOrderRepository();
+  }
+
+  @Bean
+  @Primary
+  public InMemoryOrderEventBroker inMemoryOrderEventBroker(
+      MessageConverter orderEventMessageConverter,
+      OrderNotificationConsumer consumer,
+      @Value("${app.rabbit.listener.batch-size:50}") int batchSize) {
+    return new InMemoryOrderEventBroker(orderEventMessageConverter, consumer, batchSize);
+  }
+}
@@ -0,0 +1,62 @@
+package com.rodrigobarbosa.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LoadTestTests {
+
+  @TempDir Path dir;
+
+  @Test
+  void run_startsBothServices_andReportsEveryOperation() throws Exception {
+    Path workload = dir.resolve("tiny.ndjson");
+    Files.writeString(
+        workload,
+        """
+        {"type":"setup","menuItems":5,"orders":10}
+        {"type":"phase","name":"tiny","rate":20,"durationSeconds":2,\
+        "mix":{"create":1,"get":1,"list":1,"updateStatus":1},\
+        "slo":{"maxErrorRate":0.0,"minThroughputRatio":0.9}}
+        """);
+    Path report = dir.resolve("report.json");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    int exitCode =
+        LoadTest.run(
+            new String[] {workload.toString(), "--report=" + report},
+            new PrintStream(out, true, StandardCharsets.UTF_8));
+
+    assertThat(exitCode).as(out.toString(StandardCharsets.UTF_8)).isEqualTo(LoadTest.PASSED);
+    assertThat(out.toString(StandardCharsets.UTF_8))
+        .contains("Seeded 5 menu items and 10 orders (0 failed)")
+        .contains("All objectives met.");
+    assertThat(Files.readString(report))
+        .contains("\"passed\" : true")
+        .contains("\"create\"", "\"get\"", "\"list\"", "\"updateStatus\"");
+  }
+
+  @Test
+  void run_rejectsInvalidWorkload() throws Exception {
+    Path workload = dir.resolve("bad.ndjson");
+    Files.writeString(
+        workload,
+        "{\"type\":\"phase\",\"rate\":10,\"durationSeconds\":1,\"mix\":{\"delete\":1}}\n");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    int exitCode =
+        LoadTest.run(
+            new String[] {workload.toString()}, new PrintStream(out, true, StandardCharsets.UTF_8));
+
+    assertThat(exitCode).isEqualTo(LoadTest.USAGE_ERROR);
+    assertThat(out.toString(StandardCharsets.UTF_8))
+        .contains("bad.ndjson:1")
+        .contains("Unknown operation: delete");
+  }
+}
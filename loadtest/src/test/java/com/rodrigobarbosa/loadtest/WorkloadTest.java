@@ -0,0 +1,66 @@
+package com.rodrigobarbosa.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WorkloadTest {
+
+  @TempDir Path dir;
+
+  @Test
+  void read_parsesSetupAndPhases_withDefaults() throws Exception {
+    Workload workload =
+        read(
+            """
+            # comment
+            {"type":"setup","menuItems":3,"orders":7}
+
+            {"type":"phase","name":"warmup","rate":5,"durationSeconds":2,"mix":{"get":1,"list":0},"record":false}
+            {"type":"phase","rate":2.5,"durationSeconds":4,"mix":{"create":2},"items":[2,6],"slo":{"maxP99Millis":{"create":100}}}
+            """);
+
+    assertThat(workload.setup()).isEqualTo(new Workload.Setup(3, 7));
+    assertThat(workload.phases()).hasSize(2);
+    Workload.Phase warmup = workload.phases().get(0);
+    assertThat(warmup.mix()).isEqualTo(Map.of(Operation.GET, 1));
+    assertThat(warmup.record()).isFalse();
+    assertThat(warmup.slo()).isEqualTo(Workload.Slo.NONE);
+    Workload.Phase second = workload.phases().get(1);
+    assertThat(second.name()).isEqualTo("phase-2");
+    assertThat(second.plannedRequests()).isEqualTo(10);
+    assertThat(second.minItems()).isEqualTo(2);
+    assertThat(second.maxItems()).isEqualTo(6);
+    assertThat(second.record()).isTrue();
+    assertThat(second.slo().maxP99Millis()).containsEntry("create", 100.0);
+  }
+
+  @Test
+  void read_rejectsInvalidLines_withTheirLineNumber() throws Exception {
+    assertThatThrownBy(() -> read("{\"type\":\"phase\",\"rate\":0,\"durationSeconds\":1}"))
+        .hasMessageContaining(":1: rate must be positive");
+    assertThatThrownBy(
+            () ->
+                read(
+                    "{\"type\":\"setup\"}\n"
+                        + "{\"type\":\"phase\",\"rate\":1,\"durationSeconds\":1,\"mix\":{\"get\":1},\"rps\":3}"))
+        .hasMessageContaining(":2: ")
+        .hasMessageContaining("rps");
+    assertThatThrownBy(
+            () ->
+                read(
+                    "{\"type\":\"phase\",\"rate\":1,\"durationSeconds\":1,\"mix\":{\"create\":1}}"))
+        .hasMessageContaining("needs a setup with menuItems");
+  }
+
+  private Workload read(String content) throws Exception {
+    Path file = dir.resolve("workload.ndjson");
+    Files.writeString(file, content);
+    return Workload.read(file);
+  }
+}
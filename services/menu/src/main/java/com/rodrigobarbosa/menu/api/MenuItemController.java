@@ -1,6 +1,7 @@
 package com.rodrigobarbosa.menu.api;
 
 import com.rodrigobarbosa.menu.api.dto.MenuItemCreateRequest;
+import com.rodrigobarbosa.menu.api.dto.MenuItemLookupRequest;
 import com.rodrigobarbosa.menu.api.dto.MenuItemResponse;
 import com.rodrigobarbosa.menu.api.dto.MenuItemUpdateRequest;
 import com.rodrigobarbosa.menu.api.dto.PaginatedResponse;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -37,8 +39,14 @@ public class MenuItemController {
   @GetMapping
   public PaginatedResponse<MenuItemResponse> list(
       @RequestParam(defaultValue = "0") @Min(0) long offset,
-      @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
-    return service.list(offset, limit);
+      @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+      @RequestParam(defaultValue = "true") boolean includeTotal) {
+    return service.list(offset, limit, includeTotal);
+  }
+
+  @PostMapping("/lookup")
+  public List<MenuItemResponse> lookup(@Valid @RequestBody MenuItemLookupRequest request) {
+    return service.lookup(request.ids());
   }
 
   @PutMapping("/{id}")
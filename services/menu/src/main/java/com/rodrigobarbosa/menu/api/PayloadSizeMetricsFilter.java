@@ -0,0 +1,162 @@
+package com.rodrigobarbosa.menu.api;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records request and response body sizes as {@code menu.http.payload} (bytes), tagged with {@code
+ * direction}, {@code method} and the matched {@code uri} template, so a lookup that suddenly
+ * carries ten times more ids shows up next to its latency. Request sizes come from {@code
+ * Content-Length}; response sizes are counted as the body is written, through the output stream or
+ * the writer, since JSON responses are streamed without one. Actuator endpoints are not recorded,
+ * and nothing is when there is no registry (web slice tests).
+ */
+@Component
+public class PayloadSizeMetricsFilter extends OncePerRequestFilter {
+
+  private static final String UNKNOWN_URI = "UNKNOWN";
+
+  private final MeterRegistry registry;
+
+  @Autowired
+  public PayloadSizeMetricsFilter(ObjectProvider<MeterRegistry> registry) {
+    this(registry.getIfAvailable());
+  }
+
+  PayloadSizeMetricsFilter(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return registry == null || request.getRequestURI().startsWith("/actuator");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    CountingResponse counting = new CountingResponse(response);
+    try {
+      chain.doFilter(request, counting);
+    } finally {
+      counting.flushWriter();
+      // The handler mapping sets the pattern during dispatch; unmatched requests share one tag.
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+      long requestBytes = request.getContentLengthLong();
+      if (requestBytes >= 0) {
+        payload("request", request.getMethod(), uri).record(requestBytes);
+      }
+      payload("response", request.getMethod(), uri).record(counting.bytesWritten());
+    }
+  }
+
+  private DistributionSummary payload(String direction, String method, String uri) {
+    return DistributionSummary.builder("menu.http.payload")
+        .description("HTTP request and response body sizes")
+        .baseUnit("bytes")
+        .tag("direction", direction)
+        .tag("method", method)
+        .tag("uri", uri)
+        .register(registry);
+  }
+
+  private static final class CountingResponse extends HttpServletResponseWrapper {
+
+    private CountingOutputStream stream;
+    private PrintWriter writer;
+
+    CountingResponse(HttpServletResponse response) {
+      super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      if (stream == null) stream = new CountingOutputStream(super.getOutputStream());
+      return stream;
+    }
+
+    /** Encodes onto the counting stream, so characters are counted as the bytes they become. */
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      if (writer == null) {
+        writer =
+            new PrintWriter(
+                new OutputStreamWriter(getOutputStream(), getCharacterEncoding()), false);
+      }
+      return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      flushWriter();
+      super.flushBuffer();
+    }
+
+    void flushWriter() {
+      if (writer != null) writer.flush();
+    }
+
+    long bytesWritten() {
+      return stream == null ? 0 : stream.count;
+    }
+  }
+
+  private static final class CountingOutputStream extends ServletOutputStream {
+
+    private final ServletOutputStream delegate;
+    private long count;
+
+    CountingOutputStream(ServletOutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      delegate.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      delegate.write(b, off, len);
+      count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    @Override
+    public boolean isReady() {
+      return delegate.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener listener) {
+      delegate.setWriteListener(listener);
+    }
+  }
+}
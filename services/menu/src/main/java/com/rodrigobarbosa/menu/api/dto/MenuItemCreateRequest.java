@@ -2,12 +2,17 @@ package com.rodrigobarbosa.menu.api.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
 public record MenuItemCreateRequest(
     @Schema(example = "Cheeseburger") @NotBlank String name,
-    @Schema(example = "29.90") @NotNull @DecimalMin(value = "0.01") BigDecimal price,
+    @Schema(example = "29.90")
+        @NotNull
+        @DecimalMin(value = "0.01")
+        @Digits(integer = 15, fraction = 2)
+        BigDecimal price,
     @Schema(example = "true", nullable = true, requiredMode = Schema.RequiredMode.NOT_REQUIRED)
         Boolean available) {}
@@ -0,0 +1,11 @@
+package com.rodrigobarbosa.menu.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record MenuItemLookupRequest(
+    @Schema(example = "[\"65a7f...\", \"65a80...\"]") @NotEmpty @Size(max = 100)
+        List<@NotBlank String> ids) {}
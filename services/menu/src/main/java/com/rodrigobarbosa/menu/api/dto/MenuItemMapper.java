@@ -0,0 +1,18 @@
+package com.rodrigobarbosa.menu.api.dto;
+
+import com.rodrigobarbosa.menu.domain.MenuItem;
+import com.rodrigobarbosa.menu.domain.Money;
+
+public final class MenuItemMapper {
+
+  private MenuItemMapper() {}
+
+  public static MenuItemResponse toResponse(MenuItem item) {
+    return new MenuItemResponse(
+        item.getId(),
+        item.getName(),
+        Money.toDecimal(item.getPriceCents()),
+        item.isAvailable(),
+        item.getUpdatedAt());
+  }
+}
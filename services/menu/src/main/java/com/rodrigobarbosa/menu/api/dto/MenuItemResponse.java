@@ -2,9 +2,11 @@ package com.rodrigobarbosa.menu.api.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
+import java.time.Instant;
 
 public record MenuItemResponse(
     @Schema(example = "65a7f...") String id,
     @Schema(example = "Cheeseburger") String name,
     @Schema(example = "29.90") BigDecimal price,
-    @Schema(example = "true") boolean available) {}
+    @Schema(example = "true") boolean available,
+    @Schema(example = "2026-01-15T12:00:00Z") Instant updatedAt) {}
@@ -2,4 +2,9 @@ package com.rodrigobarbosa.menu.api.dto;
 
 import java.util.List;
 
-public record PaginatedResponse<T>(long totalRecords, List<T> items) {}
+/**
+ * @param totalRecords null when the client asked for {@code includeTotal=false}
+ * @param totalExact false when {@code totalRecords} is cached or estimated; null when the total is
+ *     omitted
+ */
+public record PaginatedResponse<T>(Long totalRecords, Boolean totalExact, List<T> items) {}
@@ -1,22 +1,32 @@
 package com.rodrigobarbosa.menu.domain;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 @Document("menu_items")
 public class MenuItem {
   @Id private String id;
   private String name;
-  private BigDecimal price;
+  // Null only on documents not yet migrated; see MenuItemMoneyMigration.
+  private Long priceCents;
   private boolean available;
+  // Time of the last write; the occurredAt of the event it published. Null on older documents.
+  private Instant updatedAt;
+
+  // Decimal price of documents written before prices were kept in cents, read only while they have
+  // no priceCents.
+  @Field("price")
+  private BigDecimal legacyPrice;
 
   public MenuItem() {}
 
-  public MenuItem(String id, String name, BigDecimal price, boolean available) {
+  public MenuItem(String id, String name, long priceCents, boolean available) {
     this.id = id;
     this.name = name;
-    this.price = price;
+    this.priceCents = priceCents;
     this.available = available;
   }
 
@@ -28,14 +38,19 @@ public class MenuItem {
     return name;
   }
 
-  public BigDecimal getPrice() {
-    return price;
+  public long getPriceCents() {
+    if (priceCents != null) return priceCents;
+    return legacyPrice != null ? Money.toCents(legacyPrice) : 0;
   }
 
   public boolean isAvailable() {
     return available;
   }
 
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+
   public void setId(String id) {
     this.id = id;
   }
@@ -44,11 +59,16 @@ public class MenuItem {
     this.name = name;
   }
 
-  public void setPrice(BigDecimal price) {
-    this.price = price;
+  public void setPriceCents(long priceCents) {
+    this.priceCents = priceCents;
+    this.legacyPrice = null;
   }
 
   public void setAvailable(boolean available) {
     this.available = available;
   }
+
+  public void setUpdatedAt(Instant updatedAt) {
+    this.updatedAt = updatedAt;
+  }
 }
@@ -0,0 +1,25 @@
+package com.rodrigobarbosa.menu.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Prices are kept as a {@code long} number of cents (a fixed scale of 2), so Mongo stores an {@code
+ * Int64} instead of a {@code Decimal128} or a string. {@link BigDecimal} is only used at the edges:
+ * the JSON contract and the change events.
+ */
+public final class Money {
+
+  public static final int SCALE = 2;
+
+  private Money() {}
+
+  /** Rounds half-even to whole cents; throws {@link ArithmeticException} past {@code long}. */
+  public static long toCents(BigDecimal amount) {
+    return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+  }
+
+  public static BigDecimal toDecimal(long cents) {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+}
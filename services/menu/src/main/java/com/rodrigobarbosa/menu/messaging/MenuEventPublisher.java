@@ -0,0 +1,5 @@
+package com.rodrigobarbosa.menu.messaging;
+
+public interface MenuEventPublisher {
+  void publish(MenuItemChangedEvent event);
+}
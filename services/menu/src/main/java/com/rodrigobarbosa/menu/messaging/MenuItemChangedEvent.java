@@ -0,0 +1,16 @@
+package com.rodrigobarbosa.menu.messaging;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record MenuItemChangedEvent(
+    String eventType,
+    String id,
+    String name, // null for deletions
+    BigDecimal price, // null for deletions
+    boolean available,
+    Instant occurredAt) {
+  public static final String CREATED = "MENU_ITEM_CREATED";
+  public static final String UPDATED = "MENU_ITEM_UPDATED";
+  public static final String DELETED = "MENU_ITEM_DELETED";
+}
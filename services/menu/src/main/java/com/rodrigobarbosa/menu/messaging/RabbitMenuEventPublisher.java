@@ -0,0 +1,43 @@
+package com.rodrigobarbosa.menu.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RabbitMenuEventPublisher implements MenuEventPublisher {
+
+  private static final Logger log = LoggerFactory.getLogger(RabbitMenuEventPublisher.class);
+
+  private final RabbitTemplate rabbitTemplate;
+  private final String exchange;
+  private final String routingKey;
+
+  public RabbitMenuEventPublisher(
+      RabbitTemplate rabbitTemplate,
+      @Value("${app.rabbit.exchange}") String exchange,
+      @Value("${app.rabbit.routing-key}") String routingKey) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.exchange = exchange;
+    this.routingKey = routingKey;
+  }
+
+  @Override
+  public void publish(MenuItemChangedEvent event) {
+    // Best effort: the menu write already succeeded, and consumers periodically resync from
+    // GET /menu-items, so a lost event only delays propagation.
+    try {
+      rabbitTemplate.convertAndSend(exchange, routingKey, event);
+      log.debug("Published eventType={} menuItemId={}", event.eventType(), event.id());
+    } catch (AmqpException e) {
+      log.warn(
+          "Failed to publish eventType={} menuItemId={}: {}",
+          event.eventType(),
+          event.id(),
+          e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.rodrigobarbosa.menu.messaging;
+
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class RabbitMessagingConfig {
+
+  // Consumers (e.g. the order service menu replica) declare and bind their own queues.
+  @Bean
+  public DirectExchange menuEventsExchange(@Value("${app.rabbit.exchange}") String exchange) {
+    return new DirectExchange(exchange, true, false);
+  }
+
+  @Bean
+  public MessageConverter jacksonMessageConverter() {
+    return new JacksonJsonMessageConverter();
+  }
+}
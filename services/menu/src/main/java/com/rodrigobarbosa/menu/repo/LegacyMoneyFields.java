@@ -0,0 +1,20 @@
+package com.rodrigobarbosa.menu.repo;
+
+/**
+ * What happens to the decimal amounts stored before amounts were kept in whole cents ({@code
+ * app.money.legacy-fields}).
+ */
+public enum LegacyMoneyFields {
+  /**
+   * Default, and phase one of the rollout: saves also write the decimals and the money migration
+   * keeps them, so instances that predate the cents fields can still read what newer ones write and
+   * a rollback stays possible.
+   */
+  DUAL_WRITE,
+  /**
+   * Phase two, set explicitly once every instance reads cents: saves write only cents and the money
+   * migration removes the decimals from the whole collection, after which older versions can no
+   * longer read the data.
+   */
+  DROP
+}
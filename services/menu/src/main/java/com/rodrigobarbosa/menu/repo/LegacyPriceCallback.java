@@ -0,0 +1,38 @@
+package com.rodrigobarbosa.menu.repo;
+
+import com.rodrigobarbosa.menu.domain.MenuItem;
+import com.rodrigobarbosa.menu.domain.Money;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes {@code priceCents} of every saved menu item from its getter, so an item still read from
+ * its decimal {@code price} is saved with the right cents. The decimal {@code price} is written
+ * next to the cents, so that instances predating them can read items written by newer ones, or
+ * removed once {@link LegacyMoneyFields#DROP} is set (see {@link MenuItemMoneyMigration}).
+ */
+@Component
+public class LegacyPriceCallback implements BeforeSaveCallback<MenuItem> {
+
+  private final LegacyMoneyFields legacyFields;
+
+  public LegacyPriceCallback(
+      @Value("${app.money.legacy-fields:dual-write}") LegacyMoneyFields legacyFields) {
+    this.legacyFields = legacyFields;
+  }
+
+  @Override
+  public MenuItem onBeforeSave(MenuItem item, Document document, String collection) {
+    long cents = item.getPriceCents();
+    document.put("priceCents", cents);
+    if (legacyFields == LegacyMoneyFields.DROP) {
+      document.remove("price");
+    } else {
+      document.put("price", new Decimal128(Money.toDecimal(cents)));
+    }
+    return item;
+  }
+}
@@ -0,0 +1,86 @@
+package com.rodrigobarbosa.menu.repo;
+
+import com.mongodb.client.result.UpdateResult;
+import com.rodrigobarbosa.menu.domain.MenuItem;
+import java.util.List;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds whole cents ({@code priceCents}) to menu items stored with a decimal {@code price} with one
+ * pipeline update, so Mongo does the conversion (rounding half-even, like {@code Money.toCents}).
+ * {@link MenuItem} reads the decimal price only while it has no cents. The decimal field is kept
+ * (and {@link LegacyPriceCallback} keeps writing it) unless {@link LegacyMoneyFields#DROP} is set,
+ * once no instance that predates the cents is left; then the same pass removes it. Runs in the
+ * background and keeps checking until a pass finds nothing left to do, so startup does not depend
+ * on Mongo being up.
+ */
+@Component
+public class MenuItemMoneyMigration {
+
+  private static final Logger log = LoggerFactory.getLogger(MenuItemMoneyMigration.class);
+
+  static final Bson LEGACY = new Document("price", new Document("$exists", true));
+
+  static final List<Bson> TO_CENTS =
+      List.of(
+          new Document(
+              "$set",
+              new Document(
+                  "priceCents",
+                  new Document(
+                      "$toLong",
+                      new Document(
+                          "$round",
+                          List.of(
+                              new Document(
+                                  "$multiply",
+                                  List.of(
+                                      new Document(
+                                          "$toDecimal",
+                                          new Document("$ifNull", List.of("$price", 0))),
+                                      100)),
+                              0))))));
+
+  /** {@link #TO_CENTS}, then {@code price} is removed in the same update. */
+  static final List<Bson> DROP_LEGACY =
+      List.of(TO_CENTS.getFirst(), new Document("$unset", "price"));
+
+  private final MongoTemplate mongoTemplate;
+  private final LegacyMoneyFields legacyFields;
+  private volatile boolean done;
+
+  public MenuItemMoneyMigration(
+      MongoTemplate mongoTemplate,
+      @Value("${app.money.legacy-fields:dual-write}") LegacyMoneyFields legacyFields) {
+    this.mongoTemplate = mongoTemplate;
+    this.legacyFields = legacyFields;
+  }
+
+  @Scheduled(fixedDelayString = "PT30S")
+  public void migrate() {
+    if (done) return;
+    boolean drop = legacyFields == LegacyMoneyFields.DROP;
+    List<Bson> pipeline = drop ? DROP_LEGACY : TO_CENTS;
+    try {
+      UpdateResult result =
+          mongoTemplate.execute(MenuItem.class, items -> items.updateMany(LEGACY, pipeline));
+      // A kept price keeps matching; a pass that changes nothing means all cents are current.
+      if (drop ? result.getMatchedCount() == 0 : result.getModifiedCount() == 0) {
+        done = true;
+        log.info("Menu prices are stored in cents");
+      } else {
+        log.info("Converted {} menu items to prices in cents", result.getModifiedCount());
+      }
+    } catch (DataAccessException e) {
+      log.warn("Could not convert menu prices to cents, will retry: {}", e.getMessage());
+    }
+  }
+}
@@ -6,5 +6,6 @@ import java.util.List;
 public interface MenuItemRepositoryCustom {
   List<MenuItem> findWithOffsetLimit(long offset, int limit);
 
-  long totalRecords();
+  /** Total number of documents, computed according to {@code app.pagination.count-strategy}. */
+  TotalCount totalRecords();
 }
@@ -1,7 +1,10 @@
 package com.rodrigobarbosa.menu.repo;
 
 import com.rodrigobarbosa.menu.domain.MenuItem;
+import java.time.Duration;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
@@ -9,19 +12,46 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class MenuItemRepositoryCustomImpl implements MenuItemRepositoryCustom {
   private final MongoTemplate mongoTemplate;
+  private final CountStrategy countStrategy;
+  private final Duration countCacheTtl;
+  private volatile CachedCount cachedCount;
 
-  public MenuItemRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+  public MenuItemRepositoryCustomImpl(
+      MongoTemplate mongoTemplate,
+      @Value("${app.pagination.count-strategy:exact}") CountStrategy countStrategy,
+      @Value("${app.pagination.count-cache-ttl:5s}") Duration countCacheTtl) {
     this.mongoTemplate = mongoTemplate;
+    this.countStrategy = countStrategy;
+    this.countCacheTtl = countCacheTtl;
   }
 
   @Override
   public List<MenuItem> findWithOffsetLimit(long offset, int limit) {
-    Query query = new Query().skip(offset).limit(limit);
+    // Offset pages are only stable under a total order; the replica bootstrap walks every page.
+    Query query = new Query().with(Sort.by("id")).skip(offset).limit(limit);
     return mongoTemplate.find(query, MenuItem.class);
   }
 
   @Override
-  public long totalRecords() {
-    return mongoTemplate.count(new Query(), MenuItem.class);
+  public TotalCount totalRecords() {
+    return switch (countStrategy) {
+      case EXACT -> TotalCount.exact(mongoTemplate.count(new Query(), MenuItem.class));
+      case ESTIMATED -> TotalCount.approximate(mongoTemplate.estimatedCount(MenuItem.class));
+      case CACHED -> cachedCount();
+    };
   }
+
+  private TotalCount cachedCount() {
+    CachedCount cached = this.cachedCount;
+    long now = System.nanoTime();
+    if (cached != null && now - cached.countedAt() < countCacheTtl.toNanos()) {
+      return TotalCount.approximate(cached.value());
+    }
+    // Concurrent misses may each count once; the last one wins, which is fine for a hint.
+    long value = mongoTemplate.count(new Query(), MenuItem.class);
+    this.cachedCount = new CachedCount(value, now);
+    return TotalCount.exact(value);
+  }
+
+  private record CachedCount(long value, long countedAt) {}
 }
@@ -0,0 +1,15 @@
+package com.rodrigobarbosa.menu.repo;
+
+/**
+ * @param exact false when the value may lag behind the collection (cached or estimated)
+ */
+public record TotalCount(long value, boolean exact) {
+
+  public static TotalCount exact(long value) {
+    return new TotalCount(value, true);
+  }
+
+  public static TotalCount approximate(long value) {
+    return new TotalCount(value, false);
+  }
+}
@@ -4,13 +4,17 @@ import com.rodrigobarbosa.menu.api.dto.MenuItemCreateRequest;
 import com.rodrigobarbosa.menu.api.dto.MenuItemResponse;
 import com.rodrigobarbosa.menu.api.dto.MenuItemUpdateRequest;
 import com.rodrigobarbosa.menu.api.dto.PaginatedResponse;
+import java.util.Collection;
+import java.util.List;
 
 public interface MenuItemService {
   MenuItemResponse create(MenuItemCreateRequest request);
 
   MenuItemResponse getById(String id);
 
-  PaginatedResponse<MenuItemResponse> list(long offset, int limit);
+  PaginatedResponse<MenuItemResponse> list(long offset, int limit, boolean includeTotal);
+
+  List<MenuItemResponse> lookup(Collection<String> ids);
 
   MenuItemResponse update(String id, MenuItemUpdateRequest request);
 
@@ -1,12 +1,19 @@
 package com.rodrigobarbosa.menu.service;
 
 import com.rodrigobarbosa.menu.api.dto.MenuItemCreateRequest;
+import com.rodrigobarbosa.menu.api.dto.MenuItemMapper;
 import com.rodrigobarbosa.menu.api.dto.MenuItemResponse;
 import com.rodrigobarbosa.menu.api.dto.MenuItemUpdateRequest;
 import com.rodrigobarbosa.menu.api.dto.PaginatedResponse;
 import com.rodrigobarbosa.menu.api.error.NotFoundException;
 import com.rodrigobarbosa.menu.domain.MenuItem;
+import com.rodrigobarbosa.menu.domain.Money;
+import com.rodrigobarbosa.menu.messaging.MenuEventPublisher;
+import com.rodrigobarbosa.menu.messaging.MenuItemChangedEvent;
 import com.rodrigobarbosa.menu.repo.MenuItemRepository;
+import com.rodrigobarbosa.menu.repo.TotalCount;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
@@ -14,56 +21,82 @@ import org.springframework.stereotype.Service;
 public class MenuItemServiceImpl implements MenuItemService {
 
   private final MenuItemRepository repo;
+  private final MenuEventPublisher eventPublisher;
 
-  public MenuItemServiceImpl(MenuItemRepository repo) {
+  public MenuItemServiceImpl(MenuItemRepository repo, MenuEventPublisher eventPublisher) {
     this.repo = repo;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   public MenuItemResponse create(MenuItemCreateRequest request) {
-    MenuItem saved = repo.save(toEntity(request));
-    return toResponse(saved);
+    MenuItem item = toEntity(request);
+    item.setUpdatedAt(Instant.now());
+    MenuItem saved = repo.save(item);
+    eventPublisher.publish(toEvent(MenuItemChangedEvent.CREATED, saved));
+    return MenuItemMapper.toResponse(saved);
   }
 
   @Override
   public MenuItemResponse getById(String id) {
     return repo.findById(id)
-        .map(this::toResponse)
+        .map(MenuItemMapper::toResponse)
         .orElseThrow(() -> NotFoundException.menuItem(id));
   }
 
   @Override
-  public PaginatedResponse<MenuItemResponse> list(long offset, int limit) {
+  public PaginatedResponse<MenuItemResponse> list(long offset, int limit, boolean includeTotal) {
     List<MenuItemResponse> items =
-        repo.findWithOffsetLimit(offset, limit).stream().map(this::toResponse).toList();
-    long total = repo.totalRecords();
-    return new PaginatedResponse<>(total, items);
+        repo.findWithOffsetLimit(offset, limit).stream().map(MenuItemMapper::toResponse).toList();
+    if (!includeTotal) {
+      return new PaginatedResponse<>(null, null, items);
+    }
+    TotalCount total = repo.totalRecords();
+    return new PaginatedResponse<>(total.value(), total.exact(), items);
+  }
+
+  @Override
+  public List<MenuItemResponse> lookup(Collection<String> ids) {
+    // Single $in query; ids that do not exist are simply absent from the result.
+    return repo.findAllById(ids).stream().map(MenuItemMapper::toResponse).toList();
   }
 
   @Override
   public MenuItemResponse update(String id, MenuItemUpdateRequest request) {
     MenuItem item = repo.findById(id).orElseThrow(() -> NotFoundException.menuItem(id));
     if (request.name() != null) item.setName(request.name());
-    if (request.price() != null) item.setPrice(request.price());
+    if (request.price() != null) item.setPriceCents(Money.toCents(request.price()));
     if (request.available() != null) item.setAvailable(request.available());
-    return toResponse(repo.save(item));
+    item.setUpdatedAt(Instant.now());
+    MenuItem saved = repo.save(item);
+    eventPublisher.publish(toEvent(MenuItemChangedEvent.UPDATED, saved));
+    return MenuItemMapper.toResponse(saved);
   }
 
   @Override
   public void delete(String id) {
     if (!repo.existsById(id)) throw NotFoundException.menuItem(id);
     repo.deleteById(id);
+    eventPublisher.publish(
+        new MenuItemChangedEvent(
+            MenuItemChangedEvent.DELETED, id, null, null, false, Instant.now()));
   }
 
-  private MenuItemResponse toResponse(MenuItem item) {
-    return new MenuItemResponse(item.getId(), item.getName(), item.getPrice(), item.isAvailable());
+  private MenuItemChangedEvent toEvent(String eventType, MenuItem item) {
+    return new MenuItemChangedEvent(
+        eventType,
+        item.getId(),
+        item.getName(),
+        Money.toDecimal(item.getPriceCents()),
+        item.isAvailable(),
+        item.getUpdatedAt());
   }
 
   private MenuItem toEntity(MenuItemCreateRequest request) {
     return new MenuItem(
         null,
         request.name(),
-        request.price(),
+        Money.toCents(request.price()),
         request.available() != null ? request.available() : true);
   }
 }
@@ -28,7 +28,7 @@ class MenuItemControllerTest {
   @Test
   void post_menuItems_validation_and_created() throws Exception {
     when(service.create(any()))
-        .thenReturn(new MenuItemResponse("id1", "Burger", new BigDecimal("10.00"), true));
+        .thenReturn(new MenuItemResponse("id1", "Burger", new BigDecimal("10.00"), true, null));
 
     // invalid: missing_name
     mvc.perform(
@@ -43,6 +43,19 @@ class MenuItemControllerTest {
                     """))
         .andExpect(status().isBadRequest());
 
+    // invalid: price_below_one_cent_precision
+    mvc.perform(
+            post("/menu-items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                    {
+                        "name": "Burger",
+                        "price": 10.005
+                    }
+                    """))
+        .andExpect(status().isBadRequest());
+
     // valid
     mvc.perform(
             post("/menu-items")
@@ -65,7 +78,7 @@ class MenuItemControllerTest {
   @Test
   void get_menuItem_by_id_returns_200_or_404() throws Exception {
     when(service.getById("ok"))
-        .thenReturn(new MenuItemResponse("ok", "Burger", new BigDecimal("10.00"), true));
+        .thenReturn(new MenuItemResponse("ok", "Burger", new BigDecimal("10.00"), true, null));
     when(service.getById("missing")).thenThrow(NotFoundException.menuItem("missing"));
 
     mvc.perform(get("/menu-items/ok"))
@@ -78,26 +91,60 @@ class MenuItemControllerTest {
 
   @Test
   void get_menuItems_list_returns_items_and_totalRecords() throws Exception {
-    when(service.list(0, 2))
+    when(service.list(0, 2, true))
         .thenReturn(
             new PaginatedResponse<>(
-                10,
+                10L,
+                true,
                 List.of(
-                    new MenuItemResponse("1", "A", new BigDecimal("1.00"), true),
-                    new MenuItemResponse("2", "B", new BigDecimal("2.00"), false))));
+                    new MenuItemResponse("1", "A", new BigDecimal("1.00"), true, null),
+                    new MenuItemResponse("2", "B", new BigDecimal("2.00"), false, null))));
 
     mvc.perform(get("/menu-items?offset=0&limit=2"))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.totalRecords").value(10))
+        .andExpect(jsonPath("$.totalExact").value(true))
         .andExpect(jsonPath("$.items.length()").value(2))
         .andExpect(jsonPath("$.items[0].id").value("1"))
         .andExpect(jsonPath("$.items[1].id").value("2"));
   }
 
+  @Test
+  void post_menuItems_lookup_returns_found_items_in_one_call() throws Exception {
+    when(service.lookup(List.of("1", "2", "missing")))
+        .thenReturn(
+            List.of(
+                new MenuItemResponse("1", "A", new BigDecimal("1.00"), true, null),
+                new MenuItemResponse("2", "B", new BigDecimal("2.00"), true, null)));
+
+    mvc.perform(
+            post("/menu-items/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                        {
+                            "ids": ["1", "2", "missing"]
+                        }
+                        """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].id").value("1"))
+        .andExpect(jsonPath("$[1].id").value("2"));
+
+    // invalid: empty ids
+    mvc.perform(
+            post("/menu-items/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": []}"))
+        .andExpect(status().isBadRequest());
+
+    verify(service, times(1)).lookup(any());
+  }
+
   @Test
   void put_menuItem_updates_or_404() throws Exception {
     when(service.update(eq("ok"), any()))
-        .thenReturn(new MenuItemResponse("ok", "New", new BigDecimal("12.00"), true));
+        .thenReturn(new MenuItemResponse("ok", "New", new BigDecimal("12.00"), true, null));
     when(service.update(eq("missing"), any())).thenThrow(NotFoundException.menuItem("missing"));
 
     mvc.perform(
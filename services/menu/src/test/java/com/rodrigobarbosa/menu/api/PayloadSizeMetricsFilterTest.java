@@ -0,0 +1,84 @@
+package com.rodrigobarbosa.menu.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class PayloadSizeMetricsFilterTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final PayloadSizeMetricsFilter filter = new PayloadSizeMetricsFilter(registry);
+
+  @Test
+  void recordsRequestAndResponseBodySizes_byUriTemplate() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/menu-items/lookup");
+    request.setContent("{\"ids\":[\"a\",\"b\"]}".getBytes(StandardCharsets.UTF_8));
+    MockFilterChain chain =
+        new MockFilterChain(
+            new HttpServlet() {
+              @Override
+              protected void service(HttpServletRequest req, HttpServletResponse res)
+                  throws IOException {
+                req.setAttribute(
+                    HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/menu-items/lookup");
+                res.getOutputStream().write(new byte[42]);
+              }
+            });
+
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    assertThat(size("request", "/menu-items/lookup")).isEqualTo(17);
+    assertThat(size("response", "/menu-items/lookup")).isEqualTo(42);
+  }
+
+  @Test
+  void countsResponsesWrittenThroughTheWriter_asEncodedBytes() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain =
+        new MockFilterChain(
+            new HttpServlet() {
+              @Override
+              protected void service(HttpServletRequest req, HttpServletResponse res)
+                  throws IOException {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/menu-items");
+                res.setCharacterEncoding("UTF-8");
+                res.getWriter().write("{\"name\":\"Café\"}");
+              }
+            });
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/menu-items"), response, chain);
+
+    assertThat(size("response", "/menu-items")).isEqualTo(16); // 15 chars, "é" is 2 bytes
+    assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+        .isEqualTo("{\"name\":\"Café\"}");
+  }
+
+  @Test
+  void skipsActuator() throws Exception {
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/actuator/prometheus"),
+        new MockHttpServletResponse(),
+        new MockFilterChain());
+
+    assertThat(registry.find("menu.http.payload").summaries()).isEmpty();
+  }
+
+  private double size(String direction, String uri) {
+    return registry
+        .get("menu.http.payload")
+        .tag("direction", direction)
+        .tag("uri", uri)
+        .summary()
+        .totalAmount();
+  }
+}
@@ -0,0 +1,78 @@
+package com.rodrigobarbosa.menu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rodrigobarbosa.menu.api.dto.MenuItemCreateRequest;
+import com.rodrigobarbosa.menu.api.dto.MenuItemUpdateRequest;
+import com.rodrigobarbosa.menu.domain.MenuItem;
+import com.rodrigobarbosa.menu.messaging.MenuEventPublisher;
+import com.rodrigobarbosa.menu.messaging.MenuItemChangedEvent;
+import com.rodrigobarbosa.menu.repo.MenuItemRepository;
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MenuItemServiceImplMessagingTest {
+
+  @Mock MenuItemRepository repo;
+  @Mock MenuEventPublisher publisher;
+
+  @InjectMocks MenuItemServiceImpl service;
+
+  @Test
+  void create_publishesCreatedEvent() {
+    when(repo.save(any(MenuItem.class)))
+        .thenAnswer(
+            inv -> {
+              MenuItem item = inv.getArgument(0);
+              item.setId("id1");
+              return item;
+            });
+
+    service.create(new MenuItemCreateRequest("Burger", new BigDecimal("10.00"), null));
+
+    MenuItemChangedEvent event = capturePublished();
+    assertThat(event.eventType()).isEqualTo(MenuItemChangedEvent.CREATED);
+    assertThat(event.id()).isEqualTo("id1");
+    assertThat(event.price()).isEqualByComparingTo("10.00");
+  }
+
+  @Test
+  void update_publishesUpdatedEvent() {
+    when(repo.findById("id1")).thenReturn(Optional.of(new MenuItem("id1", "Burger", 1000, true)));
+    when(repo.save(any(MenuItem.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    service.update("id1", new MenuItemUpdateRequest(null, new BigDecimal("12.00"), null));
+
+    MenuItemChangedEvent event = capturePublished();
+    assertThat(event.eventType()).isEqualTo(MenuItemChangedEvent.UPDATED);
+    assertThat(event.price()).isEqualByComparingTo("12.00");
+  }
+
+  @Test
+  void delete_publishesDeletedEvent() {
+    when(repo.existsById("id1")).thenReturn(true);
+
+    service.delete("id1");
+
+    MenuItemChangedEvent event = capturePublished();
+    assertThat(event.eventType()).isEqualTo(MenuItemChangedEvent.DELETED);
+    assertThat(event.id()).isEqualTo("id1");
+  }
+
+  private MenuItemChangedEvent capturePublished() {
+    ArgumentCaptor<MenuItemChangedEvent> captor =
+        ArgumentCaptor.forClass(MenuItemChangedEvent.class);
+    verify(publisher).publish(captor.capture());
+    return captor.getValue();
+  }
+}
@@ -4,9 +4,11 @@ import com.rodrigobarbosa.order.config.MenuProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableConfigurationProperties(MenuProperties.class)
 @SpringBootApplication
+@EnableScheduling
 public class OrderApplication {
 
   public static void main(String[] args) {
@@ -1,5 +1,7 @@
 package com.rodrigobarbosa.order.api;
 
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse;
 import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
 import com.rodrigobarbosa.order.api.dto.OrderHistoryResponse;
 import com.rodrigobarbosa.order.api.dto.OrderResponse;
@@ -15,9 +17,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import org.springframework.context.annotation.Profile;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/orders")
 @Tag(name = "Orders", description = "Order operations.")
 public class OrderController {
@@ -129,11 +133,16 @@ public class OrderController {
   }
 
   @GetMapping
-  @Operation(summary = "List orders (paginated)")
+  @Operation(
+      summary = "List orders (paginated)",
+      description =
+          "Newest first. Pass the returned nextCursor as cursor to page without offset scans;"
+              + " offset is ignored when a cursor is given. totalExact tells whether totalRecords is"
+              + " exact or approximate; includeTotal=false skips counting altogether.")
   @ApiResponse(responseCode = "200", description = "Orders returned")
   @ApiResponse(
       responseCode = "400",
-      description = "Invalid pagination parameters",
+      description = "Invalid pagination parameters / invalid cursor",
       content = @Content(schema = @Schema(implementation = ApiError.class)))
   @ApiResponse(
       responseCode = "500",
@@ -141,8 +150,13 @@ public class OrderController {
       content = @Content(schema = @Schema(implementation = ApiError.class)))
   public OrderHistoryResponse<OrderResponse> list(
       @RequestParam(defaultValue = "0") @Min(0) long offset,
-      @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
-    return this.service.list(offset, limit);
+      @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "true") boolean includeTotal) {
+    if (cursor != null) {
+      return this.service.listAfter(cursor, limit, includeTotal);
+    }
+    return this.service.list(offset, limit, includeTotal);
   }
 
   @PatchMapping("/{id}/status")
@@ -200,4 +214,25 @@ public class OrderController {
       @PathVariable String id, @Valid @RequestBody UpdateOrderStatusRequest request) {
     return this.service.updateStatus(id, request);
   }
+
+  @PatchMapping("/status")
+  @Operation(
+      summary = "Update the status of many orders",
+      description =
+          "Applies up to 500 {id, status} pairs in one bulk write. Every pair gets its own result"
+              + " (UPDATED, NOT_FOUND or CONFLICT) in request order; one failing pair does not stop"
+              + " the others.")
+  @ApiResponse(responseCode = "200", description = "Per-item results")
+  @ApiResponse(
+      responseCode = "400",
+      description = "Validation failed / duplicate order id",
+      content = @Content(schema = @Schema(implementation = ApiError.class)))
+  @ApiResponse(
+      responseCode = "500",
+      description = "Unexpected error",
+      content = @Content(schema = @Schema(implementation = ApiError.class)))
+  public BulkUpdateOrderStatusResponse updateStatuses(
+      @Valid @RequestBody BulkUpdateOrderStatusRequest request) {
+    return this.service.updateStatuses(request);
+  }
 }
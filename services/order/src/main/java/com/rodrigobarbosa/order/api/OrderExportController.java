@@ -0,0 +1,64 @@
+package com.rodrigobarbosa.order.api;
+
+import com.rodrigobarbosa.order.api.error.ApiError;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.repo.OrderFilter;
+import com.rodrigobarbosa.order.service.OrderExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/orders")
+@Tag(name = "Orders", description = "Order operations.")
+public class OrderExportController {
+
+  private static final String TEXT_CSV = "text/csv";
+
+  private final OrderExportService exportService;
+
+  public OrderExportController(OrderExportService exportService) {
+    this.exportService = exportService;
+  }
+
+  @GetMapping("/export")
+  @Operation(
+      summary = "Export orders (streamed)",
+      description =
+          "Streams every matching order, oldest first, as NDJSON (one OrderResponse per line) or"
+              + " CSV (one summary row per order). from is inclusive and to exclusive, both on"
+              + " createdAt (ISO-8601 instants).")
+  @ApiResponse(responseCode = "200", description = "Order stream")
+  @ApiResponse(
+      responseCode = "400",
+      description = "Invalid filter",
+      content = @Content(schema = @Schema(implementation = ApiError.class)))
+  public void export(
+      @RequestParam(defaultValue = "ndjson") String format,
+      @RequestParam(required = false) OrderStatus status,
+      @RequestParam(required = false) Instant from,
+      @RequestParam(required = false) Instant to,
+      HttpServletResponse response)
+      throws IOException {
+    OrderExportService.Format exportFormat = OrderExportService.Format.of(format);
+    OrderFilter filter = new OrderFilter(status, from, to);
+    exportService.validate(filter);
+    if (exportFormat == OrderExportService.Format.CSV) {
+      response.setContentType(TEXT_CSV + ";charset=UTF-8");
+      response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.csv\"");
+    } else {
+      response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+    exportService.export(filter, exportFormat, response.getOutputStream());
+  }
+}
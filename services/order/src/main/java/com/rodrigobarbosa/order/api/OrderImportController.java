@@ -0,0 +1,41 @@
+package com.rodrigobarbosa.order.api;
+
+import com.rodrigobarbosa.order.service.OrderImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/orders")
+@Tag(name = "Orders", description = "Order operations.")
+public class OrderImportController {
+
+  private final OrderImportService importService;
+
+  public OrderImportController(OrderImportService importService) {
+    this.importService = importService;
+  }
+
+  @PostMapping(
+      path = "/import",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      summary = "Import orders (NDJSON stream)",
+      description =
+          "One CreateOrderRequest per line. The response streams one result per non-blank line, in"
+              + " input order: {line, outcome: CREATED|REJECTED|FAILED, id | error}. Records are"
+              + " processed in chunks, so the input can be arbitrarily large.")
+  @ApiResponse(responseCode = "200", description = "Result stream")
+  public void importOrders(InputStream body, HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    importService.importOrders(body, response.getOutputStream());
+  }
+}
@@ -0,0 +1,55 @@
+package com.rodrigobarbosa.order.api;
+
+import com.rodrigobarbosa.order.api.dto.ReplayResponse;
+import com.rodrigobarbosa.order.api.error.ApiError;
+import com.rodrigobarbosa.order.messaging.ParkingLot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.List;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/order-events/parked")
+@Tag(name = "Order events", description = "Notifications that exhausted their retries.")
+public class ParkedEventController {
+
+  private final ParkingLot parkingLot;
+
+  public ParkedEventController(ParkingLot parkingLot) {
+    this.parkingLot = parkingLot;
+  }
+
+  @GetMapping
+  @Operation(
+      summary = "List parked events",
+      description = "Peeks at the head of the parking lot; the messages stay parked.")
+  @ApiResponse(responseCode = "200", description = "Parked events returned")
+  @ApiResponse(
+      responseCode = "400",
+      description = "Invalid limit",
+      content = @Content(schema = @Schema(implementation = ApiError.class)))
+  public List<ParkingLot.ParkedEvent> list(
+      @RequestParam(defaultValue = "20") @Min(1) @Max(500) int limit) {
+    return this.parkingLot.list(limit);
+  }
+
+  @PostMapping("/replay")
+  @Operation(
+      summary = "Replay parked events",
+      description =
+          "Sends up to limit parked events back to the queue they came from with their retry count"
+              + " reset.")
+  @ApiResponse(responseCode = "200", description = "Events replayed")
+  @ApiResponse(
+      responseCode = "400",
+      description = "Invalid limit",
+      content = @Content(schema = @Schema(implementation = ApiError.class)))
+  public ReplayResponse replay(@RequestParam(defaultValue = "100") @Min(1) @Max(500) int limit) {
+    return new ReplayResponse(this.parkingLot.replay(limit));
+  }
+}
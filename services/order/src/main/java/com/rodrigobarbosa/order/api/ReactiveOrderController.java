@@ -0,0 +1,65 @@
+package com.rodrigobarbosa.order.api;
+
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse;
+import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
+import com.rodrigobarbosa.order.api.dto.OrderHistoryResponse;
+import com.rodrigobarbosa.order.api.dto.OrderResponse;
+import com.rodrigobarbosa.order.api.dto.UpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.service.ReactiveOrderService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link OrderController}'s contract on WebFlux (profile {@code reactive}): same paths, parameters,
+ * bodies and error payloads. The OpenAPI description lives on {@link OrderController}.
+ */
+@RestController
+@RequestMapping("/orders")
+@Profile("reactive")
+public class ReactiveOrderController {
+
+  private final ReactiveOrderService service;
+
+  public ReactiveOrderController(ReactiveOrderService service) {
+    this.service = service;
+  }
+
+  @PostMapping
+  public Mono<OrderResponse> create(@Valid @RequestBody CreateOrderRequest request) {
+    return this.service.create(request);
+  }
+
+  @GetMapping("/{id}")
+  public Mono<OrderResponse> getById(@PathVariable String id) {
+    return this.service.getById(id);
+  }
+
+  @GetMapping
+  public Mono<OrderHistoryResponse<OrderResponse>> list(
+      @RequestParam(defaultValue = "0") @Min(0) long offset,
+      @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "true") boolean includeTotal) {
+    if (cursor != null) {
+      return this.service.listAfter(cursor, limit, includeTotal);
+    }
+    return this.service.list(offset, limit, includeTotal);
+  }
+
+  @PatchMapping("/{id}/status")
+  public Mono<OrderResponse> updateStatus(
+      @PathVariable String id, @Valid @RequestBody UpdateOrderStatusRequest request) {
+    return this.service.updateStatus(id, request);
+  }
+
+  @PatchMapping("/status")
+  public Mono<BulkUpdateOrderStatusResponse> updateStatuses(
+      @Valid @RequestBody BulkUpdateOrderStatusRequest request) {
+    return this.service.updateStatuses(request);
+  }
+}
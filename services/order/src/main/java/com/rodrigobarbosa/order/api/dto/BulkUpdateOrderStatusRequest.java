@@ -0,0 +1,11 @@
+package com.rodrigobarbosa.order.api.dto;
+
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+public record BulkUpdateOrderStatusRequest(
+    @NotEmpty @Size(max = 500) @Valid List<StatusUpdate> updates) {
+  public record StatusUpdate(@NotBlank String id, @NotNull OrderStatus status) {}
+}
@@ -0,0 +1,23 @@
+package com.rodrigobarbosa.order.api.dto;
+
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import java.util.List;
+
+/**
+ * @param results one per requested update, in request order
+ */
+public record BulkUpdateOrderStatusResponse(List<ItemResult> results) {
+
+  public enum Outcome {
+    UPDATED,
+    NOT_FOUND,
+    CONFLICT
+  }
+
+  /**
+   * @param status the order's status after the request: the new one when {@code UPDATED}, the
+   *     current one when {@code CONFLICT}, null when {@code NOT_FOUND}
+   * @param message why the update was not applied; null when {@code UPDATED}
+   */
+  public record ItemResult(String id, Outcome outcome, OrderStatus status, String message) {}
+}
@@ -0,0 +1,34 @@
+package com.rodrigobarbosa.order.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of the {@code POST /orders/import} response.
+ *
+ * @param line 1-based line number of the record in the request body
+ * @param id the new order's id when {@code CREATED}
+ * @param error why the record was not imported otherwise
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportResult(long line, Outcome outcome, String id, String error) {
+
+  public enum Outcome {
+    CREATED,
+    /** The record itself is invalid (malformed JSON, validation, unknown product). */
+    REJECTED,
+    /** The record may be fine but could not be processed (menu or database unavailable). */
+    FAILED
+  }
+
+  public static ImportResult created(long line, String id) {
+    return new ImportResult(line, Outcome.CREATED, id, null);
+  }
+
+  public static ImportResult rejected(long line, String error) {
+    return new ImportResult(line, Outcome.REJECTED, null, error);
+  }
+
+  public static ImportResult failed(long line, String error) {
+    return new ImportResult(line, Outcome.FAILED, null, error);
+  }
+}
@@ -2,4 +2,11 @@ package com.rodrigobarbosa.order.api.dto;
 
 import java.util.List;
 
-public record OrderHistoryResponse<T>(long totalRecords, List<T> orderItems) {}
+/**
+ * @param totalRecords null when the client asked for {@code includeTotal=false}
+ * @param totalExact false when {@code totalRecords} is cached or estimated; null when the total is
+ *     omitted
+ * @param nextCursor pass as {@code cursor} to fetch the following page; null on the last page
+ */
+public record OrderHistoryResponse<T>(
+    Long totalRecords, Boolean totalExact, List<T> orderItems, String nextCursor) {}
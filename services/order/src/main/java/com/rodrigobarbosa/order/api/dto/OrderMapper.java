@@ -1,5 +1,6 @@
 package com.rodrigobarbosa.order.api.dto;
 
+import com.rodrigobarbosa.order.domain.Money;
 import com.rodrigobarbosa.order.domain.Order;
 
 public final class OrderMapper {
@@ -17,9 +18,12 @@ public final class OrderMapper {
             .map(
                 it ->
                     new OrderResponse.OrderItemResponse(
-                        it.getProductId(), it.getName(), it.getPrice(), it.getQuantity()))
+                        it.getProductId(),
+                        it.getName(),
+                        Money.toDecimal(it.getPriceCents()),
+                        it.getQuantity()))
             .toList(),
-        order.getTotalAmount(),
+        Money.toDecimal(order.getTotalAmountCents()),
         order.getOrderStatus().name(),
         order.getCreatedAt(),
         order.getUpdatedAt());
@@ -0,0 +1,6 @@
+package com.rodrigobarbosa.order.api.dto;
+
+/**
+ * @param replayed parked messages sent back to their original queue
+ */
+public record ReplayResponse(int replayed) {}
@@ -0,0 +1,96 @@
+package com.rodrigobarbosa.order.api.error;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+/** {@link GlobalExceptionHandler} for WebFlux: the same statuses and {@link ApiError} bodies. */
+@ControllerAdvice
+@Profile("reactive")
+public class ReactiveExceptionHandler {
+
+  // 400 - Bean Validation on @RequestBody DTOs
+  @ExceptionHandler(WebExchangeBindException.class)
+  public ResponseEntity<ApiError> handleValidation(
+      WebExchangeBindException ex, ServerHttpRequest request) {
+    List<ApiError.ApiErrorDetail> details =
+        ex.getBindingResult().getFieldErrors().stream().map(this::toDetail).toList();
+
+    return build(HttpStatus.BAD_REQUEST, "Validation failed", request, details);
+  }
+
+  // 400 - malformed JSON body, or query/path parameters that cannot be converted
+  @ExceptionHandler(ServerWebInputException.class)
+  public ResponseEntity<ApiError> handleInput(
+      ServerWebInputException ex, ServerHttpRequest request) {
+    String msg = "Malformed request body";
+    if (ex.getCause() instanceof TypeMismatchException && ex.getMethodParameter() != null) {
+      msg = "Invalid value for parameter: " + ex.getMethodParameter().getParameterName();
+    }
+    return build(HttpStatus.BAD_REQUEST, msg, request, null);
+  }
+
+  // 404 - custom not found
+  @ExceptionHandler(NotFoundException.class)
+  public ResponseEntity<ApiError> handleNotFound(NotFoundException ex, ServerHttpRequest request) {
+    return build(HttpStatus.NOT_FOUND, ex.getMessage(), request, null);
+  }
+
+  // 409 - conflicts / illegal state
+  @ExceptionHandler({ConflictException.class, IllegalStateException.class})
+  public ResponseEntity<ApiError> handleConflict(RuntimeException ex, ServerHttpRequest request) {
+    return build(HttpStatus.CONFLICT, ex.getMessage(), request, null);
+  }
+
+  // Spring exceptions that already carry an HTTP status (incl. @RequestParam constraint failures)
+  @ExceptionHandler(ErrorResponseException.class)
+  public ResponseEntity<ApiError> handleErrorResponse(
+      ErrorResponseException ex, ServerHttpRequest request) {
+    HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+    return build(status, extractMessage(ex), request, null);
+  }
+
+  // 500 - unexpected
+  @ExceptionHandler(Exception.class)
+  public ResponseEntity<ApiError> handleUnexpected(Exception ex, ServerHttpRequest request) {
+    return build(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error", request, null);
+  }
+
+  private ResponseEntity<ApiError> build(
+      HttpStatus status,
+      String message,
+      ServerHttpRequest request,
+      List<ApiError.ApiErrorDetail> details) {
+    ApiError body =
+        new ApiError(
+            OffsetDateTime.now(),
+            status.value(),
+            status.getReasonPhrase(),
+            message,
+            request.getPath().value(),
+            details);
+
+    return ResponseEntity.status(status).body(body);
+  }
+
+  private ApiError.ApiErrorDetail toDetail(FieldError fe) {
+    return new ApiError.ApiErrorDetail(fe.getField(), fe.getDefaultMessage());
+  }
+
+  private String extractMessage(ErrorResponseException ex) {
+    ProblemDetail pd = ex.getBody();
+    if (pd != null && pd.getDetail() != null && !pd.getDetail().isBlank()) return pd.getDetail();
+    return ex.getMessage();
+  }
+}
@@ -0,0 +1,30 @@
+package com.rodrigobarbosa.order.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+
+/**
+ * Shows the menu circuit breaker in {@code /actuator/health}. An open breaker is reported as a
+ * detail, not as DOWN: the order service itself is still healthy and restarting it would not help.
+ */
+public class MenuCircuitBreakerHealthIndicator implements HealthIndicator {
+
+  private final CircuitBreaker circuitBreaker;
+
+  public MenuCircuitBreakerHealthIndicator(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public Health health() {
+    CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+    return Health.up()
+        .withDetail("state", circuitBreaker.getState())
+        .withDetail("failureRate", metrics.getFailureRate() + "%")
+        .withDetail("slowCallRate", metrics.getSlowCallRate() + "%")
+        .withDetail("bufferedCalls", metrics.getNumberOfBufferedCalls())
+        .withDetail("notPermittedCalls", metrics.getNumberOfNotPermittedCalls())
+        .build();
+  }
+}
@@ -0,0 +1,145 @@
+package com.rodrigobarbosa.order.config;
+
+import com.rodrigobarbosa.order.external.menu.CachingMenuClient;
+import com.rodrigobarbosa.order.external.menu.MenuClient;
+import com.rodrigobarbosa.order.external.menu.MenuSnapshot;
+import com.rodrigobarbosa.order.external.menu.ParallelMenuClient;
+import com.rodrigobarbosa.order.external.menu.ReplicatedMenuClient;
+import com.rodrigobarbosa.order.external.menu.ResilientMenuClient;
+import com.rodrigobarbosa.order.external.menu.RestClientMenuClient;
+import com.rodrigobarbosa.order.external.menu.TimedMenuClient;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/** Assembles the {@link MenuClient} used by the services from the HTTP client and decorators. */
+@Configuration(proxyBeanMethods = false)
+public class MenuClientConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(MenuClientConfig.class);
+
+  @Bean
+  @Primary
+  public MenuClient menuClient(
+      RestClientMenuClient restClientMenuClient,
+      MenuProperties properties,
+      CircuitBreaker menuCircuitBreaker,
+      Bulkhead menuBulkhead,
+      ObjectProvider<MenuSnapshot> menuSnapshot,
+      @Qualifier("menuLookupExecutor") ObjectProvider<ExecutorService> menuLookupExecutor,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    MenuClient client =
+        new ResilientMenuClient(restClientMenuClient, menuCircuitBreaker, menuBulkhead);
+
+    MenuProperties.Lookup lookup = properties.lookup();
+    if (lookup.mode() == MenuProperties.LookupMode.PARALLEL) {
+      client =
+          new ParallelMenuClient(client, menuLookupExecutor.getObject(), lookup.maxConcurrency());
+    }
+
+    MenuProperties.Cache cache = properties.cache();
+    if (cache.enabled()) {
+      CachingMenuClient caching =
+          new CachingMenuClient(
+              client, cache.maxSize(), cache.ttl(), cache.negativeTtl(), cache.maxStale());
+      meterRegistry.ifAvailable(caching::bindTo);
+      client = caching;
+    }
+
+    MenuSnapshot snapshot = menuSnapshot.getIfAvailable();
+    if (snapshot != null) {
+      client = new ReplicatedMenuClient(snapshot, client);
+    }
+
+    // Outermost, so the latency is what order creation actually waits for.
+    MeterRegistry meters = meterRegistry.getIfAvailable();
+    return meters == null ? client : new TimedMenuClient(client, meters);
+  }
+
+  /**
+   * Virtual threads for {@code PARALLEL} lookups; closed with the context, which waits for lookups
+   * still running.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(name = "menu.lookup.mode", havingValue = "parallel")
+  public ExecutorService menuLookupExecutor() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("menu-lookup-", 0).factory());
+  }
+
+  @Bean
+  public CircuitBreaker menuCircuitBreaker(
+      MenuProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    MenuProperties.CircuitBreaker settings = properties.circuitBreaker();
+    CircuitBreakerConfig config =
+        CircuitBreakerConfig.custom()
+            .failureRateThreshold(settings.failureRateThreshold())
+            .slowCallRateThreshold(settings.slowCallRateThreshold())
+            .slowCallDurationThreshold(settings.slowCallDuration())
+            .slidingWindowSize(settings.slidingWindowSize())
+            .minimumNumberOfCalls(settings.minimumNumberOfCalls())
+            .waitDurationInOpenState(settings.waitInOpenState())
+            .permittedNumberOfCallsInHalfOpenState(settings.permittedCallsInHalfOpenState())
+            .automaticTransitionFromOpenToHalfOpenEnabled(true)
+            .recordExceptions(MenuClient.MenuUnavailableException.class)
+            .build();
+    CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+    CircuitBreaker circuitBreaker = registry.circuitBreaker("menu");
+
+    meterRegistry.ifAvailable(
+        meters -> {
+          TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meters);
+          circuitBreaker
+              .getEventPublisher()
+              .onStateTransition(
+                  event ->
+                      Counter.builder("menu.client.circuit.transitions")
+                          .tag("from", event.getStateTransition().getFromState().name())
+                          .tag("to", event.getStateTransition().getToState().name())
+                          .register(meters)
+                          .increment());
+        });
+    circuitBreaker
+        .getEventPublisher()
+        .onStateTransition(
+            event -> log.warn("Menu circuit breaker {}", event.getStateTransition()));
+    return circuitBreaker;
+  }
+
+  @Bean
+  public Bulkhead menuBulkhead(
+      MenuProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    MenuProperties.Bulkhead settings = properties.bulkhead();
+    BulkheadRegistry registry =
+        BulkheadRegistry.of(
+            BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.maxConcurrentCalls())
+                .maxWaitDuration(settings.maxWait())
+                .build());
+    meterRegistry.ifAvailable(
+        meters -> TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meters));
+    return registry.bulkhead("menu");
+  }
+
+  @Bean
+  public MenuCircuitBreakerHealthIndicator menuCircuitBreakerHealthIndicator(
+      CircuitBreaker menuCircuitBreaker) {
+    return new MenuCircuitBreakerHealthIndicator(menuCircuitBreaker);
+  }
+}
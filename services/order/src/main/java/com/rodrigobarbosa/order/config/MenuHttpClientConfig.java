@@ -0,0 +1,73 @@
+package com.rodrigobarbosa.order.config;
+
+import com.rodrigobarbosa.order.external.menu.TimedConnectionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.http.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * HTTP transport used by {@code RestClientMenuClient}: a pooled keep-alive Apache HttpClient by
+ * default, or the JDK {@link HttpClient} when HTTP/2 is enabled (one multiplexed connection, so no
+ * pool settings or pool metrics apply).
+ */
+@Configuration(proxyBeanMethods = false)
+public class MenuHttpClientConfig {
+
+  @Bean
+  public ClientHttpRequestFactory menuRequestFactory(
+      MenuProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    MenuProperties.Http http = properties.http();
+    if (http.http2()) {
+      HttpClient client =
+          HttpClient.newBuilder()
+              .version(HttpClient.Version.HTTP_2)
+              .connectTimeout(http.connectTimeout())
+              .build();
+      JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(client);
+      requestFactory.setReadTimeout(http.readTimeout());
+      return requestFactory;
+    }
+
+    PoolingHttpClientConnectionManager pool =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(http.maxConnections())
+            .setMaxConnPerRoute(http.maxConnections()) // a single route: the menu service
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.of(http.connectTimeout()))
+                    .setSocketTimeout(Timeout.of(http.readTimeout()))
+                    .build())
+            .build();
+    MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    new PoolingHttpClientConnectionManagerMetricsBinder(pool, "menu").bindTo(registry);
+
+    var client =
+        HttpClients.custom()
+            .setConnectionManager(new TimedConnectionManager(pool, registry))
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.of(http.poolAcquireTimeout()))
+                    .setResponseTimeout(Timeout.of(http.readTimeout()))
+                    .build())
+            // Stay below the server's keep-alive timeout so we never reuse a connection it closed.
+            .setKeepAliveStrategy((response, context) -> TimeValue.of(http.keepAlive()))
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(http.idleTimeout()))
+            .build();
+    return new HttpComponentsClientHttpRequestFactory(client);
+  }
+}
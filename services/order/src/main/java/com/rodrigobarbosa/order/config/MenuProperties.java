@@ -1,6 +1,114 @@
 package com.rodrigobarbosa.order.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "menu")
-public record MenuProperties(String baseUrl, long timeoutMs) {}
+public record MenuProperties(
+    String baseUrl,
+    @DefaultValue Http http,
+    @DefaultValue CircuitBreaker circuitBreaker,
+    @DefaultValue Bulkhead bulkhead,
+    @DefaultValue Lookup lookup,
+    @DefaultValue Cache cache,
+    @DefaultValue Replica replica) {
+
+  /**
+   * Connection settings for the menu service.
+   *
+   * @param connectTimeout TCP connect timeout
+   * @param readTimeout time to wait for response data
+   * @param poolAcquireTimeout time to wait for a free pooled connection
+   * @param maxConnections pool size
+   * @param keepAlive how long an idle connection may be reused; keep below the server's keep-alive
+   *     timeout
+   * @param idleTimeout idle connections older than this are evicted from the pool
+   * @param http2 use the JDK client with HTTP/2 instead of the HTTP/1.1 pool
+   */
+  public record Http(
+      @DefaultValue("1s") Duration connectTimeout,
+      @DefaultValue("2s") Duration readTimeout,
+      @DefaultValue("500ms") Duration poolAcquireTimeout,
+      @DefaultValue("50") int maxConnections,
+      @DefaultValue("20s") Duration keepAlive,
+      @DefaultValue("30s") Duration idleTimeout,
+      @DefaultValue("false") boolean http2) {}
+
+  /**
+   * Circuit breaker around menu calls. Only {@code MenuUnavailableException}s count as failures;
+   * "not found" answers are successful calls.
+   *
+   * @param failureRateThreshold failure percentage that opens the breaker
+   * @param slowCallRateThreshold percentage of calls slower than {@code slowCallDuration} that
+   *     opens the breaker
+   * @param slidingWindowSize number of recent calls the rates are computed over
+   * @param minimumNumberOfCalls calls needed before the rates are evaluated
+   * @param waitInOpenState how long the breaker stays open before probing (half-open)
+   * @param permittedCallsInHalfOpenState probe calls allowed while half-open
+   */
+  public record CircuitBreaker(
+      @DefaultValue("50") float failureRateThreshold,
+      @DefaultValue("50") float slowCallRateThreshold,
+      @DefaultValue("1s") Duration slowCallDuration,
+      @DefaultValue("20") int slidingWindowSize,
+      @DefaultValue("10") int minimumNumberOfCalls,
+      @DefaultValue("10s") Duration waitInOpenState,
+      @DefaultValue("3") int permittedCallsInHalfOpenState) {}
+
+  /**
+   * Caps concurrent in-flight menu calls so a slow menu cannot hold every request thread.
+   *
+   * @param maxWait how long a call may wait for a free slot before failing
+   */
+  public record Bulkhead(
+      @DefaultValue("20") int maxConcurrentCalls, @DefaultValue("0ms") Duration maxWait) {}
+
+  /**
+   * How several products are resolved at once.
+   *
+   * @param mode {@code BATCH} uses {@code POST /menu-items/lookup}; {@code PARALLEL} issues one
+   *     {@code GET /menu-items/{id}} per product concurrently on virtual threads
+   * @param maxConcurrency cap on concurrent calls per lookup in {@code PARALLEL} mode
+   */
+  public record Lookup(
+      @DefaultValue("BATCH") LookupMode mode, @DefaultValue("8") int maxConcurrency) {}
+
+  public enum LookupMode {
+    BATCH,
+    PARALLEL
+  }
+
+  /**
+   * In-process cache in front of the menu service.
+   *
+   * @param maxSize upper bound on cached product ids (positive and negative entries)
+   * @param ttl how long a found item is served without asking the menu service again
+   * @param negativeTtl how long a "product not found" answer is remembered
+   * @param maxStale how long past {@code ttl} an item may still be served while the menu service is
+   *     unavailable
+   */
+  public record Cache(
+      @DefaultValue("true") boolean enabled,
+      @DefaultValue("10000") long maxSize,
+      @DefaultValue("30s") Duration ttl,
+      @DefaultValue("5s") Duration negativeTtl,
+      @DefaultValue("10m") Duration maxStale) {}
+
+  /**
+   * Local copy of the whole menu, bootstrapped from {@code GET /menu-items} and kept up to date
+   * from the menu service change events.
+   *
+   * @param exchange exchange the menu service publishes {@code MenuItemChangedEvent}s to
+   * @param pageSize page size used when (re)loading the menu
+   * @param resyncInterval how often the full menu is reloaded to repair missed events
+   * @param retryInterval how often a failed or due (re)load is attempted
+   */
+  public record Replica(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("menu.events") String exchange,
+      @DefaultValue("menu.item.changed") String routingKey,
+      @DefaultValue("100") int pageSize,
+      @DefaultValue("5m") Duration resyncInterval,
+      @DefaultValue("10s") Duration retryInterval) {}
+}
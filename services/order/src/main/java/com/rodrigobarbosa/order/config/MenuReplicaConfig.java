@@ -0,0 +1,57 @@
+package com.rodrigobarbosa.order.config;
+
+import com.rodrigobarbosa.order.external.menu.MenuSnapshot;
+import com.rodrigobarbosa.order.external.menu.MenuSnapshotSync;
+import com.rodrigobarbosa.order.external.menu.RestClientMenuClient;
+import java.time.Clock;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Local menu replica. Every order instance binds its own exclusive, auto-delete queue so each one
+ * receives every menu change.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "menu.replica", name = "enabled", havingValue = "true")
+public class MenuReplicaConfig {
+
+  @Bean
+  public MenuSnapshot menuSnapshot() {
+    return new MenuSnapshot(Clock.systemUTC());
+  }
+
+  @Bean
+  public MenuSnapshotSync menuSnapshotSync(
+      MenuSnapshot menuSnapshot,
+      RestClientMenuClient restClientMenuClient,
+      MenuProperties properties) {
+    MenuProperties.Replica replica = properties.replica();
+    return new MenuSnapshotSync(
+        menuSnapshot, restClientMenuClient, replica.pageSize(), replica.resyncInterval());
+  }
+
+  @Bean
+  public DirectExchange menuEventsExchange(MenuProperties properties) {
+    return new DirectExchange(properties.replica().exchange(), true, false);
+  }
+
+  @Bean
+  public AnonymousQueue menuReplicaQueue() {
+    return new AnonymousQueue();
+  }
+
+  @Bean
+  public Binding menuReplicaBinding(
+      AnonymousQueue menuReplicaQueue,
+      DirectExchange menuEventsExchange,
+      MenuProperties properties) {
+    return BindingBuilder.bind(menuReplicaQueue)
+        .to(menuEventsExchange)
+        .with(properties.replica().routingKey());
+  }
+}
@@ -0,0 +1,34 @@
+package com.rodrigobarbosa.order.config;
+
+import com.rodrigobarbosa.order.repo.LowCardinalityMongoCommandTags;
+import com.rodrigobarbosa.order.service.OrderService;
+import com.rodrigobarbosa.order.service.OrderServiceImpl;
+import com.rodrigobarbosa.order.service.TimedOrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.mongodb.MongoCommandTagsProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Meters that are not bound by the instrumented classes themselves. Percentile histograms and their
+ * bucket ranges are set per meter under {@code management.metrics.distribution}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+  @Bean
+  @Primary
+  public OrderService orderService(
+      OrderServiceImpl orderServiceImpl, ObjectProvider<MeterRegistry> meterRegistry) {
+    MeterRegistry meters = meterRegistry.getIfAvailable();
+    return meters == null ? orderServiceImpl : new TimedOrderService(orderServiceImpl, meters);
+  }
+
+  /** Picked up by Boot's {@code MongoMetricsCommandListener} instead of the default tags. */
+  @Bean
+  public MongoCommandTagsProvider mongoCommandTagsProvider() {
+    return new LowCardinalityMongoCommandTags();
+  }
+}
@@ -0,0 +1,31 @@
+package com.rodrigobarbosa.order.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amounts are kept as a {@code long} number of cents (a fixed scale of 2), so totals are plain
+ * integer arithmetic with no allocation, and Mongo stores an {@code Int64} instead of a {@code
+ * Decimal128} or a string. {@link BigDecimal} is only used at the edges: menu prices coming in and
+ * JSON going out.
+ */
+public final class Money {
+
+  public static final int SCALE = 2;
+
+  private Money() {}
+
+  /** Rounds half-even to whole cents; throws {@link ArithmeticException} past {@code long}. */
+  public static long toCents(BigDecimal amount) {
+    return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+  }
+
+  public static BigDecimal toDecimal(long cents) {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  /** {@code cents × quantity}; throws {@link ArithmeticException} on overflow. */
+  public static long times(long cents, int quantity) {
+    return Math.multiplyExact(cents, quantity);
+  }
+}
@@ -5,16 +5,27 @@ import java.time.Instant;
 import java.util.List;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 @Document(collection = "orders")
 public class Order {
   @Id private String id;
   private Customer customer;
   private List<OrderItem> orderItems;
-  private BigDecimal totalAmount;
+  // Null only on documents not yet migrated; see OrderMoneyMigration.
+  private Long totalAmountCents;
   private OrderStatus orderStatus;
   private Instant createdAt;
   private Instant updatedAt;
+  // Events not yet confirmed by the broker; see OrderOutboxRelay.
+  private List<OutboxEvent> outbox;
+  // Event pushed by the last status change; tells which changes of a bulk update were applied.
+  private String statusEventId;
+
+  // Decimal total of documents written before amounts were kept in cents, read only while they have
+  // no totalAmountCents.
+  @Field("totalAmount")
+  private BigDecimal legacyTotalAmount;
 
   public Order() {}
 
@@ -22,14 +33,14 @@ public class Order {
       String id,
       Customer customer,
       List<OrderItem> orderItems,
-      BigDecimal totalAmount,
+      long totalAmountCents,
       OrderStatus orderStatus,
       Instant createdAt,
       Instant updatedAt) {
     this.id = id;
     this.customer = customer;
     this.orderItems = orderItems;
-    this.totalAmount = totalAmount;
+    this.totalAmountCents = totalAmountCents;
     this.orderStatus = orderStatus;
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
@@ -47,8 +58,9 @@ public class Order {
     return orderItems;
   }
 
-  public BigDecimal getTotalAmount() {
-    return totalAmount;
+  public long getTotalAmountCents() {
+    if (totalAmountCents != null) return totalAmountCents;
+    return legacyTotalAmount != null ? Money.toCents(legacyTotalAmount) : 0;
   }
 
   public OrderStatus getOrderStatus() {
@@ -63,6 +75,10 @@ public class Order {
     return updatedAt;
   }
 
+  public List<OutboxEvent> getOutbox() {
+    return outbox == null ? List.of() : outbox;
+  }
+
   public void setId(String id) {
     this.id = id;
   }
@@ -75,8 +91,9 @@ public class Order {
     this.orderItems = orderItems;
   }
 
-  public void setTotalAmount(BigDecimal totalAmount) {
-    this.totalAmount = totalAmount;
+  public void setTotalAmountCents(long totalAmountCents) {
+    this.totalAmountCents = totalAmountCents;
+    this.legacyTotalAmount = null;
   }
 
   public void setOrderStatus(OrderStatus orderStatus) {
@@ -90,4 +107,16 @@ public class Order {
   public void setUpdatedAt(Instant updatedAt) {
     this.updatedAt = updatedAt;
   }
+
+  public void setOutbox(List<OutboxEvent> outbox) {
+    this.outbox = outbox;
+  }
+
+  public String getStatusEventId() {
+    return statusEventId;
+  }
+
+  public void setStatusEventId(String statusEventId) {
+    this.statusEventId = statusEventId;
+  }
 }
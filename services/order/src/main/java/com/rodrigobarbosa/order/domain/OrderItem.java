@@ -1,20 +1,27 @@
 package com.rodrigobarbosa.order.domain;
 
 import java.math.BigDecimal;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 public class OrderItem {
 
   private String productId;
   private String name;
-  private BigDecimal price;
+  // Null only on documents not yet migrated; see OrderMoneyMigration.
+  private Long priceCents;
   private int quantity;
 
+  // Decimal price of documents written before amounts were kept in cents, read only while they have
+  // no priceCents.
+  @Field("price")
+  private BigDecimal legacyPrice;
+
   public OrderItem() {}
 
-  public OrderItem(String productId, String name, BigDecimal price, int quantity) {
+  public OrderItem(String productId, String name, long priceCents, int quantity) {
     this.productId = productId;
     this.name = name;
-    this.price = price;
+    this.priceCents = priceCents;
     this.quantity = quantity;
   }
 
@@ -26,8 +33,9 @@ public class OrderItem {
     return name;
   }
 
-  public BigDecimal getPrice() {
-    return price;
+  public long getPriceCents() {
+    if (priceCents != null) return priceCents;
+    return legacyPrice != null ? Money.toCents(legacyPrice) : 0;
   }
 
   public int getQuantity() {
@@ -42,8 +50,9 @@ public class OrderItem {
     this.name = name;
   }
 
-  public void setPrice(BigDecimal price) {
-    this.price = price;
+  public void setPriceCents(long priceCents) {
+    this.priceCents = priceCents;
+    this.legacyPrice = null;
   }
 
   public void setQuantity(int quantity) {
@@ -1,5 +1,8 @@
 package com.rodrigobarbosa.order.domain;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public final class OrderStatusTransition {
 
   private OrderStatusTransition() {}
@@ -17,4 +20,13 @@ public final class OrderStatusTransition {
       case DELIVERED, CANCELLED -> false;
     };
   }
+
+  /** Statuses an order may be in for a move to {@code to} to be accepted (including {@code to}). */
+  public static Set<OrderStatus> allowedSources(OrderStatus to) {
+    Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+    for (OrderStatus from : OrderStatus.values()) {
+      if (isAllowed(from, to)) sources.add(from);
+    }
+    return sources;
+  }
 }
@@ -0,0 +1,44 @@
+package com.rodrigobarbosa.order.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Event waiting in an order's outbox. It is written atomically with the change it describes and
+ * removed once the relay has had it confirmed by the broker.
+ */
+public class OutboxEvent {
+  private String eventId;
+  private String eventType;
+  private OrderStatus status;
+  private Instant occurredAt;
+
+  public OutboxEvent() {}
+
+  public OutboxEvent(String eventId, String eventType, OrderStatus status, Instant occurredAt) {
+    this.eventId = eventId;
+    this.eventType = eventType;
+    this.status = status;
+    this.occurredAt = occurredAt;
+  }
+
+  public static OutboxEvent statusChanged(String eventType, OrderStatus status, Instant at) {
+    return new OutboxEvent(UUID.randomUUID().toString(), eventType, status, at);
+  }
+
+  public String getEventId() {
+    return eventId;
+  }
+
+  public String getEventType() {
+    return eventType;
+  }
+
+  public OrderStatus getStatus() {
+    return status;
+  }
+
+  public Instant getOccurredAt() {
+    return occurredAt;
+  }
+}
@@ -0,0 +1,186 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-process cache in front of another {@link MenuClient}.
+ *
+ * <p>Found items are fresh for {@code ttl} and kept for another {@code maxStale} so they can still
+ * be served when the delegate throws {@link MenuUnavailableException}. "Not found" answers are
+ * cached for {@code negativeTtl} only and never served stale. Eviction is size-bounded (Caffeine's
+ * W-TinyLFU policy).
+ */
+public class CachingMenuClient implements MenuClient, MeterBinder {
+
+  private final MenuClient delegate;
+  private final Ticker ticker;
+  private final long ttlNanos;
+  private final long negativeTtlNanos;
+  private final Cache<String, Entry> cache;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder staleHits = new LongAdder();
+
+  public CachingMenuClient(
+      MenuClient delegate, long maxSize, Duration ttl, Duration negativeTtl, Duration maxStale) {
+    this(delegate, maxSize, ttl, negativeTtl, maxStale, Ticker.systemTicker());
+  }
+
+  CachingMenuClient(
+      MenuClient delegate,
+      long maxSize,
+      Duration ttl,
+      Duration negativeTtl,
+      Duration maxStale,
+      Ticker ticker) {
+    this.delegate = delegate;
+    this.ticker = ticker;
+    this.ttlNanos = ttl.toNanos();
+    this.negativeTtlNanos = negativeTtl.toNanos();
+    long retainNanos = ttlNanos + maxStale.toNanos();
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new EntryExpiry(retainNanos, negativeTtlNanos))
+            .ticker(ticker)
+            .recordStats()
+            .build();
+  }
+
+  @Override
+  public Optional<MenuItem> getMenuItem(String productId) {
+    long now = ticker.read();
+    Entry cached = cache.getIfPresent(productId);
+    if (cached != null && isFresh(cached, now)) {
+      hits.increment();
+      return Optional.ofNullable(cached.item());
+    }
+    misses.increment();
+    try {
+      Optional<MenuItem> loaded = delegate.getMenuItem(productId);
+      cache.put(productId, new Entry(loaded.orElse(null), now));
+      return loaded;
+    } catch (MenuUnavailableException e) {
+      if (cached == null) throw e;
+      staleHits.increment();
+      return Optional.ofNullable(cached.item());
+    }
+  }
+
+  @Override
+  public Map<String, MenuItem> getMenuItems(Collection<String> productIds) {
+    long now = ticker.read();
+    Map<String, MenuItem> result = new LinkedHashMap<>();
+    Map<String, Entry> stale = new HashMap<>();
+    List<String> toLoad = new ArrayList<>();
+
+    for (String productId : new LinkedHashSet<>(productIds)) {
+      Entry cached = cache.getIfPresent(productId);
+      if (cached != null && isFresh(cached, now)) {
+        hits.increment();
+        if (cached.item() != null) result.put(productId, cached.item());
+      } else {
+        misses.increment();
+        toLoad.add(productId);
+        if (cached != null) stale.put(productId, cached);
+      }
+    }
+    if (toLoad.isEmpty()) return result;
+
+    Map<String, MenuItem> loaded;
+    try {
+      loaded = delegate.getMenuItems(toLoad);
+    } catch (MenuUnavailableException e) {
+      // Only answer from stale data when every missing id has a stale entry.
+      if (stale.size() < toLoad.size()) throw e;
+      staleHits.add(stale.size());
+      stale.forEach(
+          (productId, entry) -> {
+            if (entry.item() != null) result.put(productId, entry.item());
+          });
+      return result;
+    }
+
+    for (String productId : toLoad) {
+      MenuItem item = loaded.get(productId);
+      cache.put(productId, new Entry(item, now));
+      if (item != null) result.put(productId, item);
+    }
+    return result;
+  }
+
+  public Stats stats() {
+    return new Stats(
+        hits.sum(),
+        misses.sum(),
+        staleHits.sum(),
+        cache.stats().evictionCount(),
+        cache.estimatedSize());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("menu.client.cache.requests", hits, LongAdder::sum)
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder("menu.client.cache.requests", misses, LongAdder::sum)
+        .tag("result", "miss")
+        .register(registry);
+    FunctionCounter.builder("menu.client.cache.requests", staleHits, LongAdder::sum)
+        .tag("result", "stale")
+        .register(registry);
+    FunctionCounter.builder("menu.client.cache.evictions", cache, c -> c.stats().evictionCount())
+        .register(registry);
+    Gauge.builder("menu.client.cache.size", cache, Cache::estimatedSize).register(registry);
+  }
+
+  private boolean isFresh(Entry entry, long now) {
+    long age = now - entry.loadedAtNanos();
+    return age < (entry.item() != null ? ttlNanos : negativeTtlNanos);
+  }
+
+  /**
+   * Hits are fresh answers, misses went to the delegate, stale hits were served after a failure.
+   */
+  public record Stats(long hits, long misses, long staleHits, long evictions, long size) {}
+
+  /** {@code item == null} records a "not found" answer. */
+  private record Entry(MenuItem item, long loadedAtNanos) {}
+
+  private record EntryExpiry(long retainNanos, long negativeTtlNanos)
+      implements Expiry<String, Entry> {
+
+    @Override
+    public long expireAfterCreate(String key, Entry value, long currentTime) {
+      return value.item() != null ? retainNanos : negativeTtlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
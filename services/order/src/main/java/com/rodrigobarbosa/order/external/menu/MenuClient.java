@@ -1,11 +1,27 @@
 package com.rodrigobarbosa.order.external.menu;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public interface MenuClient {
   Optional<MenuItem> getMenuItem(String productId);
 
+  /**
+   * Resolves several products at once, keyed by product id. Ids that do not exist in the menu are
+   * absent from the returned map. Implementations should override this to use a single round trip;
+   * the default falls back to one {@link #getMenuItem} call per id.
+   */
+  default Map<String, MenuItem> getMenuItems(Collection<String> productIds) {
+    Map<String, MenuItem> found = new LinkedHashMap<>();
+    for (String productId : productIds) {
+      getMenuItem(productId).ifPresent(item -> found.put(productId, item));
+    }
+    return found;
+  }
+
   record MenuItem(String id, String name, BigDecimal price) {}
 
   class MenuUnavailableException extends RuntimeException {
@@ -0,0 +1,19 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/** Change event published by the menu service (mirrors its {@code MenuItemChangedEvent}). */
+public record MenuItemChangedEvent(
+    String eventType,
+    String id,
+    String name,
+    BigDecimal price,
+    boolean available,
+    Instant occurredAt) {
+  public static final String DELETED = "MENU_ITEM_DELETED";
+
+  boolean isDeletion() {
+    return DELETED.equals(eventType);
+  }
+}
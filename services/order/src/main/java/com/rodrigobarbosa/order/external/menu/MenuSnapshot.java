@@ -0,0 +1,182 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-optimised local replica of the menu.
+ *
+ * <p>Readers see an immutable map through a single volatile read. Writers (change events and full
+ * reloads) are serialised and publish a new copy. Events received while a reload is in progress are
+ * journaled and re-applied on top of the reloaded items, so a reload never rolls back a newer
+ * change. Every item (and every deleted id) keeps the time of the last change applied to it, and a
+ * change older than that is dropped: events can be redelivered or overtake each other, and a stale
+ * one must not resurrect a deleted item or roll back a price. Writers take a {@link ReentrantLock}
+ * rather than a monitor: a reload copies the whole menu, and listener threads waiting for it must
+ * not pin their carrier when they are virtual.
+ */
+public class MenuSnapshot implements MeterBinder {
+
+  private final Clock clock;
+
+  private volatile State state = new State(Map.of(), Map.of(), 0, false);
+  private volatile Instant lastSyncAt;
+  private volatile Instant lastEventOccurredAt;
+  private volatile Instant lastEventReceivedAt;
+
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private List<MenuItemChangedEvent> journal;
+
+  public MenuSnapshot(Clock clock) {
+    this.clock = clock;
+  }
+
+  public Optional<MenuClient.MenuItem> get(String productId) {
+    return Optional.ofNullable(state.items().get(productId));
+  }
+
+  /** True once the first full load has completed. */
+  public boolean isReady() {
+    return state.ready();
+  }
+
+  /** Incremented on every applied change or reload. */
+  public long version() {
+    return state.version();
+  }
+
+  public int size() {
+    return state.items().size();
+  }
+
+  /**
+   * Delay between the menu service emitting the last applied event and this replica applying it.
+   */
+  public Duration eventLag() {
+    Instant occurredAt = lastEventOccurredAt;
+    Instant receivedAt = lastEventReceivedAt;
+    if (occurredAt == null || receivedAt == null) return Duration.ZERO;
+    return Duration.between(occurredAt, receivedAt);
+  }
+
+  /** Time since the last completed full load; {@code null} before the first one. */
+  public Duration syncAge() {
+    Instant syncedAt = lastSyncAt;
+    return syncedAt == null ? null : Duration.between(syncedAt, clock.instant());
+  }
+
+  /**
+   * Applies one change event.
+   *
+   * @return {@code false} if the item already reflects a newer change and the event was dropped
+   */
+  public boolean apply(MenuItemChangedEvent event) {
+    writeLock.lock();
+    try {
+      if (journal != null) journal.add(event);
+      State current = state;
+      Map<String, MenuClient.MenuItem> items = new HashMap<>(current.items());
+      Map<String, Instant> changedAt = new HashMap<>(current.changedAt());
+      if (!applyTo(items, changedAt, event)) return false;
+      state = new State(items, changedAt, current.version() + 1, current.ready());
+      lastEventOccurredAt = event.occurredAt();
+      lastEventReceivedAt = clock.instant();
+      return true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public void beginSync() {
+    writeLock.lock();
+    try {
+      journal = new ArrayList<>();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public void completeSync(Collection<RestClientMenuClient.ListedMenuItem> listed) {
+    Map<String, MenuClient.MenuItem> items = new HashMap<>();
+    Map<String, Instant> changedAt = new HashMap<>();
+    for (RestClientMenuClient.ListedMenuItem item : listed) {
+      items.put(item.id(), item.toMenuItem());
+      if (item.updatedAt() != null) changedAt.put(item.id(), item.updatedAt());
+    }
+    writeLock.lock();
+    try {
+      List<MenuItemChangedEvent> missed = journal != null ? journal : List.of();
+      for (MenuItemChangedEvent event : missed) applyTo(items, changedAt, event);
+      state = new State(items, changedAt, state.version() + 1, true);
+      journal = null;
+      lastSyncAt = clock.instant();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public void abortSync() {
+    writeLock.lock();
+    try {
+      journal = null;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("menu.replica.version", this, MenuSnapshot::version).register(registry);
+    Gauge.builder("menu.replica.items", this, MenuSnapshot::size).register(registry);
+    Gauge.builder("menu.replica.event.lag", this, s -> s.eventLag().toMillis() / 1000.0)
+        .baseUnit("seconds")
+        .register(registry);
+    Gauge.builder(
+            "menu.replica.sync.age",
+            this,
+            s -> s.syncAge() == null ? Double.NaN : s.syncAge().toMillis() / 1000.0)
+        .baseUnit("seconds")
+        .register(registry);
+  }
+
+  private static boolean applyTo(
+      Map<String, MenuClient.MenuItem> items,
+      Map<String, Instant> changedAt,
+      MenuItemChangedEvent event) {
+    Instant occurredAt = event.occurredAt();
+    if (occurredAt != null) {
+      Instant last = changedAt.get(event.id());
+      if (last != null && occurredAt.isBefore(last)) return false;
+      changedAt.put(event.id(), occurredAt);
+    }
+    if (event.isDeletion()) {
+      items.remove(event.id());
+    } else {
+      items.put(event.id(), new MenuClient.MenuItem(event.id(), event.name(), event.price()));
+    }
+    return true;
+  }
+
+  /** {@code changedAt} also keeps deleted ids, so a late event cannot bring them back. */
+  private record State(
+      Map<String, MenuClient.MenuItem> items,
+      Map<String, Instant> changedAt,
+      long version,
+      boolean ready) {
+    State {
+      items = Map.copyOf(items);
+      changedAt = Map.copyOf(changedAt);
+    }
+  }
+}
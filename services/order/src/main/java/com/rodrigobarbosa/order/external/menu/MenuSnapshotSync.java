@@ -0,0 +1,78 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Feeds the {@link MenuSnapshot}: applies menu change events as they arrive and (re)loads the full
+ * menu at startup, after failures, and every {@code resyncInterval} to repair missed events.
+ */
+public class MenuSnapshotSync {
+
+  private static final Logger log = LoggerFactory.getLogger(MenuSnapshotSync.class);
+
+  private final MenuSnapshot snapshot;
+  private final RestClientMenuClient restClient;
+  private final int pageSize;
+  private final Duration resyncInterval;
+
+  public MenuSnapshotSync(
+      MenuSnapshot snapshot,
+      RestClientMenuClient restClient,
+      int pageSize,
+      Duration resyncInterval) {
+    this.snapshot = snapshot;
+    this.restClient = restClient;
+    this.pageSize = pageSize;
+    this.resyncInterval = resyncInterval;
+  }
+
+  @RabbitListener(queues = "#{menuReplicaQueue.name}")
+  public void onMessage(MenuItemChangedEvent event) {
+    if (snapshot.apply(event)) {
+      log.debug("Applied eventType={} menuItemId={}", event.eventType(), event.id());
+    } else {
+      log.debug("Dropped stale eventType={} menuItemId={}", event.eventType(), event.id());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${menu.replica.retry-interval:10s}")
+  public void syncIfDue() {
+    Duration age = snapshot.syncAge();
+    if (snapshot.isReady() && age != null && age.compareTo(resyncInterval) < 0) return;
+    sync();
+  }
+
+  void sync() {
+    snapshot.beginSync();
+    boolean completed = false;
+    try {
+      List<RestClientMenuClient.ListedMenuItem> items = loadAll();
+      snapshot.completeSync(items);
+      completed = true;
+      log.info("Menu replica loaded items={} version={}", items.size(), snapshot.version());
+    } catch (MenuClient.MenuUnavailableException e) {
+      log.warn("Menu replica load failed, will retry: {}", e.getMessage());
+    } finally {
+      // Whatever failed, stop journaling events until the next attempt.
+      if (!completed) snapshot.abortSync();
+    }
+  }
+
+  private List<RestClientMenuClient.ListedMenuItem> loadAll() {
+    List<RestClientMenuClient.ListedMenuItem> items = new ArrayList<>();
+    long offset = 0;
+    while (true) {
+      RestClientMenuClient.MenuItemPage page = restClient.listMenuItems(offset, pageSize);
+      items.addAll(page.items());
+      offset += page.items().size();
+      // The total may be cached or estimated on the Menu side; a short page is the reliable end.
+      if (page.items().size() < pageSize) return items;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Resolves several products with concurrent {@link #getMenuItem} calls on the given executor
+ * (virtual threads), for menu services that do not offer the bulk lookup endpoint.
+ *
+ * <p>At most {@code maxConcurrency} calls are in flight per lookup. Like the bulk lookup, every id
+ * is resolved and unknown ids are simply absent from the result, whatever their position. The first
+ * {@link MenuUnavailableException} cancels everything and is rethrown.
+ */
+public class ParallelMenuClient implements MenuClient {
+
+  private final MenuClient delegate;
+  private final ExecutorService executor;
+  private final int maxConcurrency;
+
+  public ParallelMenuClient(MenuClient delegate, ExecutorService executor, int maxConcurrency) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  @Override
+  public Optional<MenuItem> getMenuItem(String productId) {
+    return delegate.getMenuItem(productId);
+  }
+
+  @Override
+  public Map<String, MenuItem> getMenuItems(Collection<String> productIds) {
+    List<String> ids = productIds.stream().distinct().toList();
+    MenuItem[] results = new MenuItem[ids.size()];
+    List<Future<Lookup>> submitted = new ArrayList<>();
+    CompletionService<Lookup> completions = new ExecutorCompletionService<>(executor);
+
+    int next = 0;
+    int inFlight = 0;
+    try {
+      while (true) {
+        while (next < ids.size() && inFlight < maxConcurrency) {
+          int index = next++;
+          String productId = ids.get(index);
+          submitted.add(
+              completions.submit(() -> new Lookup(index, delegate.getMenuItem(productId))));
+          inFlight++;
+        }
+        if (inFlight == 0) break;
+
+        Future<Lookup> done = completions.take();
+        inFlight--;
+        Lookup lookup = done.get();
+        lookup.item().ifPresent(item -> results[lookup.index()] = item);
+      }
+    } catch (ExecutionException e) {
+      submitted.forEach(f -> f.cancel(true));
+      if (e.getCause() instanceof MenuUnavailableException unavailable) throw unavailable;
+      throw new MenuUnavailableException("Menu lookup failed", e.getCause());
+    } catch (InterruptedException e) {
+      submitted.forEach(f -> f.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new MenuUnavailableException("Menu lookup interrupted", e);
+    }
+
+    Map<String, MenuItem> found = new LinkedHashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      if (results[i] != null) found.put(ids.get(i), results[i]);
+    }
+    return found;
+  }
+
+  private record Lookup(int index, Optional<MenuItem> item) {}
+}
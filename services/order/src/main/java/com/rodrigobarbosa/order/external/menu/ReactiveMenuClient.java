@@ -0,0 +1,17 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import com.rodrigobarbosa.order.external.menu.MenuClient.MenuItem;
+import java.util.Collection;
+import java.util.Map;
+import reactor.core.publisher.Mono;
+
+/** Non-blocking counterpart of {@link MenuClient}, used by the {@code reactive} profile. */
+public interface ReactiveMenuClient {
+
+  /**
+   * Resolves several products at once, keyed by product id. Ids that do not exist in the menu are
+   * absent from the map; an unreachable menu service errors with {@link
+   * MenuClient.MenuUnavailableException}.
+   */
+  Mono<Map<String, MenuItem>> getMenuItems(Collection<String> productIds);
+}
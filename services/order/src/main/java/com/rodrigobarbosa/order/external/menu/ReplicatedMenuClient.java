@@ -0,0 +1,39 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves products from the local {@link MenuSnapshot}. Once the first load has completed the
+ * snapshot is authoritative: an id it does not hold is reported as not found, without asking the
+ * menu service. Before that, every lookup goes to the delegate.
+ */
+public class ReplicatedMenuClient implements MenuClient {
+
+  private final MenuSnapshot snapshot;
+  private final MenuClient delegate;
+
+  public ReplicatedMenuClient(MenuSnapshot snapshot, MenuClient delegate) {
+    this.snapshot = snapshot;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Optional<MenuItem> getMenuItem(String productId) {
+    if (!snapshot.isReady()) return delegate.getMenuItem(productId);
+    return snapshot.get(productId);
+  }
+
+  @Override
+  public Map<String, MenuItem> getMenuItems(Collection<String> productIds) {
+    if (!snapshot.isReady()) return delegate.getMenuItems(productIds);
+
+    Map<String, MenuItem> found = new LinkedHashMap<>();
+    for (String productId : productIds) {
+      snapshot.get(productId).ifPresent(item -> found.put(productId, item));
+    }
+    return found;
+  }
+}
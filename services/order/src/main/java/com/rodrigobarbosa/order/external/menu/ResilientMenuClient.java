@@ -0,0 +1,52 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Guards calls to the menu service with a bulkhead (caps concurrent in-flight calls) and a circuit
+ * breaker (opens on failure rate or slow-call rate, probes in half-open state). Rejected calls fail
+ * immediately with {@link MenuUnavailableException}, so callers answer 503 without waiting for a
+ * timeout. The bulkhead wraps the breaker: a call it rejects never reaches the breaker, so it is
+ * neither recorded as a success nor takes a half-open probe slot.
+ */
+public class ResilientMenuClient implements MenuClient {
+
+  private final MenuClient delegate;
+  private final CircuitBreaker circuitBreaker;
+  private final Bulkhead bulkhead;
+
+  public ResilientMenuClient(
+      MenuClient delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+    this.bulkhead = bulkhead;
+  }
+
+  @Override
+  public Optional<MenuItem> getMenuItem(String productId) {
+    return call(() -> delegate.getMenuItem(productId));
+  }
+
+  @Override
+  public Map<String, MenuItem> getMenuItems(Collection<String> productIds) {
+    return call(() -> delegate.getMenuItems(productIds));
+  }
+
+  private <T> T call(Supplier<T> supplier) {
+    try {
+      return Bulkhead.decorateSupplier(bulkhead, () -> circuitBreaker.executeSupplier(supplier))
+          .get();
+    } catch (CallNotPermittedException e) {
+      throw new MenuUnavailableException("Menu service unavailable (circuit open)", e);
+    } catch (BulkheadFullException e) {
+      throw new MenuUnavailableException("Menu service unavailable (too many concurrent calls)", e);
+    }
+  }
+}
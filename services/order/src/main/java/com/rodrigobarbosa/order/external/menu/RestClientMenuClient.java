@@ -1,8 +1,16 @@
 package com.rodrigobarbosa.order.external.menu;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
@@ -11,14 +19,15 @@ import org.springframework.web.client.RestClientException;
 
 @Component
 public class RestClientMenuClient implements MenuClient {
+  // Must not exceed the @Size limit of the menu service's lookup request.
+  static final int LOOKUP_BATCH_SIZE = 100;
+
   private final RestClient restClient;
 
   public RestClientMenuClient(
-      @Value("${menu.base-url}") String baseUrl, @Value("${menu.timeout-ms}") long timeoutMs) {
-    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-    requestFactory.setConnectTimeout((int) timeoutMs);
-    requestFactory.setReadTimeout((int) timeoutMs);
-    this.restClient = RestClient.builder().baseUrl(baseUrl).requestFactory(requestFactory).build();
+      @Value("${menu.base-url}") String baseUrl, ClientHttpRequestFactory menuRequestFactory) {
+    this.restClient =
+        RestClient.builder().baseUrl(baseUrl).requestFactory(menuRequestFactory).build();
   }
 
   @Override
@@ -35,4 +44,66 @@ public class RestClientMenuClient implements MenuClient {
       throw new MenuUnavailableException("Menu service error", e);
     }
   }
+
+  @Override
+  public Map<String, MenuItem> getMenuItems(Collection<String> productIds) {
+    List<String> ids = productIds.stream().distinct().toList();
+    Map<String, MenuItem> found = new LinkedHashMap<>();
+    for (int from = 0; from < ids.size(); from += LOOKUP_BATCH_SIZE) {
+      List<String> chunk = ids.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, ids.size()));
+      for (MenuItem item : lookup(chunk)) {
+        found.put(item.id(), item);
+      }
+    }
+    return found;
+  }
+
+  /** One page of {@code GET /menu-items}, used to (re)load the local menu replica. */
+  public MenuItemPage listMenuItems(long offset, int limit) {
+    try {
+      MenuItemPage page =
+          restClient
+              .get()
+              .uri("/menu-items?offset={offset}&limit={limit}&includeTotal=false", offset, limit)
+              .retrieve()
+              .body(MenuItemPage.class);
+      return page == null ? new MenuItemPage(List.of()) : page;
+    } catch (ResourceAccessException e) {
+      throw new MenuUnavailableException("Menu service unavailable (timeout/connection)", e);
+    } catch (RestClientException e) {
+      throw new MenuUnavailableException("Menu service error", e);
+    }
+  }
+
+  private List<MenuItem> lookup(List<String> ids) {
+    try {
+      MenuItem[] items =
+          restClient
+              .post()
+              .uri("/menu-items/lookup")
+              .contentType(MediaType.APPLICATION_JSON)
+              .body(new LookupRequest(new ArrayList<>(ids)))
+              .retrieve()
+              .body(MenuItem[].class);
+      return items == null ? List.of() : List.of(items);
+    } catch (ResourceAccessException e) {
+      throw new MenuUnavailableException("Menu service unavailable (timeout/connection)", e);
+    } catch (RestClientException e) {
+      throw new MenuUnavailableException("Menu service error", e);
+    }
+  }
+
+  private record LookupRequest(List<String> ids) {}
+
+  public record MenuItemPage(List<ListedMenuItem> items) {}
+
+  /**
+   * A menu item as listed by the menu service, with the time of its last change ({@code null} for
+   * items not written since that field was added).
+   */
+  public record ListedMenuItem(String id, String name, BigDecimal price, Instant updatedAt) {
+    MenuItem toMenuItem() {
+      return new MenuItem(id, name, price);
+    }
+  }
 }
@@ -0,0 +1,154 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Pooling connection manager that records how long each request waited to lease a connection
+ * ({@code menu.client.pool.acquire}, tagged {@code result=acquired|timeout}).
+ *
+ * <p>It also implements {@link ConnPoolControl} so the HTTP client still runs its idle/expired
+ * connection evictor against the wrapped pool.
+ */
+public class TimedConnectionManager
+    implements HttpClientConnectionManager, ConnPoolControl<HttpRoute> {
+
+  private final PoolingHttpClientConnectionManager pool;
+  private final Timer acquired;
+  private final Timer timedOut;
+
+  public TimedConnectionManager(PoolingHttpClientConnectionManager pool, MeterRegistry registry) {
+    this.pool = pool;
+    this.acquired = acquireTimer(registry, "acquired");
+    this.timedOut = acquireTimer(registry, "timeout");
+  }
+
+  private static Timer acquireTimer(MeterRegistry registry, String result) {
+    return Timer.builder("menu.client.pool.acquire")
+        .description("Time spent waiting for a pooled connection to the menu service")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  @Override
+  public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+    long start = System.nanoTime();
+    LeaseRequest lease = pool.lease(id, route, requestTimeout, state);
+    return new LeaseRequest() {
+      @Override
+      public ConnectionEndpoint get(Timeout timeout)
+          throws InterruptedException, ExecutionException, TimeoutException {
+        try {
+          ConnectionEndpoint endpoint = lease.get(timeout);
+          acquired.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+          return endpoint;
+        } catch (TimeoutException e) {
+          timedOut.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+          throw e;
+        }
+      }
+
+      @Override
+      public boolean cancel() {
+        return lease.cancel();
+      }
+    };
+  }
+
+  @Override
+  public void release(ConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+    pool.release(endpoint, newState, validDuration);
+  }
+
+  @Override
+  public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context)
+      throws IOException {
+    pool.connect(endpoint, timeout, context);
+  }
+
+  @Override
+  public void upgrade(ConnectionEndpoint endpoint, HttpContext context) throws IOException {
+    pool.upgrade(endpoint, context);
+  }
+
+  @Override
+  public void close(CloseMode closeMode) {
+    pool.close(closeMode);
+  }
+
+  @Override
+  public void close() {
+    pool.close();
+  }
+
+  @Override
+  public void setMaxTotal(int max) {
+    pool.setMaxTotal(max);
+  }
+
+  @Override
+  public int getMaxTotal() {
+    return pool.getMaxTotal();
+  }
+
+  @Override
+  public void setDefaultMaxPerRoute(int max) {
+    pool.setDefaultMaxPerRoute(max);
+  }
+
+  @Override
+  public int getDefaultMaxPerRoute() {
+    return pool.getDefaultMaxPerRoute();
+  }
+
+  @Override
+  public void setMaxPerRoute(HttpRoute route, int max) {
+    pool.setMaxPerRoute(route, max);
+  }
+
+  @Override
+  public int getMaxPerRoute(HttpRoute route) {
+    return pool.getMaxPerRoute(route);
+  }
+
+  @Override
+  public void closeIdle(TimeValue idleTime) {
+    pool.closeIdle(idleTime);
+  }
+
+  @Override
+  public void closeExpired() {
+    pool.closeExpired();
+  }
+
+  @Override
+  public Set<HttpRoute> getRoutes() {
+    return pool.getRoutes();
+  }
+
+  @Override
+  public PoolStats getTotalStats() {
+    return pool.getTotalStats();
+  }
+
+  @Override
+  public PoolStats getStats(HttpRoute route) {
+    return pool.getStats(route);
+  }
+}
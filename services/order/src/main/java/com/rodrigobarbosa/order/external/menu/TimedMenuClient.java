@@ -0,0 +1,83 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times menu lookups as the order service sees them, cache and replica included, as {@code
+ * menu.client.calls} tagged with the {@code method} and its {@code outcome}: {@code found}, {@code
+ * not_found}, {@code unavailable} (refused by the circuit breaker or bulkhead, or the call failed)
+ * or {@code error}. A batch lookup is {@code found} even when some ids are missing.
+ */
+public class TimedMenuClient implements MenuClient {
+
+  private final MenuClient delegate;
+  private final MethodTimers single;
+  private final MethodTimers batch;
+
+  public TimedMenuClient(MenuClient delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.single = new MethodTimers(registry, "getMenuItem");
+    this.batch = new MethodTimers(registry, "getMenuItems");
+  }
+
+  @Override
+  public Optional<MenuItem> getMenuItem(String productId) {
+    long start = System.nanoTime();
+    try {
+      Optional<MenuItem> item = delegate.getMenuItem(productId);
+      record(item.isPresent() ? single.found : single.notFound, start);
+      return item;
+    } catch (RuntimeException e) {
+      record(single.failure(e), start);
+      throw e;
+    }
+  }
+
+  @Override
+  public Map<String, MenuItem> getMenuItems(Collection<String> productIds) {
+    long start = System.nanoTime();
+    try {
+      Map<String, MenuItem> items = delegate.getMenuItems(productIds);
+      record(items.isEmpty() && !productIds.isEmpty() ? batch.notFound : batch.found, start);
+      return items;
+    } catch (RuntimeException e) {
+      record(batch.failure(e), start);
+      throw e;
+    }
+  }
+
+  private static void record(Timer timer, long start) {
+    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  private static final class MethodTimers {
+    private final Timer found;
+    private final Timer notFound;
+    private final Timer unavailable;
+    private final Timer error;
+
+    MethodTimers(MeterRegistry registry, String method) {
+      this.found = timer(registry, method, "found");
+      this.notFound = timer(registry, method, "not_found");
+      this.unavailable = timer(registry, method, "unavailable");
+      this.error = timer(registry, method, "error");
+    }
+
+    Timer failure(RuntimeException e) {
+      return e instanceof MenuUnavailableException ? unavailable : error;
+    }
+
+    private static Timer timer(MeterRegistry registry, String method, String outcome) {
+      return Timer.builder("menu.client.calls")
+          .description("Menu lookups made by the order service, by method and outcome")
+          .tag("method", method)
+          .tag("outcome", outcome)
+          .register(registry);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import com.rodrigobarbosa.order.config.MenuProperties;
+import com.rodrigobarbosa.order.external.menu.MenuClient.MenuItem;
+import com.rodrigobarbosa.order.external.menu.MenuClient.MenuUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveMenuClient} over {@link WebClient}: {@code POST /menu-items/lookup} in chunks of
+ * {@value RestClientMenuClient#LOOKUP_BATCH_SIZE}, sent concurrently. Each call is bounded by
+ * {@code menu.http.read-timeout} and recorded on the same circuit breaker as the blocking client,
+ * so an open circuit fails fast here too.
+ */
+@Component
+@Profile("reactive")
+public class WebClientMenuClient implements ReactiveMenuClient {
+
+  private final WebClient webClient;
+  private final Duration timeout;
+  private final CircuitBreaker circuitBreaker;
+
+  @Autowired
+  public WebClientMenuClient(
+      @Value("${menu.base-url}") String baseUrl,
+      MenuProperties properties,
+      CircuitBreaker menuCircuitBreaker) {
+    this(
+        WebClient.builder().baseUrl(baseUrl).build(),
+        properties.http().readTimeout(),
+        menuCircuitBreaker);
+  }
+
+  WebClientMenuClient(WebClient webClient, Duration timeout, CircuitBreaker circuitBreaker) {
+    this.webClient = webClient;
+    this.timeout = timeout;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public Mono<Map<String, MenuItem>> getMenuItems(Collection<String> productIds) {
+    List<String> ids = productIds.stream().distinct().toList();
+    List<List<String>> chunks = new ArrayList<>();
+    for (int from = 0; from < ids.size(); from += RestClientMenuClient.LOOKUP_BATCH_SIZE) {
+      chunks.add(
+          ids.subList(from, Math.min(from + RestClientMenuClient.LOOKUP_BATCH_SIZE, ids.size())));
+    }
+    return Flux.fromIterable(chunks).flatMap(this::lookup).collectMap(MenuItem::id, item -> item);
+  }
+
+  private Flux<MenuItem> lookup(List<String> ids) {
+    return Flux.defer(
+        () -> {
+          try {
+            circuitBreaker.acquirePermission();
+          } catch (CallNotPermittedException e) {
+            return Flux.error(
+                new MenuUnavailableException("Menu service unavailable (circuit open)", e));
+          }
+          long start = System.nanoTime();
+          return webClient
+              .post()
+              .uri("/menu-items/lookup")
+              .contentType(MediaType.APPLICATION_JSON)
+              .bodyValue(new LookupRequest(new ArrayList<>(ids)))
+              .retrieve()
+              .bodyToFlux(MenuItem.class)
+              .timeout(timeout)
+              .doOnComplete(
+                  () -> circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+              .doOnError(
+                  e -> circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e))
+              .onErrorMap(
+                  e -> !(e instanceof MenuUnavailableException),
+                  WebClientMenuClient::toUnavailable);
+        });
+  }
+
+  private static MenuUnavailableException toUnavailable(Throwable e) {
+    if (e instanceof WebClientResponseException) {
+      return new MenuUnavailableException("Menu service error", e);
+    }
+    // Connection refused/reset, or no response within the timeout.
+    return new MenuUnavailableException("Menu service unavailable (timeout/connection)", e);
+  }
+
+  private record LookupRequest(List<String> ids) {}
+}
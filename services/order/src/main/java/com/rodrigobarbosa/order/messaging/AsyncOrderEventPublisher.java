@@ -0,0 +1,314 @@
+package com.rodrigobarbosa.order.messaging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * Publishes from a bounded in-memory queue on a dedicated thread instead of the caller's.
+ *
+ * <p>Queued events are sent in batches over one cached channel per batch and confirmed
+ * asynchronously (correlated confirms and returns), so the next batch goes out while the previous
+ * one is still awaiting its confirms. At most {@code maxInFlight} events are unconfirmed at any
+ * time. Nacked or timed-out events are retried up to {@code maxAttempts}, ahead of anything still
+ * queued; returned (unroutable) ones fail immediately. What {@link #publish} does when the queue is
+ * full is decided by the {@link QueueFullPolicy}.
+ *
+ * <p>Per-order ordering is best effort: because batches are pipelined, an event sent after a nacked
+ * one can reach the broker before its retry. Consumers that need strict order compare {@code
+ * occurredAt}, as the notification coalescer does.
+ */
+public class AsyncOrderEventPublisher implements OrderEventPublisher, MeterBinder, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncOrderEventPublisher.class);
+
+  public enum QueueFullPolicy {
+    /** Wait for space; back-pressure reaches the caller. */
+    BLOCK,
+    /** Discard the event and count it. */
+    DROP,
+    /** Throw an {@link AmqpException}. */
+    FAIL
+  }
+
+  private record Pending(
+      OrderStatusChangedEvent event, CompletableFuture<Boolean> result, int attempt) {}
+
+  private final RabbitTemplate rabbitTemplate;
+  private final OrderEventRouting routing;
+  private final int capacity;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final Duration confirmTimeout;
+  private final QueueFullPolicy queueFullPolicy;
+  private final BlockingQueue<Pending> queue;
+  // Retries go out before the queue; at most maxInFlight events can be waiting here.
+  private final Deque<Pending> retries = new ConcurrentLinkedDeque<>();
+  private final Semaphore inFlight;
+  private final int maxInFlight;
+  private final Thread worker;
+  private volatile boolean running;
+
+  private final LongAdder confirmed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder retried = new LongAdder();
+  private volatile Timer confirmLatency;
+
+  public AsyncOrderEventPublisher(
+      RabbitTemplate rabbitTemplate,
+      OrderEventRouting routing,
+      int capacity,
+      int batchSize,
+      int maxInFlight,
+      int maxAttempts,
+      Duration confirmTimeout,
+      QueueFullPolicy queueFullPolicy) {
+    if (maxInFlight < batchSize) {
+      throw new IllegalArgumentException("maxInFlight must be at least batchSize");
+    }
+    this.rabbitTemplate = rabbitTemplate;
+    this.routing = routing;
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.confirmTimeout = confirmTimeout;
+    this.queueFullPolicy = queueFullPolicy;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.maxInFlight = maxInFlight;
+    this.inFlight = new Semaphore(maxInFlight);
+    this.worker = Thread.ofPlatform().name("order-event-publisher").daemon().unstarted(this::run);
+  }
+
+  public void start() {
+    running = true;
+    worker.start();
+  }
+
+  /** Stops taking new batches; events still queued are failed so waiting callers return. */
+  @Override
+  public void close() throws InterruptedException {
+    running = false;
+    worker.interrupt();
+    worker.join(confirmTimeout.toMillis());
+    Pending pending;
+    while ((pending = queue.poll()) != null) {
+      pending.result().complete(false);
+    }
+    while ((pending = retries.pollFirst()) != null) {
+      pending.result().complete(false);
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    counter(registry, "confirmed", confirmed);
+    counter(registry, "failed", failed);
+    counter(registry, "dropped", dropped);
+    counter(registry, "rejected", rejected);
+    FunctionCounter.builder("order.events.publish.retries", retried, LongAdder::sum)
+        .description("Events retried after a nack or a missing confirm")
+        .register(registry);
+    Gauge.builder("order.events.publish.queue", queue, BlockingQueue::size)
+        .description("Events waiting to be published")
+        .register(registry);
+    Gauge.builder(
+            "order.events.publish.in.flight",
+            this,
+            p -> p.maxInFlight - p.inFlight.availablePermits())
+        .description("Events published but not yet confirmed")
+        .register(registry);
+    confirmLatency =
+        Timer.builder("order.events.confirm.latency")
+            .description("Time from send to broker confirm")
+            .register(registry);
+  }
+
+  private static void counter(MeterRegistry registry, String result, LongAdder adder) {
+    FunctionCounter.builder("order.events.published", adder, LongAdder::sum)
+        .tag("result", result)
+        .description("Events handled by the async publisher, by outcome")
+        .register(registry);
+  }
+
+  @Override
+  public void publish(OrderStatusChangedEvent event) {
+    enqueue(new Pending(event, new CompletableFuture<>(), 1));
+  }
+
+  @Override
+  public Set<String> publishConfirmed(List<OrderStatusChangedEvent> events) {
+    List<Pending> pending = new ArrayList<>(events.size());
+    for (OrderStatusChangedEvent event : events) {
+      Pending p = new Pending(event, new CompletableFuture<>(), 1);
+      enqueue(p);
+      pending.add(p);
+    }
+    // Every attempt can take up to confirmTimeout.
+    long deadline = System.nanoTime() + confirmTimeout.multipliedBy(maxAttempts).toNanos();
+    Set<String> confirmedIds = new HashSet<>();
+    for (Pending p : pending) {
+      try {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        if (p.result().get(remaining, TimeUnit.NANOSECONDS)) {
+          confirmedIds.add(p.event().eventId());
+        }
+      } catch (TimeoutException | ExecutionException e) {
+        // Not confirmed in time; the caller keeps it for later.
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    return confirmedIds;
+  }
+
+  private void enqueue(Pending pending) {
+    switch (queueFullPolicy) {
+      case BLOCK -> {
+        try {
+          queue.put(pending);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new AmqpException("Interrupted while waiting for publish queue space", e);
+        }
+      }
+      case DROP -> {
+        if (!queue.offer(pending)) {
+          dropped.increment();
+          pending.result().complete(false);
+          log.warn("Publish queue full, dropped orderId={}", pending.event().orderId());
+        }
+      }
+      case FAIL -> {
+        if (!queue.offer(pending)) {
+          rejected.increment();
+          throw new AmqpException("Publish queue full (capacity=" + capacity + ")");
+        }
+      }
+    }
+  }
+
+  private void run() {
+    List<Pending> batch = new ArrayList<>(batchSize);
+    while (running) {
+      try {
+        Pending first = retries.pollFirst();
+        if (first == null) first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) continue;
+        batch.add(first);
+        Pending retry;
+        while (batch.size() < batchSize && (retry = retries.pollFirst()) != null) {
+          batch.add(retry);
+        }
+        queue.drainTo(batch, batchSize - batch.size());
+        inFlight.acquire(batch.size());
+        send(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        batch.forEach(p -> p.result().complete(false));
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void send(List<Pending> batch) {
+    int[] sent = {0};
+    try {
+      rabbitTemplate.invoke(
+          ops -> {
+            for (Pending p : batch) {
+              String eventId = p.event().eventId();
+              CorrelationData correlation =
+                  eventId != null ? new CorrelationData(eventId) : new CorrelationData();
+              long sentAt = System.nanoTime();
+              ops.convertAndSend(
+                  routing.exchange(),
+                  routing.routingKey(p.event().orderId()),
+                  p.event(),
+                  correlation);
+              sent[0]++;
+              // Only once it left: a failed send is settled below, never by a confirm timeout too.
+              correlation
+                  .getFuture()
+                  .orTimeout(confirmTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                  .whenComplete((confirm, error) -> onConfirm(p, correlation, confirm, sentAt));
+            }
+            return null;
+          });
+    } catch (AmqpException e) {
+      // The rest of the batch never left; the sent part is settled by its confirms/timeouts.
+      List<Pending> unsent = batch.subList(sent[0], batch.size());
+      inFlight.release(unsent.size());
+      for (Pending p : unsent) {
+        retryOrFail(p, e.getMessage());
+      }
+    }
+  }
+
+  private void onConfirm(
+      Pending pending, CorrelationData correlation, CorrelationData.Confirm confirm, long sentAt) {
+    inFlight.release();
+    if (confirm != null && confirm.ack() && correlation.getReturned() == null) {
+      Timer latency = confirmLatency;
+      if (latency != null) latency.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+      confirmed.increment();
+      pending.result().complete(true);
+      log.debug(
+          "Published eventType={} orderId={} status={}",
+          pending.event().eventType(),
+          pending.event().orderId(),
+          pending.event().status());
+      return;
+    }
+    if (correlation.getReturned() != null) {
+      fail(pending, "returned (unroutable)");
+    } else {
+      retryOrFail(pending, confirm == null ? "no confirm within " + confirmTimeout : "nack");
+    }
+  }
+
+  private void retryOrFail(Pending pending, String reason) {
+    if (running && pending.attempt() < maxAttempts) {
+      retries.addLast(new Pending(pending.event(), pending.result(), pending.attempt() + 1));
+      retried.increment();
+      return;
+    }
+    fail(pending, reason);
+  }
+
+  private void fail(Pending pending, String reason) {
+    failed.increment();
+    pending.result().complete(false);
+    log.warn(
+        "Event not published orderId={} attempts={} reason={}",
+        pending.event().orderId(),
+        pending.attempt(),
+        reason);
+  }
+}
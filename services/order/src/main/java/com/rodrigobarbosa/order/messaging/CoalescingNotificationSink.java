@@ -0,0 +1,217 @@
+package com.rodrigobarbosa.order.messaging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds notifications for {@code window} per order and forwards only the latest one, so an order
+ * that goes CREATED → PREPARING → DELIVERED within the window produces a single notification.
+ *
+ * <p>Every order opens its window when its first event arrives and all windows have the same
+ * length, so deadlines are reached in arrival order: a FIFO of (orderId, deadline) is the delay
+ * queue, with O(1) work per event and per flush regardless of how many orders are open. Events
+ * whose {@code eventId} was delivered within {@code dedupTtl}, or is still waiting in its window
+ * (broker redeliveries, outbox retries), are dropped. Event ids, including those of superseded
+ * events, are only remembered as delivered once the delegate has accepted the notification that
+ * replaced them.
+ *
+ * <p>Buffered notifications have already been acked, so a crash loses at most one window of them.
+ * When the delegate throws, the batch goes back into the buffer and is retried one window later.
+ */
+public class CoalescingNotificationSink implements NotificationSink, MeterBinder, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(CoalescingNotificationSink.class);
+
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+  private record Deadline(String orderId, long dueAt) {}
+
+  /** Latest event of one order, plus the ids of every event it absorbed. */
+  private record Pending(OrderStatusChangedEvent event, Set<String> eventIds) {
+
+    static Pending of(OrderStatusChangedEvent event) {
+      return new Pending(event, event.eventId() == null ? Set.of() : Set.of(event.eventId()));
+    }
+
+    boolean absorbed(String eventId) {
+      return eventId != null && eventIds.contains(eventId);
+    }
+
+    /** Keeps the newer event and the ids of both. */
+    Pending merge(Pending other) {
+      Set<String> ids = new HashSet<>(eventIds);
+      ids.addAll(other.eventIds());
+      OrderStatusChangedEvent newest =
+          other.event().occurredAt().isBefore(event.occurredAt()) ? event : other.event();
+      return new Pending(newest, Set.copyOf(ids));
+    }
+  }
+
+  private final NotificationSink delegate;
+  private final long windowNanos;
+  private final LongSupplier nanoTime;
+  private final ConcurrentHashMap<String, Pending> latest = new ConcurrentHashMap<>();
+  private final Queue<Deadline> deadlines = new ConcurrentLinkedQueue<>();
+  private final Cache<String, Boolean> seenEventIds;
+  private final ScheduledExecutorService flusher;
+
+  private final LongAdder duplicates = new LongAdder();
+  private final LongAdder superseded = new LongAdder();
+  private final LongAdder forwarded = new LongAdder();
+
+  public CoalescingNotificationSink(
+      NotificationSink delegate,
+      Duration window,
+      Duration tick,
+      Duration dedupTtl,
+      long dedupMaxSize) {
+    this(delegate, window, dedupTtl, dedupMaxSize, System::nanoTime);
+    flusher.scheduleWithFixedDelay(
+        this::flushDueSafely, tick.toNanos(), tick.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  CoalescingNotificationSink(
+      NotificationSink delegate,
+      Duration window,
+      Duration dedupTtl,
+      long dedupMaxSize,
+      LongSupplier nanoTime) {
+    this.delegate = delegate;
+    this.windowNanos = window.toNanos();
+    this.nanoTime = nanoTime;
+    this.seenEventIds =
+        Caffeine.newBuilder().expireAfterWrite(dedupTtl).maximumSize(dedupMaxSize).build();
+    this.flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("notification-coalescer").daemon().factory());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    counter(registry, "duplicate", duplicates);
+    counter(registry, "superseded", superseded);
+    counter(registry, "forwarded", forwarded);
+    Gauge.builder("order.notifications.coalescing.pending", latest, ConcurrentHashMap::size)
+        .description("Orders with a notification waiting for their window to close")
+        .register(registry);
+  }
+
+  private static void counter(MeterRegistry registry, String result, LongAdder adder) {
+    FunctionCounter.builder("order.notifications.coalescing", adder, LongAdder::sum)
+        .tag("result", result)
+        .description("Notifications seen by the coalescing window, by outcome")
+        .register(registry);
+  }
+
+  @Override
+  public void send(List<OrderStatusChangedEvent> events) {
+    long now = nanoTime.getAsLong();
+    for (OrderStatusChangedEvent event : events) {
+      if (event.eventId() != null && seenEventIds.getIfPresent(event.eventId()) != null) {
+        duplicates.increment();
+        continue;
+      }
+      latest.compute(
+          event.orderId(),
+          (orderId, current) -> {
+            if (current == null) {
+              deadlines.add(new Deadline(orderId, now + windowNanos));
+              return Pending.of(event);
+            }
+            if (current.absorbed(event.eventId())) {
+              duplicates.increment();
+              return current;
+            }
+            superseded.increment();
+            return current.merge(Pending.of(event));
+          });
+    }
+  }
+
+  /** Forwards the latest event of every order whose window has closed, as one batch. */
+  void flushDue() {
+    long now = nanoTime.getAsLong();
+    List<Pending> due = new ArrayList<>();
+    Deadline head;
+    while ((head = deadlines.peek()) != null && head.dueAt() - now <= 0) {
+      deadlines.poll();
+      Pending pending = latest.remove(head.orderId());
+      if (pending != null) due.add(pending);
+    }
+    if (due.isEmpty()) return;
+    try {
+      delegate.send(due.stream().map(Pending::event).toList());
+    } catch (RuntimeException e) {
+      rebuffer(due, now);
+      throw e;
+    }
+    markDelivered(due);
+    forwarded.add(due.size());
+  }
+
+  private void markDelivered(List<Pending> delivered) {
+    for (Pending pending : delivered) {
+      for (String eventId : pending.eventIds()) seenEventIds.put(eventId, Boolean.TRUE);
+    }
+  }
+
+  /** Puts a batch the delegate rejected back, unless a newer event for the order arrived since. */
+  private void rebuffer(List<Pending> batch, long now) {
+    for (Pending pending : batch) {
+      latest.compute(
+          pending.event().orderId(),
+          (orderId, current) -> {
+            if (current == null) {
+              deadlines.add(new Deadline(orderId, now + windowNanos));
+              return pending;
+            }
+            return current.merge(pending);
+          });
+    }
+  }
+
+  private void flushDueSafely() {
+    try {
+      flushDue();
+    } catch (RuntimeException e) {
+      log.warn("Failed to forward coalesced notifications, retrying: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Stops the flusher, waiting for a flush in progress to finish, then forwards whatever is still
+   * buffered.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    flusher.shutdown();
+    if (!flusher.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+      log.warn("Notification flusher did not stop within {}", CLOSE_TIMEOUT);
+    }
+    List<Pending> remaining = new ArrayList<>(latest.values());
+    latest.clear();
+    deadlines.clear();
+    if (remaining.isEmpty()) return;
+    delegate.send(remaining.stream().map(Pending::event).toList());
+    markDelivered(remaining);
+  }
+}
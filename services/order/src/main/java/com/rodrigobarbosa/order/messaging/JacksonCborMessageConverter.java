@@ -0,0 +1,39 @@
+package com.rodrigobarbosa.order.messaging;
+
+import java.lang.reflect.Type;
+import org.jspecify.annotations.Nullable;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJacksonMessageConverter;
+import org.springframework.util.MimeType;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * Binary counterpart of {@code JacksonJsonMessageConverter}: same Jackson object model, CBOR on the
+ * wire. Timestamps are written as epoch millis instead of ISO strings.
+ */
+public class JacksonCborMessageConverter extends AbstractJacksonMessageConverter {
+
+  public static final String CONTENT_TYPE_CBOR = "application/cbor";
+
+  public JacksonCborMessageConverter() {
+    super(
+        CBORMapper.builder()
+            .enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DateTimeFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+            .disable(DateTimeFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+            .build(),
+        MimeType.valueOf(CONTENT_TYPE_CBOR),
+        "*");
+  }
+
+  /** CBOR is not text: drop the content encoding so readers take the byte-based parser. */
+  @Override
+  protected Message createMessage(
+      Object object, MessageProperties messageProperties, @Nullable Type genericType) {
+    Message message = super.createMessage(object, messageProperties, genericType);
+    message.getMessageProperties().setContentEncoding(null);
+    return message;
+  }
+}
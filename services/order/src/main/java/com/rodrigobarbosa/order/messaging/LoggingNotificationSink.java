@@ -0,0 +1,26 @@
+package com.rodrigobarbosa.order.messaging;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/** Simulates sending notifications (e.g., email) to customers by logging them. */
+@Component
+public class LoggingNotificationSink implements NotificationSink {
+
+  private static final Logger log = LoggerFactory.getLogger(LoggingNotificationSink.class);
+
+  @Override
+  public void send(List<OrderStatusChangedEvent> events) {
+    for (OrderStatusChangedEvent event : events) {
+      log.info(
+          "NOTIFICATION: customer={} customerId={} orderId={} newStatus={} occurredAt={}",
+          event.customerName(),
+          event.customerId(),
+          event.orderId(),
+          event.status(),
+          event.occurredAt());
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.rodrigobarbosa.order.messaging;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration(proxyBeanMethods = false)
+public class NotificationConfig {
+
+  /**
+   * Puts the coalescing window in front of the actual sink when enabled. The delegate is picked by
+   * name because this bean is itself the primary {@link NotificationSink}.
+   */
+  @Bean
+  @Primary
+  @ConditionalOnProperty(name = "app.notifications.coalesce.enabled", havingValue = "true")
+  public CoalescingNotificationSink coalescingNotificationSink(
+      @Qualifier("loggingNotificationSink") NotificationSink delegate,
+      @Value("${app.notifications.coalesce.window:2s}") Duration window,
+      @Value("${app.notifications.coalesce.tick:100ms}") Duration tick,
+      @Value("${app.notifications.coalesce.dedup-ttl:10m}") Duration dedupTtl,
+      @Value("${app.notifications.coalesce.dedup-max-size:1000000}") long dedupMaxSize) {
+    return new CoalescingNotificationSink(delegate, window, tick, dedupTtl, dedupMaxSize);
+  }
+}
@@ -0,0 +1,11 @@
+package com.rodrigobarbosa.order.messaging;
+
+import java.util.List;
+
+/**
+ * Delivers customer notifications. Receives whole listener batches so an email or push
+ * implementation can send them in bulk; throwing rejects (and redelivers) the whole batch.
+ */
+public interface NotificationSink {
+  void send(List<OrderStatusChangedEvent> events);
+}
@@ -1,5 +1,15 @@
 package com.rodrigobarbosa.order.messaging;
 
+import java.util.List;
+import java.util.Set;
+
 public interface OrderEventPublisher {
   void publish(OrderStatusChangedEvent event);
+
+  /**
+   * Publishes {@code events} back to back and waits for the broker to confirm them.
+   *
+   * @return ids of the events the broker confirmed (and did not return as unroutable)
+   */
+  Set<String> publishConfirmed(List<OrderStatusChangedEvent> events);
 }
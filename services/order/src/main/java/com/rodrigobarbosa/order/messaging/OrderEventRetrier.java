@@ -0,0 +1,98 @@
+package com.rodrigobarbosa.order.messaging;
+
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Takes messages the notification consumer could not handle off the hot queue. Attempt {@code n}
+ * goes to {@code <source>.retry.<n>}, a queue with a TTL of {@code delays[n]} that dead-letters
+ * back into the source queue; after the last tier the message is parked. The attempt count travels
+ * in the {@value #RETRY_COUNT} header.
+ *
+ * <p>Retrying does not block the queue, so it gives up per-order ordering: a retried message comes
+ * back at the tail of its source queue (for partitions, behind later events of the same order).
+ * Consumers that care compare {@code occurredAt}; the notification coalescer keeps the newest.
+ */
+@Component
+public class OrderEventRetrier {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderEventRetrier.class);
+
+  public static final String RETRY_COUNT = "x-retry-count";
+  public static final String ORIGINAL_QUEUE = "x-original-queue";
+  public static final String LAST_ERROR = "x-last-error";
+
+  private final RabbitTemplate rabbitTemplate;
+  private final List<Duration> delays;
+  private final String parkingLot;
+
+  public OrderEventRetrier(
+      RabbitTemplate rabbitTemplate,
+      @Value("${app.rabbit.retry.delays:1s,10s,1m}") List<Duration> delays,
+      @Value("${app.rabbit.parking-lot}") String parkingLot) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.delays = List.copyOf(delays);
+    this.parkingLot = parkingLot;
+  }
+
+  public List<Duration> delays() {
+    return delays;
+  }
+
+  public String parkingLot() {
+    return parkingLot;
+  }
+
+  public static String retryQueue(String sourceQueue, int tier) {
+    return sourceQueue + ".retry." + tier;
+  }
+
+  /** Schedules the next attempt, or parks the message once every tier has been used. */
+  public void retryOrPark(Message message, Exception cause) {
+    MessageProperties properties = message.getMessageProperties();
+    int attempt = retryCount(properties);
+    String sourceQueue = sourceQueue(properties);
+    if (attempt >= delays.size()) {
+      park(message, cause);
+      return;
+    }
+    properties.setHeader(RETRY_COUNT, attempt + 1);
+    properties.setHeader(ORIGINAL_QUEUE, sourceQueue);
+    properties.setHeader(LAST_ERROR, String.valueOf(cause.getMessage()));
+    rabbitTemplate.send("", retryQueue(sourceQueue, attempt), message);
+    log.debug(
+        "Retrying message in {} (attempt {}): {}",
+        delays.get(attempt),
+        attempt + 1,
+        cause.getMessage());
+  }
+
+  /** Moves the message straight to the parking lot (e.g. it cannot be deserialized at all). */
+  public void park(Message message, Exception cause) {
+    MessageProperties properties = message.getMessageProperties();
+    properties.setHeader(ORIGINAL_QUEUE, sourceQueue(properties));
+    properties.setHeader(LAST_ERROR, String.valueOf(cause.getMessage()));
+    rabbitTemplate.send("", parkingLot, message);
+    log.warn(
+        "Parked message from {} after {} retries: {}",
+        properties.getHeader(ORIGINAL_QUEUE),
+        retryCount(properties),
+        cause.getMessage());
+  }
+
+  private static int retryCount(MessageProperties properties) {
+    return properties.getHeader(RETRY_COUNT) instanceof Number n ? n.intValue() : 0;
+  }
+
+  private static String sourceQueue(MessageProperties properties) {
+    Object original = properties.getHeader(ORIGINAL_QUEUE);
+    return original != null ? original.toString() : properties.getConsumerQueue();
+  }
+}
@@ -0,0 +1,102 @@
+package com.rodrigobarbosa.order.messaging;
+
+import java.util.BitSet;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Where order events go. With {@code app.rabbit.partitions=0} every event is routed to the single
+ * {@code app.rabbit.queue}. With N partitions, an order's events always go to queue {@code
+ * <queue>.p<hash(orderId) mod N>} (routing key {@code <routing-key>.<partition>}), and each of
+ * those queues has a single active consumer, so events of one order are handled in order while
+ * different orders spread over N consumers. Changing N remaps orders, so drain the queues first.
+ *
+ * <p>Every instance declares all N queues but only consumes the partitions it owns ({@code
+ * app.rabbit.owned-partitions}, e.g. {@code 0-3} or {@code 0,2}; blank means all). Giving each
+ * instance its own share spreads the single active consumers over the instances instead of leaving
+ * them all on whichever connected first.
+ */
+@Component
+public class OrderEventRouting {
+
+  private final String exchange;
+  private final String routingKey;
+  private final String queue;
+  private final int partitions;
+  private final BitSet owned;
+
+  public OrderEventRouting(
+      @Value("${app.rabbit.exchange}") String exchange,
+      @Value("${app.rabbit.routing-key}") String routingKey,
+      @Value("${app.rabbit.queue}") String queue,
+      @Value("${app.rabbit.partitions:0}") int partitions,
+      @Value("${app.rabbit.owned-partitions:}") String ownedPartitions) {
+    if (partitions < 0) throw new IllegalArgumentException("partitions must not be negative");
+    this.exchange = exchange;
+    this.routingKey = routingKey;
+    this.queue = queue;
+    this.partitions = partitions;
+    this.owned = parseOwned(ownedPartitions, partitions);
+  }
+
+  private static BitSet parseOwned(String spec, int partitions) {
+    BitSet owned = new BitSet(partitions);
+    if (spec == null || spec.isBlank()) {
+      owned.set(0, partitions);
+      return owned;
+    }
+    for (String part : spec.split(",")) {
+      String[] range = part.trim().split("-", 2);
+      int from = Integer.parseInt(range[0].trim());
+      int to = range.length == 2 ? Integer.parseInt(range[1].trim()) : from;
+      if (from < 0 || to < from || to >= partitions) {
+        throw new IllegalArgumentException(
+            "owned-partitions " + part.trim() + " is outside 0.." + (partitions - 1));
+      }
+      owned.set(from, to + 1);
+    }
+    return owned;
+  }
+
+  public String exchange() {
+    return exchange;
+  }
+
+  public boolean partitioned() {
+    return partitions > 0;
+  }
+
+  public int partitions() {
+    return partitions;
+  }
+
+  /** String.hashCode is specified, so every publisher instance picks the same partition. */
+  public int partition(String orderId) {
+    return Math.floorMod(orderId.hashCode(), partitions);
+  }
+
+  public String routingKey(String orderId) {
+    return partitioned() ? partitionRoutingKey(partition(orderId)) : routingKey;
+  }
+
+  public String partitionRoutingKey(int partition) {
+    return routingKey + "." + partition;
+  }
+
+  public String partitionQueue(int partition) {
+    return queue + ".p" + partition;
+  }
+
+  /** Every notification queue, whichever instance consumes it. */
+  public String[] queueNames() {
+    if (!partitioned()) return new String[] {queue};
+    return IntStream.range(0, partitions).mapToObj(this::partitionQueue).toArray(String[]::new);
+  }
+
+  /** Queues this instance consumes: the single queue, or those of its owned partitions. */
+  public String[] ownedQueueNames() {
+    if (!partitioned()) return new String[] {queue};
+    return owned.stream().mapToObj(this::partitionQueue).toArray(String[]::new);
+  }
+}
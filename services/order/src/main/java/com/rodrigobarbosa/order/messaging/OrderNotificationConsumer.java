@@ -1,25 +1,79 @@
 package com.rodrigobarbosa.order.messaging;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
 
 @Component
-public class OrderNotificationConsumer {
+public class OrderNotificationConsumer implements MeterBinder {
 
-  private static final Logger log = LoggerFactory.getLogger(OrderNotificationConsumer.class);
+  private final NotificationSink sink;
+  private final MessageConverter messageConverter;
+  private final OrderEventRetrier retrier;
+  private Timer delivered;
+  private Timer retried;
 
-  @RabbitListener(queues = "${app.rabbit.queue}")
-  public void onMessage(OrderStatusChangedEvent event) {
-    // Simulating sending a notification (e.g., email, etc.) to the customer about the order status
-    // change
-    log.info(
-        "NOTIFICATION: customer={} customerId={} orderId={} newStatus={} occurredAt={}",
-        event.customerName(),
-        event.customerId(),
-        event.orderId(),
-        event.status(),
-        event.occurredAt());
+  public OrderNotificationConsumer(
+      NotificationSink sink, MessageConverter messageConverter, OrderEventRetrier retrier) {
+    this.sink = sink;
+    this.messageConverter = messageConverter;
+    this.retrier = retrier;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    delivered = consumeTimer(registry, "delivered");
+    retried = consumeTimer(registry, "retried");
+  }
+
+  private static Timer consumeTimer(MeterRegistry registry, String result) {
+    return Timer.builder("order.notifications.consume")
+        .description(
+            "Time to handle a batch of order events; retried when it fell back to one by one")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  /**
+   * Receives up to {@code app.rabbit.listener.batch-size} messages at a time; the batch is acked as
+   * a whole once they are all handled. If the sink rejects the batch, events are retried one by one
+   * so only the failing ones go through {@link OrderEventRetrier}; a message that cannot be read is
+   * parked straight away. {@link RabbitMessagingConfig} registers it on each queue this instance
+   * consumes.
+   */
+  public void onMessages(List<Message> messages) {
+    List<Message> readable = new ArrayList<>(messages.size());
+    List<OrderStatusChangedEvent> events = new ArrayList<>(messages.size());
+    for (Message message : messages) {
+      try {
+        message.getMessageProperties().setInferredArgumentType(OrderStatusChangedEvent.class);
+        events.add((OrderStatusChangedEvent) messageConverter.fromMessage(message));
+        readable.add(message);
+      } catch (RuntimeException e) {
+        retrier.park(message, e);
+      }
+    }
+    if (events.isEmpty()) return;
+    long start = System.nanoTime();
+    Timer timer = delivered;
+    try {
+      sink.send(events);
+    } catch (RuntimeException batchFailure) {
+      timer = retried;
+      for (int i = 0; i < events.size(); i++) {
+        try {
+          sink.send(List.of(events.get(i)));
+        } catch (RuntimeException e) {
+          retrier.retryOrPark(readable.get(i), e);
+        }
+      }
+    }
+    if (timer != null) timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
   }
 }
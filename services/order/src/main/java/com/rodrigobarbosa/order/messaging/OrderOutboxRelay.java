@@ -0,0 +1,190 @@
+package com.rodrigobarbosa.order.messaging;
+
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import com.rodrigobarbosa.order.repo.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the order outboxes: loads pending events in batches, publishes them with confirms and
+ * removes the confirmed ones. Events that are not confirmed stay put and are retried on the next
+ * poll, so delivery is at-least-once; consumers can dedupe on {@code eventId}.
+ *
+ * <p>Only the instance holding the relay lease ({@link OrderRepository#acquireOutboxLease}) polls,
+ * so several order-service instances do not publish the same events. The lease is renewed once half
+ * of {@code leaseTtl} has passed; an instance that stalls past its lease may still finish a batch
+ * the next holder also sends, which at-least-once delivery already allows for.
+ */
+@Component
+public class OrderOutboxRelay implements MeterBinder {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderOutboxRelay.class);
+
+  private final OrderRepository orderRepository;
+  private final OrderEventPublisher publisher;
+  private final int batchSize;
+  private final Duration leaseTtl;
+  private final Clock clock;
+  private final String instanceId = UUID.randomUUID().toString();
+  // Only touched by the scheduler thread.
+  private Instant leaseUntil = Instant.EPOCH;
+
+  // Age of the oldest event seen by the last poll; zero once the outbox is drained.
+  private volatile Duration lag = Duration.ZERO;
+  private Counter published;
+  private Counter failed;
+  private DistributionSummary batchSizes;
+  private Timer publishLatency;
+
+  @Autowired
+  public OrderOutboxRelay(
+      OrderRepository orderRepository,
+      OrderEventPublisher publisher,
+      @Value("${app.outbox.batch-size:100}") int batchSize,
+      @Value("${app.outbox.lease-ttl:10s}") Duration leaseTtl) {
+    this(orderRepository, publisher, batchSize, leaseTtl, Clock.systemUTC());
+  }
+
+  OrderOutboxRelay(
+      OrderRepository orderRepository,
+      OrderEventPublisher publisher,
+      int batchSize,
+      Duration leaseTtl,
+      Clock clock) {
+    this.orderRepository = orderRepository;
+    this.publisher = publisher;
+    this.batchSize = batchSize;
+    this.leaseTtl = leaseTtl;
+    this.clock = clock;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    TimeGauge.builder(
+            "order.outbox.lag", this, TimeUnit.MILLISECONDS, relay -> relay.lag.toMillis())
+        .description("Age of the oldest event waiting in the outbox")
+        .register(registry);
+    published =
+        Counter.builder("order.outbox.events")
+            .tag("result", "published")
+            .description("Outbox events relayed to the broker")
+            .register(registry);
+    failed =
+        Counter.builder("order.outbox.events")
+            .tag("result", "failed")
+            .description("Outbox events relayed to the broker")
+            .register(registry);
+    batchSizes =
+        DistributionSummary.builder("order.outbox.batch.size")
+            .description("Events per relay batch")
+            .register(registry);
+    publishLatency =
+        Timer.builder("order.events.publish")
+            .description("Time to publish a relay batch and collect its broker confirms")
+            .register(registry);
+  }
+
+  @Scheduled(fixedDelayString = "${app.outbox.poll-interval:200ms}")
+  public void relay() {
+    try {
+      while (holdsLease()) {
+        // Keep going while batches come back full; wait for the next poll once caught up.
+        if (relayBatch() < batchSize) break;
+      }
+    } catch (DataAccessException | AmqpException e) {
+      log.warn("Outbox relay failed, will retry: {}", e.getMessage());
+    }
+  }
+
+  /** Whether this instance holds the relay lease, taking or renewing it when due. */
+  boolean holdsLease() {
+    Instant now = clock.instant();
+    if (now.isBefore(leaseUntil.minus(leaseTtl.dividedBy(2)))) return true;
+    if (orderRepository.acquireOutboxLease(instanceId, now, leaseTtl)) {
+      leaseUntil = now.plus(leaseTtl);
+      return true;
+    }
+    leaseUntil = Instant.EPOCH;
+    return false;
+  }
+
+  /** Relays one batch and returns how many events it held. */
+  int relayBatch() {
+    List<Order> orders = orderRepository.findWithPendingEvents(batchSize);
+    List<OrderStatusChangedEvent> events = new ArrayList<>();
+    Map<String, String> orderIdByEvent = new HashMap<>();
+    Instant oldest = null;
+    for (Order order : orders) {
+      for (OutboxEvent pending : order.getOutbox()) {
+        if (events.size() == batchSize) break;
+        events.add(toEvent(order, pending));
+        orderIdByEvent.put(pending.getEventId(), order.getId());
+        if (oldest == null || pending.getOccurredAt().isBefore(oldest)) {
+          oldest = pending.getOccurredAt();
+        }
+      }
+    }
+    lag = oldest == null ? Duration.ZERO : Duration.between(oldest, clock.instant());
+    if (events.isEmpty()) return 0;
+
+    long publishStart = System.nanoTime();
+    Set<String> confirmed = publisher.publishConfirmed(events);
+    long publishNanos = System.nanoTime() - publishStart;
+    Map<String, List<String>> sentByOrder = new HashMap<>();
+    for (String eventId : confirmed) {
+      sentByOrder
+          .computeIfAbsent(orderIdByEvent.get(eventId), id -> new ArrayList<>())
+          .add(eventId);
+    }
+    orderRepository.removeOutboxEvents(sentByOrder);
+
+    if (batchSizes != null) {
+      batchSizes.record(events.size());
+      publishLatency.record(publishNanos, TimeUnit.NANOSECONDS);
+      published.increment(confirmed.size());
+      failed.increment(events.size() - confirmed.size());
+    }
+    // An unconfirmed event would be picked up again straight away; leave it for the next poll.
+    return confirmed.size() == events.size() ? events.size() : 0;
+  }
+
+  private static OrderStatusChangedEvent toEvent(Order order, OutboxEvent pending) {
+    return new OrderStatusChangedEvent(
+        pending.getEventId(),
+        pending.getEventType(),
+        order.getId(),
+        order
+            .getCustomer()
+            .getEmail(), // using email as customer ID until we have a proper customer service
+        order.getCustomer().getFullName(),
+        pending.getStatus().name(),
+        pending.getOccurredAt());
+  }
+
+  Duration lag() {
+    return lag;
+  }
+}
@@ -2,7 +2,11 @@ package com.rodrigobarbosa.order.messaging;
 
 import java.time.Instant;
 
+/**
+ * @param eventId stable across redeliveries: the id of the outbox entry the event was relayed from
+ */
 public record OrderStatusChangedEvent(
+    String eventId,
     String eventType,
     String orderId,
     String customerId, // using email as ID
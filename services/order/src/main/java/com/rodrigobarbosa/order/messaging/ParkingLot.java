@@ -0,0 +1,131 @@
+package com.rodrigobarbosa.order.messaging;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** Inspects and replays the messages {@link OrderEventRetrier} gave up on. */
+@Component
+public class ParkingLot {
+
+  private static final Logger log = LoggerFactory.getLogger(ParkingLot.class);
+
+  public record ParkedEvent(
+      String originalQueue, int retryCount, String lastError, String contentType, String payload) {}
+
+  private final RabbitTemplate rabbitTemplate;
+  private final String parkingLot;
+  private final Duration confirmTimeout;
+
+  public ParkingLot(
+      RabbitTemplate rabbitTemplate,
+      OrderEventRetrier retrier,
+      @Value("${app.rabbit.confirm-timeout:5s}") Duration confirmTimeout) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.parkingLot = retrier.parkingLot();
+    this.confirmTimeout = confirmTimeout;
+  }
+
+  /**
+   * Returns up to {@code limit} parked messages from the head of the queue without consuming them:
+   * they are fetched unacked and then all rejected back in place.
+   */
+  public List<ParkedEvent> list(int limit) {
+    return rabbitTemplate.execute(
+        channel -> {
+          List<ParkedEvent> parked = new ArrayList<>();
+          long lastTag = -1;
+          GetResponse response;
+          while (parked.size() < limit
+              && (response = channel.basicGet(parkingLot, false)) != null) {
+            lastTag = response.getEnvelope().getDeliveryTag();
+            parked.add(toParkedEvent(response));
+          }
+          if (lastTag >= 0) channel.basicNack(lastTag, true, true);
+          return parked;
+        });
+  }
+
+  /**
+   * Moves up to {@code limit} parked messages back to the queue they came from with a fresh retry
+   * budget. The fetched messages are acked only once the broker has confirmed every republish; if a
+   * confirm is nacked or times out, the channel is closed and they all return to the parking lot
+   * (some may then exist twice). Messages without an {@value OrderEventRetrier#ORIGINAL_QUEUE}
+   * header are parked again at the tail; only the messages parked when the call starts are looked
+   * at, so those are not fetched twice.
+   */
+  public int replay(int limit) {
+    Integer replayed =
+        rabbitTemplate.execute(
+            channel -> {
+              channel.confirmSelect();
+              int count = 0;
+              long lastTag = -1;
+              long remaining = channel.messageCount(parkingLot);
+              GetResponse response;
+              while (count < limit
+                  && remaining-- > 0
+                  && (response = channel.basicGet(parkingLot, false)) != null) {
+                lastTag = response.getEnvelope().getDeliveryTag();
+                AMQP.BasicProperties props = response.getProps();
+                Map<String, Object> headers =
+                    new HashMap<>(props.getHeaders() == null ? Map.of() : props.getHeaders());
+                Object originalQueue = headers.remove(OrderEventRetrier.ORIGINAL_QUEUE);
+                headers.remove(OrderEventRetrier.RETRY_COUNT);
+                headers.remove(OrderEventRetrier.LAST_ERROR);
+                headers.remove("x-death");
+                if (originalQueue == null) {
+                  // Nowhere to send it back to; park it again behind the others.
+                  channel.basicPublish("", parkingLot, props, response.getBody());
+                  log.warn("Skipped parked message without {}", OrderEventRetrier.ORIGINAL_QUEUE);
+                  continue;
+                }
+                channel.basicPublish(
+                    "",
+                    originalQueue.toString(),
+                    props.builder().headers(headers).build(),
+                    response.getBody());
+                count++;
+              }
+              if (lastTag >= 0) {
+                channel.waitForConfirmsOrDie(confirmTimeout.toMillis());
+                channel.basicAck(lastTag, true);
+              }
+              return count;
+            });
+    log.info("Replayed {} parked order events", replayed);
+    return replayed == null ? 0 : replayed;
+  }
+
+  /** JSON payloads as text, anything else (e.g. CBOR) base64-encoded. */
+  private static String payload(String contentType, byte[] body) {
+    if (contentType != null && contentType.contains("json")) {
+      return new String(body, StandardCharsets.UTF_8);
+    }
+    return Base64.getEncoder().encodeToString(body);
+  }
+
+  private static ParkedEvent toParkedEvent(GetResponse response) {
+    AMQP.BasicProperties props = response.getProps();
+    Map<String, Object> headers = props.getHeaders() == null ? Map.of() : props.getHeaders();
+    Object originalQueue = headers.get(OrderEventRetrier.ORIGINAL_QUEUE);
+    Object lastError = headers.get(OrderEventRetrier.LAST_ERROR);
+    return new ParkedEvent(
+        originalQueue == null ? null : originalQueue.toString(),
+        headers.get(OrderEventRetrier.RETRY_COUNT) instanceof Number n ? n.intValue() : 0,
+        lastError == null ? null : lastError.toString(),
+        props.getContentType(),
+        payload(props.getContentType(), response.getBody()));
+  }
+}
@@ -1,14 +1,30 @@
 package com.rodrigobarbosa.order.messaging;
 
-import org.springframework.amqp.core.Binding;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.amqp.core.BatchMessageListener;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.amqp.autoconfigure.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration(proxyBeanMethods = false)
 public class RabbitMessagingConfig {
@@ -18,21 +34,155 @@ public class RabbitMessagingConfig {
     return new DirectExchange(exchange, true, false);
   }
 
+  /**
+   * The notification queue and its binding, or one single-active-consumer queue per partition (see
+   * {@link OrderEventRouting}).
+   */
   @Bean
-  public Queue orderNotificationsQueue(@Value("${app.rabbit.queue}") String queue) {
-    return new Queue(queue, true);
+  public Declarables orderNotificationsTopology(
+      OrderEventRouting routing,
+      DirectExchange orderEventsExchange,
+      @Value("${app.rabbit.queue}") String queue,
+      @Value("${app.rabbit.routing-key}") String routingKey) {
+    List<Declarable> declarables = new ArrayList<>();
+    if (!routing.partitioned()) {
+      Queue notifications = new Queue(queue, true);
+      declarables.add(notifications);
+      declarables.add(BindingBuilder.bind(notifications).to(orderEventsExchange).with(routingKey));
+      return new Declarables(declarables);
+    }
+    for (int partition = 0; partition < routing.partitions(); partition++) {
+      Queue partitionQueue =
+          QueueBuilder.durable(routing.partitionQueue(partition)).singleActiveConsumer().build();
+      declarables.add(partitionQueue);
+      declarables.add(
+          BindingBuilder.bind(partitionQueue)
+              .to(orderEventsExchange)
+              .with(routing.partitionRoutingKey(partition)));
+    }
+    return new Declarables(declarables);
   }
 
+  /**
+   * Delay tiers and parking lot for {@link OrderEventRetrier}: {@code <queue>.retry.<n>} holds a
+   * message for {@code delays[n]} and then dead-letters it back to {@code <queue>} through the
+   * default exchange. Nothing consumes the retry queues.
+   */
   @Bean
-  public Binding orderStatusChangedBinding(
-      Queue orderNotificationsQueue,
-      DirectExchange orderEventsExchange,
-      @Value("${app.rabbit.routing-key}") String routingKey) {
-    return BindingBuilder.bind(orderNotificationsQueue).to(orderEventsExchange).with(routingKey);
+  public Declarables orderNotificationsRetryTopology(
+      OrderEventRouting routing, OrderEventRetrier retrier) {
+    List<Declarable> declarables = new ArrayList<>();
+    for (String queue : routing.queueNames()) {
+      for (int tier = 0; tier < retrier.delays().size(); tier++) {
+        declarables.add(
+            QueueBuilder.durable(OrderEventRetrier.retryQueue(queue, tier))
+                .ttl((int) retrier.delays().get(tier).toMillis())
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(queue)
+                .build());
+      }
+    }
+    declarables.add(QueueBuilder.durable(retrier.parkingLot()).build());
+    return new Declarables(declarables);
+  }
+
+  /**
+   * Batch listener for {@link OrderNotificationConsumer}: events are delivered and acked in batches
+   * of up to {@code batch-size}, collected for at most {@code receive-timeout}.
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory notificationListenerContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory,
+      @Value("${app.rabbit.listener.prefetch:250}") int prefetch,
+      @Value("${app.rabbit.listener.batch-size:50}") int batchSize,
+      @Value("${app.rabbit.listener.receive-timeout:1s}") Duration receiveTimeout,
+      @Value("${app.rabbit.listener.concurrency:1}") int concurrency,
+      @Value("${app.rabbit.listener.max-concurrency:4}") int maxConcurrency) {
+    SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    configurer.configure(factory, connectionFactory);
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(batchSize);
+    factory.setReceiveTimeout(receiveTimeout.toMillis());
+    // receiveTimeout alone applies per message, so a partial batch could wait batchSize times it.
+    factory.setBatchReceiveTimeout(receiveTimeout.toMillis());
+    factory.setPrefetchCount(Math.max(prefetch, batchSize));
+    factory.setConcurrentConsumers(concurrency);
+    factory.setMaxConcurrentConsumers(Math.max(concurrency, maxConcurrency));
+    return factory;
   }
 
+  /**
+   * Runs {@link OrderNotificationConsumer} on the queues this instance consumes. Partition queues
+   * get one container each with a single consumer: their single active consumer would leave any
+   * other consumer idle, and a shared container would make one consumer active on all of them.
+   */
   @Bean
-  public MessageConverter jacksonMessageConverter() {
-    return new JacksonJsonMessageConverter();
+  public RabbitListenerConfigurer orderNotificationListeners(
+      OrderEventRouting routing,
+      OrderNotificationConsumer consumer,
+      SimpleRabbitListenerContainerFactory notificationListenerContainerFactory) {
+    BatchMessageListener listener = consumer::onMessages;
+    return registrar -> {
+      for (String queue : routing.ownedQueueNames()) {
+        SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+        endpoint.setId(queue);
+        endpoint.setQueueNames(queue);
+        endpoint.setMessageListener(listener);
+        if (routing.partitioned()) endpoint.setConcurrency("1");
+        registrar.registerEndpoint(endpoint, notificationListenerContainerFactory);
+      }
+    };
+  }
+
+  /**
+   * Replaces the synchronous {@link RabbitOrderEventPublisher} when {@code
+   * app.rabbit.publisher.mode=async}.
+   */
+  @Bean(initMethod = "start")
+  @Primary
+  @ConditionalOnProperty(name = "app.rabbit.publisher.mode", havingValue = "async")
+  public AsyncOrderEventPublisher asyncOrderEventPublisher(
+      RabbitTemplate rabbitTemplate,
+      OrderEventRouting routing,
+      @Value("${app.rabbit.publisher.capacity:10000}") int capacity,
+      @Value("${app.rabbit.publisher.batch-size:100}") int batchSize,
+      @Value("${app.rabbit.publisher.max-in-flight:1000}") int maxInFlight,
+      @Value("${app.rabbit.publisher.max-attempts:3}") int maxAttempts,
+      @Value("${app.rabbit.confirm-timeout:5s}") Duration confirmTimeout,
+      @Value("${app.rabbit.publisher.queue-full-policy:block}")
+          AsyncOrderEventPublisher.QueueFullPolicy queueFullPolicy) {
+    return new AsyncOrderEventPublisher(
+        rabbitTemplate,
+        routing,
+        capacity,
+        batchSize,
+        maxInFlight,
+        maxAttempts,
+        confirmTimeout,
+        queueFullPolicy);
+  }
+
+  /**
+   * Reads JSON and CBOR alike, picked by each message's {@code content_type}; writes {@code
+   * app.rabbit.serialization}. Consumers therefore keep working while publishers switch format.
+   */
+  @Bean
+  public MessageConverter orderEventMessageConverter(
+      @Value("${app.rabbit.serialization:json}") Serialization serialization) {
+    JacksonJsonMessageConverter json = new JacksonJsonMessageConverter();
+    JacksonCborMessageConverter cbor = new JacksonCborMessageConverter();
+    ContentTypeDelegatingMessageConverter converter =
+        new ContentTypeDelegatingMessageConverter(
+            serialization == Serialization.CBOR ? cbor : json);
+    converter.addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+    converter.addDelegate(JacksonCborMessageConverter.CONTENT_TYPE_CBOR, cbor);
+    return converter;
+  }
+
+  public enum Serialization {
+    JSON,
+    CBOR
   }
 }
@@ -1,7 +1,16 @@
 package com.rodrigobarbosa.order.messaging;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -12,25 +21,70 @@ public class RabbitOrderEventPublisher implements OrderEventPublisher {
   private static final Logger log = LoggerFactory.getLogger(RabbitOrderEventPublisher.class);
 
   private final RabbitTemplate rabbitTemplate;
-  private final String exchange;
-  private final String routingKey;
+  private final OrderEventRouting routing;
+  private final Duration confirmTimeout;
 
   public RabbitOrderEventPublisher(
       RabbitTemplate rabbitTemplate,
-      @Value("${app.rabbit.exchange}") String exchange,
-      @Value("${app.rabbit.routing-key}") String routingKey) {
+      OrderEventRouting routing,
+      @Value("${app.rabbit.confirm-timeout:5s}") Duration confirmTimeout) {
     this.rabbitTemplate = rabbitTemplate;
-    this.exchange = exchange;
-    this.routingKey = routingKey;
+    this.routing = routing;
+    this.confirmTimeout = confirmTimeout;
   }
 
   @Override
   public void publish(OrderStatusChangedEvent event) {
-    rabbitTemplate.convertAndSend(exchange, routingKey, event);
-    log.info(
+    rabbitTemplate.convertAndSend(routing.exchange(), routing.routingKey(event.orderId()), event);
+    log.debug(
         "Published eventType={} orderId={} status={}",
         event.eventType(),
         event.orderId(),
         event.status());
   }
+
+  @Override
+  public Set<String> publishConfirmed(List<OrderStatusChangedEvent> events) {
+    // Send the whole batch first, then collect the confirms: one round trip per batch, not per
+    // event. Requires spring.rabbitmq.publisher-confirm-type=correlated.
+    List<CorrelationData> sent = new ArrayList<>(events.size());
+    for (OrderStatusChangedEvent event : events) {
+      CorrelationData correlation = new CorrelationData(event.eventId());
+      rabbitTemplate.convertAndSend(
+          routing.exchange(), routing.routingKey(event.orderId()), event, correlation);
+      sent.add(correlation);
+    }
+
+    Set<String> confirmed = new HashSet<>();
+    long deadline = System.nanoTime() + confirmTimeout.toNanos();
+    for (int i = 0; i < sent.size(); i++) {
+      CorrelationData correlation = sent.get(i);
+      try {
+        CorrelationData.Confirm confirm =
+            correlation
+                .getFuture()
+                .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        if (confirm.ack() && correlation.getReturned() == null) {
+          confirmed.add(correlation.getId());
+          OrderStatusChangedEvent event = events.get(i);
+          log.debug(
+              "Published eventType={} orderId={} status={}",
+              event.eventType(),
+              event.orderId(),
+              event.status());
+        } else {
+          log.warn(
+              "Event not accepted by broker eventId={} reason={}",
+              correlation.getId(),
+              confirm.ack() ? "returned (unroutable)" : confirm.reason());
+        }
+      } catch (TimeoutException | ExecutionException e) {
+        log.warn("No confirm for eventId={}: {}", correlation.getId(), e.toString());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    return confirmed;
+  }
 }
@@ -0,0 +1,19 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What {@link OrderRepositoryCustom#updateStatuses} did.
+ *
+ * @param applied ids of the orders whose change was written
+ * @param current the status of every other order read back after the write; an order missing here
+ *     no longer exists
+ */
+public record BulkStatusResult(Set<String> applied, Map<String, OrderStatus> current) {
+
+  public static BulkStatusResult allApplied(Set<String> ids) {
+    return new BulkStatusResult(ids, Map.of());
+  }
+}
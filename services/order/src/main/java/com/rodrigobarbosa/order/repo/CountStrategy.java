@@ -0,0 +1,11 @@
+package com.rodrigobarbosa.order.repo;
+
+/** How list endpoints compute {@code totalRecords}. */
+public enum CountStrategy {
+  /** {@code count} over the collection on every request. */
+  EXACT,
+  /** Exact count, reused for {@code app.pagination.count-cache-ttl}. */
+  CACHED,
+  /** {@code estimatedDocumentCount}: read from collection metadata, no scan. */
+  ESTIMATED
+}
@@ -0,0 +1,71 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.Money;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderItem;
+import java.util.List;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeSaveCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Writes the amounts of every saved order from its getters, so an order still read from its decimal
+ * fields is saved with the right cents. The decimal {@code totalAmount} and {@code
+ * orderItems.price} are written next to the cents, so that instances predating them can read orders
+ * written by newer ones, or removed once {@link LegacyMoneyFields#DROP} is set (see {@link
+ * OrderMoneyMigration}). {@link Reactive} does the same for the reactive template.
+ */
+@Component
+public class LegacyAmountsCallback implements BeforeSaveCallback<Order> {
+
+  private final LegacyMoneyFields legacyFields;
+
+  public LegacyAmountsCallback(
+      @Value("${app.money.legacy-fields:dual-write}") LegacyMoneyFields legacyFields) {
+    this.legacyFields = legacyFields;
+  }
+
+  @Override
+  public Order onBeforeSave(Order order, Document document, String collection) {
+    put(document, "totalAmountCents", "totalAmount", order.getTotalAmountCents());
+    List<Document> itemDocuments = document.getList("orderItems", Document.class);
+    List<OrderItem> items = order.getOrderItems();
+    if (itemDocuments != null && items != null) {
+      for (int i = 0; i < itemDocuments.size(); i++) {
+        put(itemDocuments.get(i), "priceCents", "price", items.get(i).getPriceCents());
+      }
+    }
+    return order;
+  }
+
+  @Component
+  @Profile("reactive")
+  public static class Reactive implements ReactiveBeforeSaveCallback<Order> {
+
+    private final LegacyAmountsCallback delegate;
+
+    public Reactive(LegacyAmountsCallback delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Publisher<Order> onBeforeSave(Order order, Document document, String collection) {
+      return Mono.just(delegate.onBeforeSave(order, document, collection));
+    }
+  }
+
+  private void put(Document document, String centsField, String legacyField, long cents) {
+    document.put(centsField, cents);
+    if (legacyFields == LegacyMoneyFields.DROP) {
+      document.remove(legacyField);
+    } else {
+      document.put(legacyField, new Decimal128(Money.toDecimal(cents)));
+    }
+  }
+}
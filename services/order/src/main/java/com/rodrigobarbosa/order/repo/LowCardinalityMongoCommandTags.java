@@ -0,0 +1,26 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.mongodb.event.CommandEvent;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.mongodb.DefaultMongoCommandTagsProvider;
+import java.util.Set;
+
+/**
+ * Tags {@code mongodb.driver.commands} (Boot's {@code MongoMetricsCommandListener}) with {@code
+ * command}, {@code database}, {@code collection} and {@code status} only. The default provider adds
+ * {@code cluster.id}, which is new for every client instance, and {@code server.address}; both
+ * multiply the series per restart and per replica-set member without helping to spot a slow
+ * command.
+ */
+public class LowCardinalityMongoCommandTags extends DefaultMongoCommandTagsProvider {
+
+  private static final Set<String> DROPPED = Set.of("cluster.id", "server.address");
+
+  @Override
+  public Iterable<Tag> commandTags(CommandEvent event) {
+    return Tags.of(super.commandTags(event)).stream()
+        .filter(tag -> !DROPPED.contains(tag.getKey()))
+        .toList();
+  }
+}
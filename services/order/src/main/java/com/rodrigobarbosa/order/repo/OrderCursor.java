@@ -0,0 +1,41 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.Order;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keyset position in the order history (newest first): the next page holds the orders strictly
+ * after ({@code createdAt}, {@code id}). Clients only see it as an opaque URL-safe token.
+ */
+public record OrderCursor(Instant createdAt, String id) {
+
+  public static OrderCursor of(Order order) {
+    return new OrderCursor(order.getCreatedAt(), order.getId());
+  }
+
+  public String encode() {
+    String raw = createdAt.toEpochMilli() + ":" + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+   */
+  public static OrderCursor decode(String token) {
+    String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    int separator = raw.indexOf(':');
+    if (separator <= 0 || separator == raw.length() - 1) {
+      throw new IllegalArgumentException("Malformed cursor");
+    }
+    try {
+      long epochMilli = Long.parseLong(raw.substring(0, separator));
+      return new OrderCursor(Instant.ofEpochMilli(epochMilli), raw.substring(separator + 1));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Malformed cursor", e);
+    }
+  }
+}
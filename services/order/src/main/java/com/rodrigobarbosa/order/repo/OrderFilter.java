@@ -0,0 +1,12 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import java.time.Instant;
+
+/**
+ * Selects orders by status and creation time; null fields do not filter.
+ *
+ * @param from inclusive lower bound on {@code createdAt}
+ * @param to exclusive upper bound on {@code createdAt}
+ */
+public record OrderFilter(OrderStatus status, Instant from, Instant to) {}
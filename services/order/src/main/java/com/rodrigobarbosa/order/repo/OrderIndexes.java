@@ -0,0 +1,55 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes the order queries rely on. Runs in the background and retries until Mongo is
+ * reachable, so startup does not depend on the database being up.
+ */
+@Component
+public class OrderIndexes {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderIndexes.class);
+
+  private final MongoTemplate mongoTemplate;
+  private volatile boolean created;
+
+  public OrderIndexes(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  @Scheduled(fixedDelayString = "PT30S")
+  public void ensureIndexes() {
+    if (created) return;
+    try {
+      IndexOperations indexOps = mongoTemplate.indexOps(Order.class);
+      // Keyset pagination of the order history (newest first).
+      indexOps.createIndex(
+          new Index()
+              .on("createdAt", Sort.Direction.DESC)
+              .on("_id", Sort.Direction.DESC)
+              .named("createdAt_-1__id_-1"));
+      // Outbox relay: only orders with pending events are indexed, so the index stays tiny.
+      indexOps.createIndex(
+          new Index()
+              .on("outbox.occurredAt", Sort.Direction.ASC)
+              .partial(PartialIndexFilter.of(Criteria.where("outbox.occurredAt").exists(true)))
+              .named("outbox.occurredAt_1"));
+      created = true;
+      log.info("Order indexes ensured");
+    } catch (DataAccessException e) {
+      log.warn("Could not create order indexes, will retry: {}", e.getMessage());
+    }
+  }
+}
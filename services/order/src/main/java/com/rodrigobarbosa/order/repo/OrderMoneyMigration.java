@@ -0,0 +1,123 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.mongodb.client.result.UpdateResult;
+import com.rodrigobarbosa.order.domain.Order;
+import java.util.List;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds whole cents ({@code totalAmountCents}, {@code orderItems.priceCents}) to orders stored with
+ * decimal amounts ({@code totalAmount}, {@code orderItems.price}) with one pipeline update, so
+ * Mongo does the conversion and no document is read into the service. {@link Order} reads the
+ * decimal fields only while it has no cents.
+ *
+ * <p>By default ({@link LegacyMoneyFields#DUAL_WRITE}) the decimal fields are kept, and {@link
+ * LegacyAmountsCallback} keeps writing them, so instances without the cents fields keep working and
+ * a rollback is possible. Only with {@link LegacyMoneyFields#DROP}, set once every instance reads
+ * cents, does the pass remove them.
+ *
+ * <p>Runs in the background like {@link OrderIndexes} and keeps checking until a pass finds nothing
+ * left to do, which also picks up orders written by older instances during a rolling deploy.
+ */
+@Component
+public class OrderMoneyMigration {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderMoneyMigration.class);
+
+  static final Bson LEGACY =
+      new Document(
+          "$or",
+          List.of(
+              new Document("totalAmount", new Document("$exists", true)),
+              new Document("orderItems.price", new Document("$exists", true))));
+
+  static final List<Bson> TO_CENTS =
+      List.of(
+          new Document(
+              "$set",
+              new Document("totalAmountCents", cents("$totalAmount", "$totalAmountCents"))
+                  .append(
+                      "orderItems",
+                      new Document(
+                          "$map",
+                          new Document("input", "$orderItems")
+                              .append("as", "item")
+                              .append(
+                                  "in",
+                                  new Document(
+                                      "$mergeObjects",
+                                      List.of(
+                                          "$$item",
+                                          new Document(
+                                              "priceCents",
+                                              cents("$$item.price", "$$item.priceCents")))))))));
+
+  /** {@link #TO_CENTS}, then the decimal fields are removed in the same update. */
+  static final List<Bson> DROP_LEGACY =
+      List.of(
+          TO_CENTS.getFirst(), new Document("$unset", List.of("totalAmount", "orderItems.price")));
+
+  private final MongoTemplate mongoTemplate;
+  private final LegacyMoneyFields legacyFields;
+  private volatile boolean done;
+
+  public OrderMoneyMigration(
+      MongoTemplate mongoTemplate,
+      @Value("${app.money.legacy-fields:dual-write}") LegacyMoneyFields legacyFields) {
+    this.mongoTemplate = mongoTemplate;
+    this.legacyFields = legacyFields;
+  }
+
+  @Scheduled(fixedDelayString = "PT30S")
+  public void migrate() {
+    if (done) return;
+    boolean drop = legacyFields == LegacyMoneyFields.DROP;
+    List<Bson> pipeline = drop ? DROP_LEGACY : TO_CENTS;
+    try {
+      UpdateResult result =
+          mongoTemplate.execute(Order.class, orders -> orders.updateMany(LEGACY, pipeline));
+      // Kept decimal fields keep matching; a pass that changes nothing means all cents are current.
+      if (drop ? result.getMatchedCount() == 0 : result.getModifiedCount() == 0) {
+        done = true;
+        log.info("Order amounts are stored in cents");
+      } else {
+        log.info("Converted {} orders to amounts in cents", result.getModifiedCount());
+      }
+    } catch (DataAccessException e) {
+      log.warn("Could not convert order amounts to cents, will retry: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Whole cents of the decimal at {@code legacy} (Decimal128 or string, rounded half-even like
+   * {@code Money.toCents}) when it is present, otherwise the value already at {@code current}.
+   */
+  static Document cents(String legacy, String current) {
+    Document converted =
+        new Document(
+            "$toLong",
+            new Document(
+                "$round",
+                List.of(
+                    new Document(
+                        "$multiply",
+                        List.of(
+                            new Document("$toDecimal", new Document("$ifNull", List.of(legacy, 0))),
+                            100)),
+                    0)));
+    return new Document(
+        "$cond",
+        List.of(
+            new Document("$ne", List.of(new Document("$type", legacy), "missing")),
+            converted,
+            current));
+  }
+}
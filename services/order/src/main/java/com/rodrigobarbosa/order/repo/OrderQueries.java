@@ -0,0 +1,107 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OrderStatusTransition;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/** Queries and updates shared by the blocking and the reactive order repositories. */
+final class OrderQueries {
+
+  // Stable total order for paging, served by the (createdAt, _id) index.
+  static final Sort NEWEST_FIRST =
+      Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+
+  private OrderQueries() {}
+
+  static Query page(long offset, int limit) {
+    return new Query().with(NEWEST_FIRST).skip(offset).limit(limit);
+  }
+
+  static Query after(OrderCursor cursor, int limit) {
+    Query query = new Query();
+    if (cursor != null) {
+      query.addCriteria(
+          new Criteria()
+              .orOperator(
+                  Criteria.where("createdAt").lt(cursor.createdAt()),
+                  Criteria.where("createdAt").is(cursor.createdAt()).and("id").lt(cursor.id())));
+    }
+    return query.with(NEWEST_FIRST).limit(limit);
+  }
+
+  /** Matches the order only while its status allows a move to {@code status}. */
+  static Query statusGuard(String id, OrderStatus status) {
+    return Query.query(
+        Criteria.where("id")
+            .is(id)
+            .and("orderStatus")
+            .in(OrderStatusTransition.allowedSources(status)));
+  }
+
+  static Update statusUpdate(OrderStatus status, Instant updatedAt, OutboxEvent event) {
+    return new Update()
+        .set("orderStatus", status)
+        .set("updatedAt", updatedAt)
+        .push("outbox", event);
+  }
+
+  /** {@link #statusUpdate}, also recording the pushed event's id for {@link #readBack}. */
+  static Update bulkStatusUpdate(StatusChange change, Instant updatedAt) {
+    return statusUpdate(change.to(), updatedAt, change.event())
+        .set("statusEventId", change.event().getEventId());
+  }
+
+  /** Loads nothing but {@code orderStatus} (and the id) of the given orders. */
+  static Query statusesOf(Collection<String> ids) {
+    Query query = Query.query(Criteria.where("id").in(ids));
+    query.fields().include("orderStatus");
+    return query;
+  }
+
+  /** Guard for one entry of a bulk status update: the order must still be in {@code from}. */
+  static Query bulkStatusGuard(StatusChange change) {
+    return Query.query(
+        Criteria.where("id").is(change.orderId()).and("orderStatus").is(change.from()));
+  }
+
+  /** Loads {@code orderStatus} and {@code statusEventId} of the given orders. */
+  static Query statusEventsOf(Collection<String> ids) {
+    Query query = Query.query(Criteria.where("id").in(ids));
+    query.fields().include("orderStatus", "statusEventId");
+    return query;
+  }
+
+  /**
+   * Splits a partially matched bulk status update: a change was applied iff the order now carries
+   * the id of the event that change pushed.
+   */
+  static BulkStatusResult readBack(List<StatusChange> changes, List<Order> orders) {
+    Map<String, String> eventIds = new HashMap<>();
+    for (StatusChange change : changes) {
+      eventIds.put(change.orderId(), change.event().getEventId());
+    }
+    Set<String> applied = new HashSet<>();
+    Map<String, OrderStatus> current = new HashMap<>();
+    for (Order order : orders) {
+      if (Objects.equals(order.getStatusEventId(), eventIds.get(order.getId()))) {
+        applied.add(order.getId());
+      } else {
+        current.put(order.getId(), order.getOrderStatus());
+      }
+    }
+    return new BulkStatusResult(applied, current);
+  }
+}
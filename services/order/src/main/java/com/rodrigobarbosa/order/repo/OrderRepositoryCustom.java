@@ -1,10 +1,72 @@
 package com.rodrigobarbosa.order.repo;
 
 import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface OrderRepositoryCustom {
   List<Order> findWithOffsetLimit(long offset, int size);
 
-  long totalRecords();
+  /** Orders after {@code cursor} (newest first); from the newest order when it is null. */
+  List<Order> findAfter(OrderCursor cursor, int limit);
+
+  /**
+   * All orders matching {@code filter}, oldest first, read lazily from a single cursor. The outbox
+   * is not loaded. The caller must close the stream.
+   */
+  Stream<Order> streamOrders(OrderFilter filter);
+
+  /**
+   * Inserts {@code orders} in one unordered bulk write, so a document that fails does not stop the
+   * ones after it. Ids are assigned to the orders before the write.
+   *
+   * @return error message by index into {@code orders} for the documents that were not written
+   */
+  Map<Integer, String> insertUnordered(List<Order> orders);
+
+  /** Total number of documents, computed according to {@code app.pagination.count-strategy}. */
+  TotalCount totalRecords();
+
+  /**
+   * Moves the order to {@code status} in a single conditional {@code findAndModify}, provided its
+   * current status allows it (see {@code OrderStatusTransition}). Only {@code orderStatus} and
+   * {@code updatedAt} are written, and {@code event} is appended to the order's outbox in the same
+   * atomic update.
+   */
+  StatusUpdateResult updateStatus(
+      String id, OrderStatus status, Instant updatedAt, OutboxEvent event);
+
+  /** Current status of each existing order among {@code ids}; missing orders are absent. */
+  Map<String, OrderStatus> findStatuses(Collection<String> ids);
+
+  /**
+   * Applies all {@code changes} in one unordered bulk write. Each update only matches while the
+   * order is still in {@code from}, so a concurrent change makes it a no-op instead of overwriting.
+   *
+   * @return the orders that were updated, and the current status of the others
+   */
+  BulkStatusResult updateStatuses(List<StatusChange> changes, Instant updatedAt);
+
+  /**
+   * Orders with outbox events, oldest event first. Only {@code customer} and {@code outbox} are
+   * loaded.
+   */
+  List<Order> findWithPendingEvents(int limit);
+
+  /** Removes relayed events from the outboxes, keyed by order id, in one unordered bulk write. */
+  void removeOutboxEvents(Map<String, ? extends Collection<String>> eventIdsByOrder);
+
+  /**
+   * Takes or renews the outbox relay lease for {@code owner} until {@code now + ttl}, with one
+   * findAndModify on a single lease document. Fails while another owner holds an unexpired lease.
+   *
+   * @return whether {@code owner} now holds the lease
+   */
+  boolean acquireOutboxLease(String owner, Instant now, Duration ttl);
 }
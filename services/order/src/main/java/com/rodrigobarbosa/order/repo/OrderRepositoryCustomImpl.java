@@ -1,28 +1,219 @@
 package com.rodrigobarbosa.order.repo;
 
+import com.mongodb.bulk.BulkWriteError;
 import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
 
+  private static final int EXPORT_BATCH_SIZE = 500;
+  static final String LEASES = "leases";
+  static final String OUTBOX_LEASE = "order-outbox-relay";
+
   private final MongoTemplate mongoTemplate;
+  private final CountStrategy countStrategy;
+  private final Duration countCacheTtl;
+  private volatile CachedCount cachedCount;
 
-  public OrderRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+  public OrderRepositoryCustomImpl(
+      MongoTemplate mongoTemplate,
+      @Value("${app.pagination.count-strategy:exact}") CountStrategy countStrategy,
+      @Value("${app.pagination.count-cache-ttl:5s}") Duration countCacheTtl) {
     this.mongoTemplate = mongoTemplate;
+    this.countStrategy = countStrategy;
+    this.countCacheTtl = countCacheTtl;
   }
 
   @Override
   public List<Order> findWithOffsetLimit(long offset, int limit) {
-    Query query = new Query().skip(offset).limit(limit);
+    return mongoTemplate.find(OrderQueries.page(offset, limit), Order.class);
+  }
+
+  @Override
+  public List<Order> findAfter(OrderCursor cursor, int limit) {
+    return mongoTemplate.find(OrderQueries.after(cursor, limit), Order.class);
+  }
+
+  @Override
+  public Stream<Order> streamOrders(OrderFilter filter) {
+    Query query = new Query();
+    if (filter.status() != null) {
+      query.addCriteria(Criteria.where("orderStatus").is(filter.status()));
+    }
+    if (filter.from() != null || filter.to() != null) {
+      Criteria createdAt = Criteria.where("createdAt");
+      if (filter.from() != null) createdAt.gte(filter.from());
+      if (filter.to() != null) createdAt.lt(filter.to());
+      query.addCriteria(createdAt);
+    }
+    query.fields().exclude("outbox");
+    // Oldest first: the (createdAt, _id) index walked backwards.
+    query
+        .with(Sort.by(Sort.Direction.ASC, "createdAt").and(Sort.by(Sort.Direction.ASC, "id")))
+        .cursorBatchSize(EXPORT_BATCH_SIZE);
+    return mongoTemplate.stream(query, Order.class);
+  }
+
+  @Override
+  public StatusUpdateResult updateStatus(
+      String id, OrderStatus status, Instant updatedAt, OutboxEvent event) {
+    Order updated =
+        mongoTemplate.findAndModify(
+            OrderQueries.statusGuard(id, status),
+            OrderQueries.statusUpdate(status, updatedAt, event),
+            FindAndModifyOptions.options().returnNew(true),
+            Order.class);
+    if (updated != null) {
+      return new StatusUpdateResult.Updated(updated);
+    }
+    // No match: tell a missing order from a disallowed transition with a status-only read.
+    Order current = mongoTemplate.findOne(OrderQueries.statusesOf(List.of(id)), Order.class);
+    return current == null
+        ? new StatusUpdateResult.NotFound()
+        : new StatusUpdateResult.Rejected(current.getOrderStatus());
+  }
+
+  @Override
+  public Map<String, OrderStatus> findStatuses(Collection<String> ids) {
+    Map<String, OrderStatus> statuses = new HashMap<>();
+    for (Order order : mongoTemplate.find(OrderQueries.statusesOf(ids), Order.class)) {
+      statuses.put(order.getId(), order.getOrderStatus());
+    }
+    return statuses;
+  }
+
+  @Override
+  public BulkStatusResult updateStatuses(List<StatusChange> changes, Instant updatedAt) {
+    if (changes.isEmpty()) return BulkStatusResult.allApplied(Set.of());
+    BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class);
+    for (StatusChange change : changes) {
+      bulk.updateOne(
+          OrderQueries.bulkStatusGuard(change), OrderQueries.bulkStatusUpdate(change, updatedAt));
+    }
+    Set<String> ids = changes.stream().map(StatusChange::orderId).collect(Collectors.toSet());
+    if (bulk.execute().getMatchedCount() == changes.size()) {
+      return BulkStatusResult.allApplied(ids);
+    }
+    // Some guards missed (concurrent change): read back which changes landed, and the rest's
+    // status.
+    return OrderQueries.readBack(
+        changes, mongoTemplate.find(OrderQueries.statusEventsOf(ids), Order.class));
+  }
+
+  @Override
+  public Map<Integer, String> insertUnordered(List<Order> orders) {
+    if (orders.isEmpty()) return Map.of();
+    for (Order order : orders) {
+      if (order.getId() == null) order.setId(new ObjectId().toHexString());
+    }
+    try {
+      mongoTemplate
+          .bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class)
+          .insert(orders)
+          .execute();
+      return Map.of();
+    } catch (BulkOperationException e) {
+      // Only write errors are per document; a write concern error leaves every outcome unknown.
+      if (e.getErrors().isEmpty()) throw e;
+      Map<Integer, String> failed = new HashMap<>();
+      for (BulkWriteError error : e.getErrors()) {
+        failed.put(error.getIndex(), error.getMessage());
+      }
+      return failed;
+    }
+  }
+
+  @Override
+  public List<Order> findWithPendingEvents(int limit) {
+    // Same predicate as the partial outbox index (see OrderIndexes).
+    Query query =
+        Query.query(Criteria.where("outbox.occurredAt").exists(true))
+            .with(Sort.by(Sort.Direction.ASC, "outbox.occurredAt"))
+            .limit(limit);
+    query.fields().include("customer", "outbox");
     return mongoTemplate.find(query, Order.class);
   }
 
   @Override
-  public long totalRecords() {
-    return mongoTemplate.count(new Query(), Order.class);
+  public void removeOutboxEvents(Map<String, ? extends Collection<String>> eventIdsByOrder) {
+    if (eventIdsByOrder.isEmpty()) return;
+    BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class);
+    eventIdsByOrder.forEach(
+        (orderId, eventIds) ->
+            bulk.updateOne(
+                Query.query(Criteria.where("id").is(orderId)),
+                new Update()
+                    .pull("outbox", new Document("eventId", new Document("$in", eventIds)))));
+    bulk.execute();
   }
+
+  @Override
+  public boolean acquireOutboxLease(String owner, Instant now, Duration ttl) {
+    Query query =
+        Query.query(
+            Criteria.where("_id")
+                .is(OUTBOX_LEASE)
+                .orOperator(
+                    Criteria.where("owner").is(owner), Criteria.where("leaseUntil").lte(now)));
+    Update update = new Update().set("owner", owner).set("leaseUntil", now.plus(ttl));
+    try {
+      return mongoTemplate.findAndModify(
+              query,
+              update,
+              FindAndModifyOptions.options().upsert(true).returnNew(true),
+              Document.class,
+              LEASES)
+          != null;
+    } catch (DuplicateKeyException e) {
+      // Held by someone else: the filter did not match, so the upsert tried to insert the id again.
+      return false;
+    }
+  }
+
+  @Override
+  public TotalCount totalRecords() {
+    return switch (countStrategy) {
+      case EXACT -> TotalCount.exact(mongoTemplate.count(new Query(), Order.class));
+      case ESTIMATED -> TotalCount.approximate(mongoTemplate.estimatedCount(Order.class));
+      case CACHED -> cachedCount();
+    };
+  }
+
+  private TotalCount cachedCount() {
+    CachedCount cached = this.cachedCount;
+    long now = System.nanoTime();
+    if (cached != null && now - cached.countedAt() < countCacheTtl.toNanos()) {
+      return TotalCount.approximate(cached.value());
+    }
+    // Concurrent misses may each count once; the last one wins, which is fine for a hint.
+    long value = mongoTemplate.count(new Query(), Order.class);
+    this.cachedCount = new CachedCount(value, now);
+    return TotalCount.exact(value);
+  }
+
+  private record CachedCount(long value, long countedAt) {}
 }
@@ -0,0 +1,10 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.Order;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+/** Non-blocking counterpart of {@link OrderRepository}, used by the {@code reactive} profile. */
+@Profile("reactive")
+public interface ReactiveOrderRepository
+    extends ReactiveMongoRepository<Order, String>, ReactiveOrderRepositoryCustom {}
@@ -0,0 +1,29 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Same operations as {@link OrderRepositoryCustom}, on the reactive driver. */
+public interface ReactiveOrderRepositoryCustom {
+  Flux<Order> findWithOffsetLimit(long offset, int limit);
+
+  Flux<Order> findAfter(OrderCursor cursor, int limit);
+
+  Mono<TotalCount> totalRecords();
+
+  /** See {@link OrderRepositoryCustom#updateStatus}. */
+  Mono<StatusUpdateResult> updateStatus(
+      String id, OrderStatus status, Instant updatedAt, OutboxEvent event);
+
+  Mono<Map<String, OrderStatus>> findStatuses(Collection<String> ids);
+
+  /** See {@link OrderRepositoryCustom#updateStatuses}. */
+  Mono<BulkStatusResult> updateStatuses(List<StatusChange> changes, Instant updatedAt);
+}
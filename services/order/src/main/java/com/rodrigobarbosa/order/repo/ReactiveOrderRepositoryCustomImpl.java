@@ -0,0 +1,120 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reactive")
+public class ReactiveOrderRepositoryCustomImpl implements ReactiveOrderRepositoryCustom {
+
+  private final ReactiveMongoTemplate mongoTemplate;
+  private final CountStrategy countStrategy;
+  private final Duration countCacheTtl;
+  private volatile CachedCount cachedCount;
+
+  public ReactiveOrderRepositoryCustomImpl(
+      ReactiveMongoTemplate mongoTemplate,
+      @Value("${app.pagination.count-strategy:exact}") CountStrategy countStrategy,
+      @Value("${app.pagination.count-cache-ttl:5s}") Duration countCacheTtl) {
+    this.mongoTemplate = mongoTemplate;
+    this.countStrategy = countStrategy;
+    this.countCacheTtl = countCacheTtl;
+  }
+
+  @Override
+  public Flux<Order> findWithOffsetLimit(long offset, int limit) {
+    return mongoTemplate.find(OrderQueries.page(offset, limit), Order.class);
+  }
+
+  @Override
+  public Flux<Order> findAfter(OrderCursor cursor, int limit) {
+    return mongoTemplate.find(OrderQueries.after(cursor, limit), Order.class);
+  }
+
+  @Override
+  public Mono<StatusUpdateResult> updateStatus(
+      String id, OrderStatus status, Instant updatedAt, OutboxEvent event) {
+    Mono<StatusUpdateResult> noMatch =
+        mongoTemplate
+            .findOne(OrderQueries.statusesOf(List.of(id)), Order.class)
+            .<StatusUpdateResult>map(
+                current -> new StatusUpdateResult.Rejected(current.getOrderStatus()))
+            .defaultIfEmpty(new StatusUpdateResult.NotFound());
+    return mongoTemplate
+        .findAndModify(
+            OrderQueries.statusGuard(id, status),
+            OrderQueries.statusUpdate(status, updatedAt, event),
+            FindAndModifyOptions.options().returnNew(true),
+            Order.class)
+        .<StatusUpdateResult>map(StatusUpdateResult.Updated::new)
+        .switchIfEmpty(noMatch);
+  }
+
+  @Override
+  public Mono<Map<String, OrderStatus>> findStatuses(Collection<String> ids) {
+    return mongoTemplate
+        .find(OrderQueries.statusesOf(ids), Order.class)
+        .collectMap(Order::getId, Order::getOrderStatus);
+  }
+
+  @Override
+  public Mono<BulkStatusResult> updateStatuses(List<StatusChange> changes, Instant updatedAt) {
+    if (changes.isEmpty()) return Mono.just(BulkStatusResult.allApplied(Set.of()));
+    ReactiveBulkOperations bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, Order.class);
+    for (StatusChange change : changes) {
+      bulk.updateOne(
+          OrderQueries.bulkStatusGuard(change), OrderQueries.bulkStatusUpdate(change, updatedAt));
+    }
+    Set<String> ids = changes.stream().map(StatusChange::orderId).collect(Collectors.toSet());
+    return bulk.execute()
+        .flatMap(
+            result ->
+                result.getMatchedCount() == changes.size()
+                    ? Mono.just(BulkStatusResult.allApplied(ids))
+                    : mongoTemplate
+                        .find(OrderQueries.statusEventsOf(ids), Order.class)
+                        .collectList()
+                        .map(orders -> OrderQueries.readBack(changes, orders)));
+  }
+
+  @Override
+  public Mono<TotalCount> totalRecords() {
+    return switch (countStrategy) {
+      case EXACT -> mongoTemplate.count(new Query(), Order.class).map(TotalCount::exact);
+      case ESTIMATED -> mongoTemplate.estimatedCount(Order.class).map(TotalCount::approximate);
+      case CACHED -> cachedCount();
+    };
+  }
+
+  private Mono<TotalCount> cachedCount() {
+    CachedCount cached = this.cachedCount;
+    long now = System.nanoTime();
+    if (cached != null && now - cached.countedAt() < countCacheTtl.toNanos()) {
+      return Mono.just(TotalCount.approximate(cached.value()));
+    }
+    return mongoTemplate
+        .count(new Query(), Order.class)
+        .doOnNext(value -> this.cachedCount = new CachedCount(value, now))
+        .map(TotalCount::exact);
+  }
+
+  private record CachedCount(long value, long countedAt) {}
+}
@@ -0,0 +1,10 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+
+/**
+ * One entry of {@link OrderRepositoryCustom#updateStatuses}: move {@code orderId} from {@code from}
+ * (the status it was read with) to {@code to}, recording {@code event} in its outbox.
+ */
+public record StatusChange(String orderId, OrderStatus from, OrderStatus to, OutboxEvent event) {}
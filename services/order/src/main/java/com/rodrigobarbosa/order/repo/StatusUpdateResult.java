@@ -0,0 +1,16 @@
+package com.rodrigobarbosa.order.repo;
+
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+
+/** Outcome of {@link OrderRepositoryCustom#updateStatus}. */
+public sealed interface StatusUpdateResult {
+
+  /** The transition was applied; {@code order} is the document after the update. */
+  record Updated(Order order) implements StatusUpdateResult {}
+
+  record NotFound() implements StatusUpdateResult {}
+
+  /** The order exists but its {@code current} status does not allow the transition. */
+  record Rejected(OrderStatus current) implements StatusUpdateResult {}
+}
@@ -0,0 +1,101 @@
+package com.rodrigobarbosa.order.service;
+
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest.StatusUpdate;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse.ItemResult;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse.Outcome;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OrderStatusTransition;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import com.rodrigobarbosa.order.messaging.OrderStatusChangedEvent;
+import com.rodrigobarbosa.order.repo.BulkStatusResult;
+import com.rodrigobarbosa.order.repo.StatusChange;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The storage-independent part of {@code PATCH /orders/status}: checks each pair against the
+ * statuses that were read, keeps the valid ones as {@link StatusChange}s, and assembles the
+ * per-item results once the repository says which changes were applied.
+ */
+final class BulkStatusUpdate {
+
+  private final List<String> ids;
+  private final Map<String, ItemResult> results = new HashMap<>();
+  private final List<StatusChange> changes = new ArrayList<>();
+
+  BulkStatusUpdate(
+      BulkUpdateOrderStatusRequest request, Map<String, OrderStatus> current, Instant now) {
+    this.ids = ids(request);
+    for (StatusUpdate update : request.updates()) {
+      OrderStatus from = current.get(update.id());
+      if (from == null) {
+        results.put(
+            update.id(),
+            new ItemResult(
+                update.id(),
+                Outcome.NOT_FOUND,
+                null,
+                "Order with id " + update.id() + " not found"));
+      } else if (!OrderStatusTransition.isAllowed(from, update.status())) {
+        results.put(
+            update.id(),
+            new ItemResult(
+                update.id(),
+                Outcome.CONFLICT,
+                from,
+                "Invalid status transition from " + from + " to " + update.status()));
+      } else {
+        changes.add(
+            new StatusChange(
+                update.id(),
+                from,
+                update.status(),
+                OutboxEvent.statusChanged(OrderStatusChangedEvent.TYPE, update.status(), now)));
+      }
+    }
+  }
+
+  /** The requested order ids, in request order; a repeated id is a {@code 400}. */
+  static List<String> ids(BulkUpdateOrderStatusRequest request) {
+    List<String> ids = request.updates().stream().map(StatusUpdate::id).toList();
+    Set<String> distinct = new HashSet<>();
+    for (String id : ids) {
+      if (!distinct.add(id)) throw OrderServiceImpl.badRequest("Duplicate order id: " + id);
+    }
+    return ids;
+  }
+
+  List<StatusChange> changes() {
+    return changes;
+  }
+
+  BulkUpdateOrderStatusResponse complete(BulkStatusResult result) {
+    for (StatusChange change : changes) {
+      String id = change.orderId();
+      OrderStatus current = result.current().get(id);
+      if (result.applied().contains(id)) {
+        results.put(id, new ItemResult(id, Outcome.UPDATED, change.to(), null));
+      } else if (current == null) {
+        // Deleted between the read and the bulk write.
+        results.put(
+            id, new ItemResult(id, Outcome.NOT_FOUND, null, "Order with id " + id + " not found"));
+      } else {
+        results.put(
+            id,
+            new ItemResult(
+                id,
+                Outcome.CONFLICT,
+                current,
+                "Order status changed concurrently to " + current + "; retry the update"));
+      }
+    }
+    return new BulkUpdateOrderStatusResponse(ids.stream().map(results::get).toList());
+  }
+}
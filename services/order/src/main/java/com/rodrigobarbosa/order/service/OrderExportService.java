@@ -0,0 +1,115 @@
+package com.rodrigobarbosa.order.service;
+
+import com.rodrigobarbosa.order.api.dto.OrderMapper;
+import com.rodrigobarbosa.order.domain.Money;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.repo.OrderFilter;
+import com.rodrigobarbosa.order.repo.OrderRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes every order matching a filter straight from a Mongo cursor to an output stream, one line
+ * per order. Nothing but the current cursor batch is held in memory, and output is flushed every
+ * {@value #FLUSH_EVERY} orders so the client receives data while the export runs.
+ */
+@Service
+public class OrderExportService {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderExportService.class);
+
+  private static final int FLUSH_EVERY = 500;
+  private static final String CSV_HEADER =
+      "id,customerName,customerEmail,orderStatus,totalAmount,itemCount,createdAt,updatedAt";
+
+  public enum Format {
+    NDJSON,
+    CSV;
+
+    /** Case-insensitive lookup; an unknown name is a {@code 400}. */
+    public static Format of(String name) {
+      try {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        throw OrderServiceImpl.badRequest("Unsupported export format: " + name);
+      }
+    }
+  }
+
+  private final OrderRepository orderRepository;
+  private final JsonMapper jsonMapper;
+
+  public OrderExportService(OrderRepository orderRepository, JsonMapper jsonMapper) {
+    this.orderRepository = orderRepository;
+    this.jsonMapper = jsonMapper;
+  }
+
+  /** Rejects filters that can never match before anything is written. */
+  public void validate(OrderFilter filter) {
+    if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+      throw OrderServiceImpl.badRequest("'from' must be before 'to'");
+    }
+  }
+
+  public void export(OrderFilter filter, Format format, OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    if (format == Format.CSV) writer.write(CSV_HEADER + "\n");
+    long count = 0;
+    try (Stream<Order> orders = orderRepository.streamOrders(filter)) {
+      Iterator<Order> it = orders.iterator();
+      while (it.hasNext()) {
+        Order order = it.next();
+        writer.write(format == Format.CSV ? csv(order) : ndjson(order));
+        writer.write('\n');
+        if (++count % FLUSH_EVERY == 0) writer.flush();
+      }
+    }
+    writer.flush();
+    log.info("Order export finished: format={} orders={}", format, count);
+  }
+
+  private String ndjson(Order order) {
+    return jsonMapper.writeValueAsString(OrderMapper.toResponse(order));
+  }
+
+  private static String csv(Order order) {
+    return String.join(
+        ",",
+        csvField(order.getId()),
+        csvField(order.getCustomer() == null ? null : order.getCustomer().getFullName()),
+        csvField(order.getCustomer() == null ? null : order.getCustomer().getEmail()),
+        csvField(order.getOrderStatus() == null ? null : order.getOrderStatus().name()),
+        Money.toDecimal(order.getTotalAmountCents()).toPlainString(),
+        String.valueOf(order.getOrderItems() == null ? 0 : order.getOrderItems().size()),
+        csvField(order.getCreatedAt() == null ? null : order.getCreatedAt().toString()),
+        csvField(order.getUpdatedAt() == null ? null : order.getUpdatedAt().toString()));
+  }
+
+  /**
+   * RFC 4180: quote fields containing a separator, quote or line break; double inner quotes. A
+   * value a spreadsheet would run as a formula ({@code = + - @}, tab or carriage return first) is
+   * prefixed with {@code '} so it is shown as text.
+   */
+  static String csvField(String value) {
+    if (value == null) return "";
+    if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) value = "'" + value;
+    if (value.indexOf(',') < 0
+        && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
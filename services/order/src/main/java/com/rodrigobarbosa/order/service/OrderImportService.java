@@ -0,0 +1,243 @@
+package com.rodrigobarbosa.order.service;
+
+import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
+import com.rodrigobarbosa.order.api.dto.ImportResult;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.external.menu.MenuClient;
+import com.rodrigobarbosa.order.repo.OrderRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.ErrorResponseException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Imports newline-delimited {@link CreateOrderRequest}s from a stream and writes one {@link
+ * ImportResult} line per record back, in input order.
+ *
+ * <p>Records are read and handled {@code chunkSize} at a time: one menu lookup for all products of
+ * the chunk, one unordered bulk insert for its valid orders, then the chunk's results are flushed.
+ * Only the current chunk is ever held in memory, whatever the size of the input; a line longer than
+ * {@code maxLineLength} characters is rejected without being buffered.
+ */
+@Service
+public class OrderImportService {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderImportService.class);
+
+  private record Parsed(long line, CreateOrderRequest request) {}
+
+  private final OrderRepository orderRepository;
+  private final MenuClient menuClient;
+  private final JsonMapper jsonMapper;
+  private final Validator validator;
+  private final int chunkSize;
+  private final int maxLineLength;
+
+  public OrderImportService(
+      OrderRepository orderRepository,
+      MenuClient menuClient,
+      JsonMapper jsonMapper,
+      Validator validator,
+      @Value("${app.import.chunk-size:500}") int chunkSize,
+      @Value("${app.import.max-line-length:65536}") int maxLineLength) {
+    this.orderRepository = orderRepository;
+    this.menuClient = menuClient;
+    this.jsonMapper = jsonMapper;
+    this.validator = validator;
+    this.chunkSize = chunkSize;
+    this.maxLineLength = maxLineLength;
+  }
+
+  public void importOrders(InputStream in, OutputStream out) throws IOException {
+    LineReader reader =
+        new LineReader(new InputStreamReader(in, StandardCharsets.UTF_8), maxLineLength);
+    List<Parsed> chunk = new ArrayList<>(chunkSize);
+    List<ImportResult> rejected = new ArrayList<>();
+    long lineNumber = 0;
+    long created = 0;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (reader.truncated()) {
+        rejected.add(
+            ImportResult.rejected(lineNumber, "Line longer than " + maxLineLength + " characters"));
+      } else if (!line.isBlank()) {
+        parse(lineNumber, line, chunk, rejected);
+      }
+      if (chunk.size() + rejected.size() >= chunkSize) {
+        created += flush(chunk, rejected, out);
+      }
+    }
+    created += flush(chunk, rejected, out);
+    log.info("Order import finished: lines={} created={}", lineNumber, created);
+  }
+
+  private void parse(
+      long lineNumber, String line, List<Parsed> chunk, List<ImportResult> rejected) {
+    try {
+      CreateOrderRequest request = jsonMapper.readValue(line, CreateOrderRequest.class);
+      String violations = violations(request);
+      if (violations == null) {
+        chunk.add(new Parsed(lineNumber, request));
+      } else {
+        rejected.add(ImportResult.rejected(lineNumber, violations));
+      }
+    } catch (JacksonException e) {
+      rejected.add(ImportResult.rejected(lineNumber, "Malformed JSON: " + e.getOriginalMessage()));
+    }
+  }
+
+  /** Imports the chunk and writes its results (rejected ones included) in line order. */
+  private long flush(List<Parsed> chunk, List<ImportResult> rejected, OutputStream out)
+      throws IOException {
+    List<ImportResult> results = new ArrayList<>(rejected);
+    results.addAll(importChunk(chunk));
+    results.sort((a, b) -> Long.compare(a.line(), b.line()));
+    for (ImportResult result : results) {
+      out.write(jsonMapper.writeValueAsBytes(result));
+      out.write('\n');
+    }
+    out.flush();
+    chunk.clear();
+    rejected.clear();
+    return results.stream().filter(r -> r.outcome() == ImportResult.Outcome.CREATED).count();
+  }
+
+  private List<ImportResult> importChunk(List<Parsed> chunk) {
+    if (chunk.isEmpty()) return List.of();
+    Set<String> productIds = new HashSet<>();
+    for (Parsed parsed : chunk) {
+      parsed.request().orderItems().forEach(item -> productIds.add(item.productId()));
+    }
+    final Map<String, MenuClient.MenuItem> menuItems;
+    try {
+      menuItems = menuClient.getMenuItems(productIds);
+    } catch (MenuClient.MenuUnavailableException e) {
+      return failAll(chunk, e.getMessage());
+    }
+
+    Instant now = Instant.now();
+    List<ImportResult> results = new ArrayList<>(chunk.size());
+    List<Parsed> accepted = new ArrayList<>(chunk.size());
+    List<Order> orders = new ArrayList<>(chunk.size());
+    for (Parsed parsed : chunk) {
+      try {
+        orders.add(OrderServiceImpl.newOrder(parsed.request(), menuItems, now));
+        accepted.add(parsed);
+      } catch (ErrorResponseException e) {
+        results.add(ImportResult.rejected(parsed.line(), e.getBody().getDetail()));
+      }
+    }
+    if (orders.isEmpty()) return results;
+    final Map<Integer, String> failed;
+    try {
+      failed = orderRepository.insertUnordered(orders);
+    } catch (DataAccessException e) {
+      log.warn("Order import batch of {} failed: {}", orders.size(), e.getMessage());
+      results.addAll(failAll(accepted, "Insert failed: " + e.getMessage()));
+      return results;
+    }
+    if (!failed.isEmpty()) {
+      log.warn("Order import batch of {}: {} inserts failed", orders.size(), failed.size());
+    }
+    for (int i = 0; i < orders.size(); i++) {
+      long line = accepted.get(i).line();
+      String error = failed.get(i);
+      results.add(
+          error == null
+              ? ImportResult.created(line, orders.get(i).getId())
+              : ImportResult.failed(line, "Insert failed: " + error));
+    }
+    return results;
+  }
+
+  private String violations(CreateOrderRequest request) {
+    Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+    if (violations.isEmpty()) return null;
+    return violations.stream()
+        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+
+  private static List<ImportResult> failAll(List<Parsed> parsed, String error) {
+    return parsed.stream().map(p -> ImportResult.failed(p.line(), error)).toList();
+  }
+
+  /**
+   * Like {@link java.io.BufferedReader#readLine}, but keeps at most {@code maxLength} characters of
+   * a line: the rest is skipped up to the next line break and {@link #truncated} is set.
+   */
+  static final class LineReader {
+
+    private final Reader reader;
+    private final int maxLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean truncated;
+
+    LineReader(Reader reader, int maxLength) {
+      this.reader = reader;
+      this.maxLength = maxLength;
+    }
+
+    /** The next line without its {@code \n} or {@code \r\n}, or null at the end of input. */
+    String readLine() throws IOException {
+      line.setLength(0);
+      truncated = false;
+      boolean read = false;
+      while (true) {
+        if (position == limit) {
+          limit = reader.read(buffer, 0, buffer.length);
+          position = 0;
+          if (limit <= 0) {
+            limit = 0;
+            return read ? endOfLine(false) : null;
+          }
+        }
+        read = true;
+        char c = buffer[position++];
+        if (c == '\n') return endOfLine(true);
+        // One extra character: it may be the '\r' of a line that fits.
+        if (line.length() <= maxLength) {
+          line.append(c);
+        } else {
+          truncated = true;
+        }
+      }
+    }
+
+    private String endOfLine(boolean lineBreak) {
+      int end = line.length();
+      if (lineBreak && end > 0 && line.charAt(end - 1) == '\r') line.setLength(end - 1);
+      if (line.length() > maxLength) truncated = true;
+      return line.toString();
+    }
+
+    /** Whether the line last returned was longer than {@code maxLength}. */
+    boolean truncated() {
+      return truncated;
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package com.rodrigobarbosa.order.service;
 
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse;
 import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
 import com.rodrigobarbosa.order.api.dto.OrderHistoryResponse;
 import com.rodrigobarbosa.order.api.dto.OrderResponse;
@@ -10,7 +12,11 @@ public interface OrderService {
 
   OrderResponse getById(String id);
 
-  OrderHistoryResponse<OrderResponse> list(long offset, int limit);
+  OrderHistoryResponse<OrderResponse> list(long offset, int limit, boolean includeTotal);
+
+  OrderHistoryResponse<OrderResponse> listAfter(String cursor, int limit, boolean includeTotal);
 
   OrderResponse updateStatus(String orderId, UpdateOrderStatusRequest orderStatus);
+
+  BulkUpdateOrderStatusResponse updateStatuses(BulkUpdateOrderStatusRequest request);
 }
@@ -1,5 +1,7 @@
 package com.rodrigobarbosa.order.service;
 
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse;
 import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
 import com.rodrigobarbosa.order.api.dto.OrderHistoryResponse;
 import com.rodrigobarbosa.order.api.dto.OrderMapper;
@@ -7,17 +9,21 @@ import com.rodrigobarbosa.order.api.dto.OrderResponse;
 import com.rodrigobarbosa.order.api.dto.UpdateOrderStatusRequest;
 import com.rodrigobarbosa.order.api.error.NotFoundException;
 import com.rodrigobarbosa.order.domain.Customer;
+import com.rodrigobarbosa.order.domain.Money;
 import com.rodrigobarbosa.order.domain.Order;
 import com.rodrigobarbosa.order.domain.OrderItem;
 import com.rodrigobarbosa.order.domain.OrderStatus;
-import com.rodrigobarbosa.order.domain.OrderStatusTransition;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
 import com.rodrigobarbosa.order.external.menu.MenuClient;
-import com.rodrigobarbosa.order.messaging.OrderEventPublisher;
 import com.rodrigobarbosa.order.messaging.OrderStatusChangedEvent;
+import com.rodrigobarbosa.order.repo.OrderCursor;
 import com.rodrigobarbosa.order.repo.OrderRepository;
-import java.math.BigDecimal;
+import com.rodrigobarbosa.order.repo.StatusUpdateResult;
+import com.rodrigobarbosa.order.repo.TotalCount;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.stereotype.Service;
@@ -28,50 +34,64 @@ public class OrderServiceImpl implements OrderService {
 
   private final OrderRepository orderRepository;
   private final MenuClient menuClient;
-  private final OrderEventPublisher eventPublisher;
 
-  public OrderServiceImpl(
-      OrderRepository orderRepository, MenuClient menuClient, OrderEventPublisher eventPublisher) {
+  public OrderServiceImpl(OrderRepository orderRepository, MenuClient menuClient) {
     this.orderRepository = orderRepository;
     this.menuClient = menuClient;
-    this.eventPublisher = eventPublisher;
   }
 
   @Override
   public OrderResponse create(CreateOrderRequest request) {
-    Instant now = Instant.now();
+    final Map<String, MenuClient.MenuItem> menuItems;
+    try {
+      menuItems =
+          menuClient.getMenuItems(
+              request.orderItems().stream()
+                  .map(CreateOrderRequest.CreateOrderItemRequest::productId)
+                  .toList());
+    } catch (MenuClient.MenuUnavailableException e) {
+      throw serviceUnavailable(e.getMessage());
+    }
+    Order order = newOrder(request, menuItems, Instant.now());
+    return OrderMapper.toResponse(orderRepository.save(order));
+  }
 
+  /**
+   * Builds a new CREATED order, snapshotting name and price from {@code menuItems}; a product that
+   * is not among them is a {@code 400}.
+   */
+  static Order newOrder(
+      CreateOrderRequest request, Map<String, MenuClient.MenuItem> menuItems, Instant now) {
     Customer customer =
         new Customer(
             request.customer().fullName(),
             request.customer().address(),
             request.customer().email());
+    List<OrderItem> items =
+        request.orderItems().stream()
+            .map(
+                item -> {
+                  MenuClient.MenuItem menuItem = menuItems.get(item.productId());
+                  if (menuItem == null) {
+                    throw badRequest("Invalid product ID: " + item.productId());
+                  }
+                  return new OrderItem(
+                      item.productId(),
+                      menuItem.name(),
+                      Money.toCents(menuItem.price()),
+                      item.quantity());
+                })
+            .toList();
+    return new Order(null, customer, items, totalAmountCents(items), OrderStatus.CREATED, now, now);
+  }
 
-    final List<OrderItem> items;
-    try {
-      items =
-          request.orderItems().stream()
-              .map(
-                  item -> {
-                    MenuClient.MenuItem menuItem =
-                        menuClient
-                            .getMenuItem(item.productId())
-                            .orElseThrow(
-                                () -> badRequest("Invalid product ID: " + item.productId()));
-
-                    return new OrderItem(
-                        item.productId(), menuItem.name(), menuItem.price(), item.quantity());
-                  })
-              .toList();
-    } catch (MenuClient.MenuUnavailableException e) {
-      throw serviceUnavailable(e.getMessage());
+  /** Sum of price × quantity over {@code items}, in cents; throws on {@code long} overflow. */
+  public static long totalAmountCents(List<OrderItem> items) {
+    long total = 0;
+    for (OrderItem item : items) {
+      total = Math.addExact(total, Money.times(item.getPriceCents(), item.getQuantity()));
     }
-    BigDecimal totalAmount =
-        items.stream()
-            .map(it -> it.getPrice().multiply(BigDecimal.valueOf(it.getQuantity())))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-    Order order = new Order(null, customer, items, totalAmount, OrderStatus.CREATED, now, now);
-    return OrderMapper.toResponse(orderRepository.save(order));
+    return total;
   }
 
   @Override
@@ -81,53 +101,79 @@ public class OrderServiceImpl implements OrderService {
   }
 
   @Override
-  public OrderHistoryResponse<OrderResponse> list(long offset, int limit) {
-    List<OrderResponse> orders =
-        orderRepository.findWithOffsetLimit(offset, limit).stream()
-            .map(OrderMapper::toResponse)
-            .toList();
-    long total = orderRepository.totalRecords();
-    return new OrderHistoryResponse<>(total, orders);
+  public OrderHistoryResponse<OrderResponse> list(long offset, int limit, boolean includeTotal) {
+    List<Order> page = orderRepository.findWithOffsetLimit(offset, limit);
+    return history(page, limit, includeTotal ? orderRepository.totalRecords() : null);
   }
 
   @Override
-  public OrderResponse updateStatus(String orderId, UpdateOrderStatusRequest request) {
-    Order order =
-        orderRepository.findById(orderId).orElseThrow(() -> NotFoundException.order(orderId));
-    OrderStatus current = order.getOrderStatus();
-    if (!OrderStatusTransition.isAllowed(current, request.status())) {
-      throw conflict("Invalid status transition from " + current + " to " + request.status());
+  public OrderHistoryResponse<OrderResponse> listAfter(
+      String cursor, int limit, boolean includeTotal) {
+    List<Order> page = orderRepository.findAfter(decodeCursor(cursor), limit);
+    return history(page, limit, includeTotal ? orderRepository.totalRecords() : null);
+  }
+
+  static OrderCursor decodeCursor(String cursor) {
+    try {
+      return OrderCursor.decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw badRequest("Invalid cursor: " + cursor);
     }
-    order.setOrderStatus(request.status());
-    order.setUpdatedAt(Instant.now());
-
-    var event =
-        new OrderStatusChangedEvent(
-            OrderStatusChangedEvent.TYPE,
-            order.getId(),
-            order
-                .getCustomer()
-                .getEmail(), // using email as customer ID until we have a proper customer service
-            order.getCustomer().getFullName(),
-            order.getOrderStatus().name(),
-            Instant.now());
-
-    eventPublisher.publish(event);
+  }
 
-    return OrderMapper.toResponse(orderRepository.save(order));
+  /** {@code total} is null when the client asked for {@code includeTotal=false}. */
+  static OrderHistoryResponse<OrderResponse> history(
+      List<Order> page, int limit, TotalCount total) {
+    List<OrderResponse> orders = page.stream().map(OrderMapper::toResponse).toList();
+    // A short page is the last one; a full one may be followed by more.
+    String nextCursor = page.size() < limit ? null : OrderCursor.of(page.getLast()).encode();
+    if (total == null) {
+      return new OrderHistoryResponse<>(null, null, orders, nextCursor);
+    }
+    return new OrderHistoryResponse<>(total.value(), total.exact(), orders, nextCursor);
+  }
+
+  @Override
+  public OrderResponse updateStatus(String orderId, UpdateOrderStatusRequest request) {
+    Instant now = Instant.now();
+    // Recorded in the order's outbox by the same update; OrderOutboxRelay publishes it.
+    OutboxEvent event =
+        OutboxEvent.statusChanged(OrderStatusChangedEvent.TYPE, request.status(), now);
+    StatusUpdateResult result = orderRepository.updateStatus(orderId, request.status(), now, event);
+    return OrderMapper.toResponse(updatedOrThrow(orderId, request.status(), result));
+  }
+
+  static Order updatedOrThrow(String orderId, OrderStatus requested, StatusUpdateResult result) {
+    return switch (result) {
+      case StatusUpdateResult.Updated updated -> updated.order();
+      case StatusUpdateResult.NotFound notFound -> throw NotFoundException.order(orderId);
+      case StatusUpdateResult.Rejected rejected ->
+          throw conflict(
+              "Invalid status transition from " + rejected.current() + " to " + requested);
+    };
+  }
+
+  @Override
+  public BulkUpdateOrderStatusResponse updateStatuses(BulkUpdateOrderStatusRequest request) {
+    // Mongo keeps millisecond precision.
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    Map<String, OrderStatus> current = orderRepository.findStatuses(BulkStatusUpdate.ids(request));
+    BulkStatusUpdate update = new BulkStatusUpdate(request, current, now);
+    // Events ride along in each order's outbox; OrderOutboxRelay publishes them as one batch.
+    return update.complete(orderRepository.updateStatuses(update.changes(), now));
   }
 
-  private static ErrorResponseException badRequest(String message) {
+  static ErrorResponseException badRequest(String message) {
     ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, message);
     return new ErrorResponseException(HttpStatus.BAD_REQUEST, pd, null);
   }
 
-  private static ErrorResponseException serviceUnavailable(String message) {
+  static ErrorResponseException serviceUnavailable(String message) {
     ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, message);
     return new ErrorResponseException(HttpStatus.SERVICE_UNAVAILABLE, pd, null);
   }
 
-  private static ErrorResponseException conflict(String message) {
+  static ErrorResponseException conflict(String message) {
     ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, message);
     return new ErrorResponseException(HttpStatus.CONFLICT, pd, null);
   }
@@ -0,0 +1,25 @@
+package com.rodrigobarbosa.order.service;
+
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse;
+import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
+import com.rodrigobarbosa.order.api.dto.OrderHistoryResponse;
+import com.rodrigobarbosa.order.api.dto.OrderResponse;
+import com.rodrigobarbosa.order.api.dto.UpdateOrderStatusRequest;
+import reactor.core.publisher.Mono;
+
+/** {@link OrderService} on the reactive stack; errors are signalled, never thrown. */
+public interface ReactiveOrderService {
+  Mono<OrderResponse> create(CreateOrderRequest request);
+
+  Mono<OrderResponse> getById(String id);
+
+  Mono<OrderHistoryResponse<OrderResponse>> list(long offset, int limit, boolean includeTotal);
+
+  Mono<OrderHistoryResponse<OrderResponse>> listAfter(
+      String cursor, int limit, boolean includeTotal);
+
+  Mono<OrderResponse> updateStatus(String orderId, UpdateOrderStatusRequest request);
+
+  Mono<BulkUpdateOrderStatusResponse> updateStatuses(BulkUpdateOrderStatusRequest request);
+}
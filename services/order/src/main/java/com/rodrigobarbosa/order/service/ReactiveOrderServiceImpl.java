@@ -0,0 +1,123 @@
+package com.rodrigobarbosa.order.service;
+
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse;
+import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
+import com.rodrigobarbosa.order.api.dto.OrderHistoryResponse;
+import com.rodrigobarbosa.order.api.dto.OrderMapper;
+import com.rodrigobarbosa.order.api.dto.OrderResponse;
+import com.rodrigobarbosa.order.api.dto.UpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.error.NotFoundException;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import com.rodrigobarbosa.order.external.menu.MenuClient;
+import com.rodrigobarbosa.order.external.menu.ReactiveMenuClient;
+import com.rodrigobarbosa.order.messaging.OrderStatusChangedEvent;
+import com.rodrigobarbosa.order.repo.ReactiveOrderRepository;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same rules as {@link OrderServiceImpl}, composed over the reactive Mongo driver and {@link
+ * ReactiveMenuClient} so no request thread waits on I/O. Status events go through the order's
+ * outbox exactly as in the blocking service, so {@code OrderOutboxRelay} publishes them unchanged.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveOrderServiceImpl implements ReactiveOrderService {
+
+  private final ReactiveOrderRepository orderRepository;
+  private final ReactiveMenuClient menuClient;
+
+  public ReactiveOrderServiceImpl(
+      ReactiveOrderRepository orderRepository, ReactiveMenuClient menuClient) {
+    this.orderRepository = orderRepository;
+    this.menuClient = menuClient;
+  }
+
+  @Override
+  public Mono<OrderResponse> create(CreateOrderRequest request) {
+    List<String> productIds =
+        request.orderItems().stream()
+            .map(CreateOrderRequest.CreateOrderItemRequest::productId)
+            .toList();
+    return menuClient
+        .getMenuItems(productIds)
+        .onErrorMap(
+            MenuClient.MenuUnavailableException.class,
+            e -> OrderServiceImpl.serviceUnavailable(e.getMessage()))
+        .map(menuItems -> OrderServiceImpl.newOrder(request, menuItems, Instant.now()))
+        .flatMap(orderRepository::save)
+        .map(OrderMapper::toResponse);
+  }
+
+  @Override
+  public Mono<OrderResponse> getById(String id) {
+    return orderRepository
+        .findById(id)
+        .switchIfEmpty(Mono.error(() -> NotFoundException.order(id)))
+        .map(OrderMapper::toResponse);
+  }
+
+  @Override
+  public Mono<OrderHistoryResponse<OrderResponse>> list(
+      long offset, int limit, boolean includeTotal) {
+    return history(orderRepository.findWithOffsetLimit(offset, limit), limit, includeTotal);
+  }
+
+  @Override
+  public Mono<OrderHistoryResponse<OrderResponse>> listAfter(
+      String cursor, int limit, boolean includeTotal) {
+    return Mono.fromCallable(() -> OrderServiceImpl.decodeCursor(cursor))
+        .flatMap(after -> history(orderRepository.findAfter(after, limit), limit, includeTotal));
+  }
+
+  private Mono<OrderHistoryResponse<OrderResponse>> history(
+      Flux<Order> orders, int limit, boolean includeTotal) {
+    Mono<List<Order>> page = orders.collectList();
+    if (!includeTotal) {
+      return page.map(p -> OrderServiceImpl.history(p, limit, null));
+    }
+    // The page query and the count run concurrently.
+    return Mono.zip(page, orderRepository.totalRecords())
+        .map(t -> OrderServiceImpl.history(t.getT1(), limit, t.getT2()));
+  }
+
+  @Override
+  public Mono<OrderResponse> updateStatus(String orderId, UpdateOrderStatusRequest request) {
+    return Mono.defer(
+            () -> {
+              Instant now = Instant.now();
+              OutboxEvent event =
+                  OutboxEvent.statusChanged(OrderStatusChangedEvent.TYPE, request.status(), now);
+              return orderRepository.updateStatus(orderId, request.status(), now, event);
+            })
+        .map(
+            result ->
+                OrderMapper.toResponse(
+                    OrderServiceImpl.updatedOrThrow(orderId, request.status(), result)));
+  }
+
+  @Override
+  public Mono<BulkUpdateOrderStatusResponse> updateStatuses(BulkUpdateOrderStatusRequest request) {
+    return Mono.defer(
+        () -> {
+          List<String> ids = BulkStatusUpdate.ids(request);
+          Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+          return orderRepository
+              .findStatuses(ids)
+              .flatMap(
+                  current -> {
+                    BulkStatusUpdate update = new BulkStatusUpdate(request, current, now);
+                    return orderRepository
+                        .updateStatuses(update.changes(), now)
+                        .map(update::complete);
+                  });
+        });
+  }
+}
@@ -0,0 +1,123 @@
+package com.rodrigobarbosa.order.service;
+
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse;
+import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
+import com.rodrigobarbosa.order.api.dto.OrderHistoryResponse;
+import com.rodrigobarbosa.order.api.dto.OrderResponse;
+import com.rodrigobarbosa.order.api.dto.UpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.error.ConflictException;
+import com.rodrigobarbosa.order.api.error.NotFoundException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.web.ErrorResponseException;
+
+/**
+ * Times every call as {@code order.service}, tagged with the {@code operation} and its {@code
+ * outcome}: {@code success}, {@code client_error} (the request was refused, answered with a 4xx) or
+ * {@code server_error}. Created orders also feed {@code order.items}, the number of lines per
+ * order. All timers are registered up front, so recording is a field read.
+ */
+public class TimedOrderService implements OrderService {
+
+  private final OrderService delegate;
+  private final OperationTimers create;
+  private final OperationTimers get;
+  private final OperationTimers list;
+  private final OperationTimers updateStatus;
+  private final OperationTimers updateStatuses;
+  private final DistributionSummary itemsPerOrder;
+
+  public TimedOrderService(OrderService delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.create = new OperationTimers(registry, "create");
+    this.get = new OperationTimers(registry, "get");
+    this.list = new OperationTimers(registry, "list");
+    this.updateStatus = new OperationTimers(registry, "updateStatus");
+    this.updateStatuses = new OperationTimers(registry, "updateStatuses");
+    this.itemsPerOrder =
+        DistributionSummary.builder("order.items")
+            .description("Lines per created order")
+            .baseUnit("items")
+            .register(registry);
+  }
+
+  @Override
+  public OrderResponse create(CreateOrderRequest request) {
+    OrderResponse created = timed(create, () -> delegate.create(request));
+    itemsPerOrder.record(created.orderItems().size());
+    return created;
+  }
+
+  @Override
+  public OrderResponse getById(String id) {
+    return timed(get, () -> delegate.getById(id));
+  }
+
+  @Override
+  public OrderHistoryResponse<OrderResponse> list(long offset, int limit, boolean includeTotal) {
+    return timed(list, () -> delegate.list(offset, limit, includeTotal));
+  }
+
+  @Override
+  public OrderHistoryResponse<OrderResponse> listAfter(
+      String cursor, int limit, boolean includeTotal) {
+    return timed(list, () -> delegate.listAfter(cursor, limit, includeTotal));
+  }
+
+  @Override
+  public OrderResponse updateStatus(String orderId, UpdateOrderStatusRequest orderStatus) {
+    return timed(updateStatus, () -> delegate.updateStatus(orderId, orderStatus));
+  }
+
+  @Override
+  public BulkUpdateOrderStatusResponse updateStatuses(BulkUpdateOrderStatusRequest request) {
+    return timed(updateStatuses, () -> delegate.updateStatuses(request));
+  }
+
+  private static <T> T timed(OperationTimers timers, Supplier<T> call) {
+    long start = System.nanoTime();
+    try {
+      T result = call.get();
+      timers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return result;
+    } catch (RuntimeException e) {
+      Timer timer = isClientError(e) ? timers.clientError : timers.serverError;
+      timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw e;
+    }
+  }
+
+  /** Mirrors the status {@code GlobalExceptionHandler} answers with. */
+  private static boolean isClientError(RuntimeException e) {
+    if (e instanceof ErrorResponseException error) {
+      return error.getStatusCode().is4xxClientError();
+    }
+    return e instanceof NotFoundException
+        || e instanceof ConflictException
+        || e instanceof IllegalStateException;
+  }
+
+  private static final class OperationTimers {
+    private final Timer success;
+    private final Timer clientError;
+    private final Timer serverError;
+
+    OperationTimers(MeterRegistry registry, String operation) {
+      this.success = timer(registry, operation, "success");
+      this.clientError = timer(registry, operation, "client_error");
+      this.serverError = timer(registry, operation, "server_error");
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation, String outcome) {
+      return Timer.builder("order.service")
+          .description("Order service calls, by operation and outcome")
+          .tag("operation", operation)
+          .tag("outcome", outcome)
+          .register(registry);
+    }
+  }
+}
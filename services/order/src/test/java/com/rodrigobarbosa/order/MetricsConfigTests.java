@@ -0,0 +1,36 @@
+package com.rodrigobarbosa.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rodrigobarbosa.order.external.menu.MenuClient;
+import com.rodrigobarbosa.order.external.menu.TimedMenuClient;
+import com.rodrigobarbosa.order.service.OrderService;
+import com.rodrigobarbosa.order.service.TimedOrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class MetricsConfigTests {
+
+  @Autowired OrderService orderService;
+
+  @Autowired MenuClient menuClient;
+
+  @Autowired MeterRegistry registry;
+
+  @Test
+  void hotPaths_areTimed_withPercentileHistograms() {
+    assertThat(orderService).isInstanceOf(TimedOrderService.class);
+    assertThat(menuClient).isInstanceOf(TimedMenuClient.class);
+
+    Timer create =
+        registry.get("order.service").tag("operation", "create").tag("outcome", "success").timer();
+    create.record(Duration.ofMillis(5));
+    assertThat(create.takeSnapshot().histogramCounts()).isNotEmpty();
+    assertThat(registry.get("menu.client.calls").timers()).isNotEmpty();
+  }
+}
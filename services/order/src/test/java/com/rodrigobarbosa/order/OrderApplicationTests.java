@@ -1,11 +1,25 @@
 package com.rodrigobarbosa.order;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 
 @SpringBootTest
 class OrderApplicationTests {
 
+  @Autowired ApplicationContext context;
+
   @Test
   void contextLoads() {}
+
+  @Test
+  void servletMode_doesNotStartReactiveMongo() {
+    assertThat(context.getBeanNamesForType(ReactiveMongoTemplate.class)).isEmpty();
+    assertThat(context.getBeanNamesForType(com.mongodb.reactivestreams.client.MongoClient.class))
+        .isEmpty();
+  }
 }
@@ -0,0 +1,27 @@
+package com.rodrigobarbosa.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsTests {
+
+  @Autowired SimpleRabbitListenerContainerFactory notificationListenerContainerFactory;
+
+  @Autowired TaskScheduler taskScheduler;
+
+  @Test
+  void listenerContainersAndScheduledTasks_runOnVirtualThreads() {
+    assertThat(ReflectionTestUtils.getField(notificationListenerContainerFactory, "taskExecutor"))
+        .isInstanceOf(VirtualThreadTaskExecutor.class);
+    assertThat(taskScheduler).isInstanceOf(SimpleAsyncTaskScheduler.class);
+  }
+}
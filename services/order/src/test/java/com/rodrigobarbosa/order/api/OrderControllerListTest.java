@@ -1,5 +1,9 @@
 package com.rodrigobarbosa.order.api;
 
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -26,7 +30,7 @@ class OrderControllerListTest {
   void list_shouldReturnOrders_withLimitOffsetTotalRecords() throws Exception {
     mockMvc.perform(get("/orders").accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk());
 
-    verify(orderService, times(1)).list(0L, 20);
+    verify(orderService, times(1)).list(0L, 20, true);
   }
 
   @Test
@@ -39,7 +43,7 @@ class OrderControllerListTest {
                 .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk());
 
-    verify(orderService, times(1)).list(5L, 10);
+    verify(orderService, times(1)).list(5L, 10, true);
   }
 
   @Test
@@ -59,4 +63,28 @@ class OrderControllerListTest {
 
     verifyNoInteractions(orderService);
   }
+
+  @Test
+  void list_shouldPageByCursor_whenCursorGiven() throws Exception {
+    mockMvc
+        .perform(
+            get("/orders")
+                .param("cursor", "abc")
+                .param("offset", "5")
+                .param("limit", "10")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk());
+
+    verify(orderService, times(1)).listAfter("abc", 10, true);
+    verify(orderService, never()).list(anyLong(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  void list_shouldSkipTotal_whenIncludeTotalFalse() throws Exception {
+    mockMvc
+        .perform(get("/orders").param("includeTotal", "false").accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk());
+
+    verify(orderService, times(1)).list(0L, 20, false);
+  }
 }
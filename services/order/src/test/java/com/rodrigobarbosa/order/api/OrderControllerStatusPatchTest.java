@@ -1,14 +1,21 @@
 package com.rodrigobarbosa.order.api;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse.ItemResult;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse.Outcome;
 import com.rodrigobarbosa.order.api.dto.UpdateOrderStatusRequest;
 import com.rodrigobarbosa.order.api.error.GlobalExceptionHandler;
 import com.rodrigobarbosa.order.api.error.NotFoundException;
 import com.rodrigobarbosa.order.domain.OrderStatus;
 import com.rodrigobarbosa.order.service.OrderService;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
@@ -37,4 +44,37 @@ class OrderControllerStatusPatchTest {
                 .content("{\"status\":\"CANCELLED\"}"))
         .andExpect(status().isNotFound());
   }
+
+  @Test
+  void patchStatuses_shouldReturnPerItemResults() throws Exception {
+    when(orderService.updateStatuses(any()))
+        .thenReturn(
+            new BulkUpdateOrderStatusResponse(
+                List.of(
+                    new ItemResult("o1", Outcome.UPDATED, OrderStatus.PREPARING, null),
+                    new ItemResult("o2", Outcome.NOT_FOUND, null, "Order with id o2 not found"))));
+
+    mvc.perform(
+            patch("/orders/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                    {"updates": [{"id": "o1", "status": "PREPARING"},
+                                 {"id": "o2", "status": "PREPARING"}]}
+                    """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+        .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+  }
+
+  @Test
+  void patchStatuses_shouldReturn400_whenUpdatesEmpty() throws Exception {
+    mvc.perform(
+            patch("/orders/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"updates\": []}"))
+        .andExpect(status().isBadRequest());
+
+    verifyNoInteractions(orderService);
+  }
 }
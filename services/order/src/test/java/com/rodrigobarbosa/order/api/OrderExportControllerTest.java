@@ -0,0 +1,66 @@
+package com.rodrigobarbosa.order.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rodrigobarbosa.order.api.error.GlobalExceptionHandler;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.repo.OrderFilter;
+import com.rodrigobarbosa.order.service.OrderExportService;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(OrderExportController.class)
+@Import(GlobalExceptionHandler.class)
+class OrderExportControllerTest {
+  @Autowired private MockMvc mockMvc;
+  @MockitoBean OrderExportService exportService;
+
+  @Test
+  void export_shouldPassFilters_andStreamCsv() throws Exception {
+    mockMvc
+        .perform(
+            get("/orders/export")
+                .param("format", "csv")
+                .param("status", "DELIVERED")
+                .param("from", "2026-03-01T00:00:00Z")
+                .param("to", "2026-04-01T00:00:00Z"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("text/csv"));
+
+    OrderFilter filter =
+        new OrderFilter(
+            OrderStatus.DELIVERED,
+            Instant.parse("2026-03-01T00:00:00Z"),
+            Instant.parse("2026-04-01T00:00:00Z"));
+    verify(exportService).validate(filter);
+    verify(exportService).export(eq(filter), eq(OrderExportService.Format.CSV), any());
+  }
+
+  @Test
+  void export_shouldDefaultToNdjson() throws Exception {
+    mockMvc
+        .perform(get("/orders/export"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+
+    verify(exportService)
+        .export(eq(new OrderFilter(null, null, null)), eq(OrderExportService.Format.NDJSON), any());
+  }
+
+  @Test
+  void export_shouldReturn400_whenDateMalformed() throws Exception {
+    mockMvc
+        .perform(get("/orders/export").param("from", "yesterday"))
+        .andExpect(status().isBadRequest());
+  }
+}
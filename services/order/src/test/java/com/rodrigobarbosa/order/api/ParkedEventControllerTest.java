@@ -0,0 +1,63 @@
+package com.rodrigobarbosa.order.api;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rodrigobarbosa.order.api.error.GlobalExceptionHandler;
+import com.rodrigobarbosa.order.messaging.ParkingLot;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(ParkedEventController.class)
+@Import(GlobalExceptionHandler.class)
+class ParkedEventControllerTest {
+  @Autowired private MockMvc mockMvc;
+  @MockitoBean ParkingLot parkingLot;
+
+  @Test
+  void list_shouldReturnParkedEvents() throws Exception {
+    when(parkingLot.list(20))
+        .thenReturn(
+            List.of(
+                new ParkingLot.ParkedEvent(
+                    "order.notifications", 3, "boom", "application/json", "{}")));
+
+    mockMvc
+        .perform(get("/admin/order-events/parked"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].originalQueue").value("order.notifications"))
+        .andExpect(jsonPath("$[0].retryCount").value(3))
+        .andExpect(jsonPath("$[0].lastError").value("boom"));
+  }
+
+  @Test
+  void replay_shouldReturnReplayedCount() throws Exception {
+    when(parkingLot.replay(10)).thenReturn(7);
+
+    mockMvc
+        .perform(post("/admin/order-events/parked/replay").param("limit", "10"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.replayed").value(7));
+
+    verify(parkingLot).replay(10);
+  }
+
+  @Test
+  void replay_shouldReturnBadRequest_whenLimitExceedsMax() throws Exception {
+    mockMvc
+        .perform(post("/admin/order-events/parked/replay").param("limit", "501"))
+        .andExpect(status().isBadRequest());
+
+    verifyNoInteractions(parkingLot);
+  }
+}
@@ -0,0 +1,95 @@
+package com.rodrigobarbosa.order.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rodrigobarbosa.order.api.error.NotFoundException;
+import com.rodrigobarbosa.order.repo.ReactiveOrderRepository;
+import com.rodrigobarbosa.order.service.ReactiveOrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+/** Starts the {@code reactive} profile and checks that WebFlux serves the same error contract. */
+@SpringBootTest
+@ActiveProfiles("reactive")
+class ReactiveOrderControllerTest {
+
+  @Autowired ApplicationContext context;
+
+  @MockitoBean ReactiveOrderService service;
+
+  private WebTestClient client;
+
+  @BeforeEach
+  void setUp() {
+    client = WebTestClient.bindToApplicationContext(context).build();
+  }
+
+  @Test
+  void reactiveProfile_bringsBackReactiveMongo() {
+    assertThat(context.getBeanNamesForType(ReactiveOrderRepository.class)).hasSize(1);
+  }
+
+  @Test
+  void getById_shouldReturn404ApiError_whenOrderMissing() {
+    when(service.getById("order_123")).thenReturn(Mono.error(NotFoundException.order("order_123")));
+
+    client
+        .get()
+        .uri("/orders/order_123")
+        .exchange()
+        .expectStatus()
+        .isNotFound()
+        .expectBody()
+        .jsonPath("$.status")
+        .isEqualTo(404)
+        .jsonPath("$.message")
+        .isEqualTo("Order with id order_123 not found")
+        .jsonPath("$.path")
+        .isEqualTo("/orders/order_123");
+  }
+
+  @Test
+  void create_shouldReturn400WithFieldDetails_whenBodyInvalid() {
+    client
+        .post()
+        .uri("/orders")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(
+            """
+            {"customer":{"fullName":"John Doe","address":"123 Main St","email":"not-an-email"},
+             "orderItems":[{"productId":"abc123","quantity":1}]}
+            """)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.message")
+        .isEqualTo("Validation failed")
+        .jsonPath("$.details[0].field")
+        .isEqualTo("customer.email");
+
+    verify(service, never()).create(any());
+  }
+
+  @Test
+  void list_shouldReturn400_whenLimitOutOfRange() {
+    client.get().uri("/orders?limit=101").exchange().expectStatus().isBadRequest();
+
+    verify(service, never()).list(anyLong(), anyInt(), anyBoolean());
+  }
+}
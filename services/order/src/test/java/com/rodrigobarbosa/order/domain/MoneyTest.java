@@ -0,0 +1,137 @@
+package com.rodrigobarbosa.order.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rodrigobarbosa.order.repo.LegacyAmountsCallback;
+import com.rodrigobarbosa.order.repo.LegacyMoneyFields;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+class MoneyTest {
+
+  private MappingMongoConverter converter;
+
+  @BeforeEach
+  void setUp() {
+    MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+    MongoMappingContext context = new MongoMappingContext();
+    context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+    converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+    converter.setCustomConversions(conversions);
+    converter.afterPropertiesSet();
+  }
+
+  @Test
+  void toCents_roundsHalfEven_andToDecimal_hasScaleTwo() {
+    assertThat(Money.toCents(new BigDecimal("12.5"))).isEqualTo(1250);
+    assertThat(Money.toCents(new BigDecimal("0.125"))).isEqualTo(12);
+    assertThat(Money.toCents(new BigDecimal("0.135"))).isEqualTo(14);
+    assertThat(Money.toDecimal(1250)).isEqualTo(new BigDecimal("12.50"));
+    assertThatThrownBy(() -> Money.times(Long.MAX_VALUE / 2, 3))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void order_isStoredInCents_withoutDecimalFields() {
+    Order order =
+        new Order(
+            "o1",
+            new Customer("John Doe", "Street 1", "john@example.com"),
+            List.of(new OrderItem("p1", "Pizza", 1250, 2)),
+            2500,
+            OrderStatus.CREATED,
+            Instant.EPOCH,
+            Instant.EPOCH);
+
+    Document stored = new Document();
+    converter.write(order, stored);
+
+    assertThat(stored.get("totalAmountCents")).isEqualTo(2500L);
+    assertThat(stored).doesNotContainKey("totalAmount");
+    Document item = stored.getList("orderItems", Document.class).getFirst();
+    assertThat(item.get("priceCents")).isEqualTo(1250L);
+    assertThat(item).doesNotContainKey("price");
+  }
+
+  @Test
+  void legacyDecimalAmounts_areRead_untilOverwritten() {
+    Document legacy =
+        new Document("_id", "o1")
+            .append("totalAmount", new Decimal128(new BigDecimal("25.00")))
+            .append(
+                "orderItems",
+                List.of(
+                    new Document("productId", "p1")
+                        .append("price", "12.50") // string representation
+                        .append("quantity", 2)))
+            .append("orderStatus", "CREATED");
+
+    Order order = converter.read(Order.class, legacy);
+
+    assertThat(order.getTotalAmountCents()).isEqualTo(2500);
+    assertThat(order.getOrderItems().getFirst().getPriceCents()).isEqualTo(1250);
+
+    order.setTotalAmountCents(3000);
+    Document stored = new Document();
+    converter.write(order, stored);
+    assertThat(stored.get("totalAmountCents")).isEqualTo(3000L);
+    assertThat(stored).doesNotContainKey("totalAmount");
+  }
+
+  @Test
+  void centsAreRead_whenDecimalFieldsAreAlsoPresent() {
+    Document dualWritten =
+        new Document("_id", "o1")
+            .append("totalAmountCents", 2500L)
+            .append("totalAmount", new Decimal128(new BigDecimal("99.00")))
+            .append(
+                "orderItems",
+                List.of(
+                    new Document("productId", "p1")
+                        .append("priceCents", 1250L)
+                        .append("price", "99.00")
+                        .append("quantity", 2)));
+
+    Order order = converter.read(Order.class, dualWritten);
+
+    assertThat(order.getTotalAmountCents()).isEqualTo(2500);
+    assertThat(order.getOrderItems().getFirst().getPriceCents()).isEqualTo(1250);
+  }
+
+  @Test
+  void legacyAmountsCallback_dualWritesDecimals_onlyDuringRollout() {
+    Order order =
+        new Order(
+            "o1",
+            new Customer("John Doe", "Street 1", "john@example.com"),
+            List.of(new OrderItem("p1", "Pizza", 1250, 2)),
+            2500,
+            OrderStatus.CREATED,
+            Instant.EPOCH,
+            Instant.EPOCH);
+
+    Document kept = new Document();
+    converter.write(order, kept);
+    new LegacyAmountsCallback(LegacyMoneyFields.DUAL_WRITE).onBeforeSave(order, kept, "orders");
+    assertThat(kept.get("totalAmountCents")).isEqualTo(2500L);
+    assertThat(kept.get("totalAmount")).isEqualTo(new Decimal128(new BigDecimal("25.00")));
+    Document item = kept.getList("orderItems", Document.class).getFirst();
+    assertThat(item.get("price")).isEqualTo(new Decimal128(new BigDecimal("12.50")));
+
+    Document dropped = new Document("totalAmount", "25.00");
+    converter.write(order, dropped);
+    new LegacyAmountsCallback(LegacyMoneyFields.DROP).onBeforeSave(order, dropped, "orders");
+    assertThat(dropped).doesNotContainKey("totalAmount");
+    assertThat(dropped.getList("orderItems", Document.class).getFirst()).doesNotContainKey("price");
+  }
+}
@@ -0,0 +1,107 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CachingMenuClientTest {
+
+  private final MenuClient delegate = mock(MenuClient.class);
+  private final AtomicLong nanos = new AtomicLong();
+  private final CachingMenuClient client =
+      new CachingMenuClient(
+          delegate,
+          100,
+          Duration.ofSeconds(30),
+          Duration.ofSeconds(5),
+          Duration.ofMinutes(10),
+          nanos::get);
+
+  private static final MenuClient.MenuItem PIZZA =
+      new MenuClient.MenuItem("p1", "Pizza", new BigDecimal("12.50"));
+
+  @Test
+  void getMenuItem_servesFreshEntryFromCache() {
+    when(delegate.getMenuItem("p1")).thenReturn(Optional.of(PIZZA));
+
+    assertThat(client.getMenuItem("p1")).contains(PIZZA);
+    assertThat(client.getMenuItem("p1")).contains(PIZZA);
+
+    verify(delegate, times(1)).getMenuItem("p1");
+    assertThat(client.stats().hits()).isEqualTo(1);
+    assertThat(client.stats().misses()).isEqualTo(1);
+  }
+
+  @Test
+  void getMenuItem_reloadsAfterTtl() {
+    when(delegate.getMenuItem("p1")).thenReturn(Optional.of(PIZZA));
+
+    client.getMenuItem("p1");
+    advance(Duration.ofSeconds(31));
+    client.getMenuItem("p1");
+
+    verify(delegate, times(2)).getMenuItem("p1");
+  }
+
+  @Test
+  void getMenuItem_cachesNotFoundForNegativeTtlOnly() {
+    when(delegate.getMenuItem("missing")).thenReturn(Optional.empty());
+
+    assertThat(client.getMenuItem("missing")).isEmpty();
+    assertThat(client.getMenuItem("missing")).isEmpty();
+    verify(delegate, times(1)).getMenuItem("missing");
+
+    advance(Duration.ofSeconds(6));
+    client.getMenuItem("missing");
+    verify(delegate, times(2)).getMenuItem("missing");
+  }
+
+  @Test
+  void getMenuItem_servesStaleEntry_whenMenuUnavailable() {
+    when(delegate.getMenuItem("p1"))
+        .thenReturn(Optional.of(PIZZA))
+        .thenThrow(new MenuClient.MenuUnavailableException("down"));
+
+    client.getMenuItem("p1");
+    advance(Duration.ofMinutes(5));
+
+    assertThat(client.getMenuItem("p1")).contains(PIZZA);
+    assertThat(client.stats().staleHits()).isEqualTo(1);
+  }
+
+  @Test
+  void getMenuItem_rethrows_whenMenuUnavailableAndNothingCached() {
+    when(delegate.getMenuItem("p1")).thenThrow(new MenuClient.MenuUnavailableException("down"));
+
+    assertThatThrownBy(() -> client.getMenuItem("p1"))
+        .isInstanceOf(MenuClient.MenuUnavailableException.class);
+  }
+
+  @Test
+  void getMenuItems_loadsOnlyMissingIds() {
+    var cola = new MenuClient.MenuItem("p2", "Cola", new BigDecimal("3.00"));
+    when(delegate.getMenuItems(List.of("p1"))).thenReturn(Map.of("p1", PIZZA));
+    when(delegate.getMenuItems(List.of("p2", "missing"))).thenReturn(Map.of("p2", cola));
+
+    client.getMenuItems(List.of("p1"));
+    Map<String, MenuClient.MenuItem> result = client.getMenuItems(List.of("p1", "p2", "missing"));
+
+    assertThat(result).containsOnlyKeys("p1", "p2");
+    verify(delegate, times(1)).getMenuItems(List.of("p2", "missing"));
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+}
@@ -0,0 +1,40 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class MenuSnapshotSyncTest {
+
+  private final MenuSnapshot snapshot = spy(new MenuSnapshot(Clock.systemUTC()));
+  private final RestClientMenuClient restClient = mock(RestClientMenuClient.class);
+  private final MenuSnapshotSync sync =
+      new MenuSnapshotSync(snapshot, restClient, 100, Duration.ofMinutes(5));
+
+  @Test
+  void sync_abortsJournal_whenMenuIsUnavailable() {
+    when(restClient.listMenuItems(anyLong(), anyInt()))
+        .thenThrow(new MenuClient.MenuUnavailableException("down"));
+
+    sync.sync();
+
+    verify(snapshot).abortSync();
+  }
+
+  @Test
+  void sync_abortsJournal_onAnyOtherFailure() {
+    when(restClient.listMenuItems(anyLong(), anyInt()))
+        .thenThrow(new IllegalStateException("bad page"));
+
+    assertThatThrownBy(sync::sync).isInstanceOf(IllegalStateException.class);
+    verify(snapshot).abortSync();
+  }
+}
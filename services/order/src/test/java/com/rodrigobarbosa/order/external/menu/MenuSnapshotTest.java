@@ -0,0 +1,108 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MenuSnapshotTest {
+
+  private static final Instant NOW = Instant.parse("2026-02-20T10:15:30Z");
+
+  private final MenuSnapshot snapshot = new MenuSnapshot(Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @Test
+  void completeSync_makesSnapshotReady_andBumpsVersion() {
+    assertThat(snapshot.isReady()).isFalse();
+
+    snapshot.beginSync();
+    snapshot.completeSync(List.of(listed("p1", "Pizza", "12.50", null)));
+
+    assertThat(snapshot.isReady()).isTrue();
+    assertThat(snapshot.version()).isEqualTo(1);
+    assertThat(snapshot.get("p1")).contains(item("p1", "Pizza", "12.50"));
+    assertThat(snapshot.syncAge()).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void apply_upsertsAndDeletes() {
+    snapshot.beginSync();
+    snapshot.completeSync(List.of(listed("p1", "Pizza", "12.50", null)));
+
+    snapshot.apply(event("MENU_ITEM_UPDATED", "p1", "Pizza", "13.00", NOW.minusSeconds(2)));
+    snapshot.apply(event("MENU_ITEM_CREATED", "p2", "Cola", "3.00", NOW.minusSeconds(1)));
+
+    assertThat(snapshot.get("p1").orElseThrow().price()).isEqualByComparingTo("13.00");
+    assertThat(snapshot.get("p2")).isPresent();
+    assertThat(snapshot.eventLag()).isEqualTo(Duration.ofSeconds(1));
+
+    snapshot.apply(event(MenuItemChangedEvent.DELETED, "p1", null, null, NOW));
+    assertThat(snapshot.get("p1")).isEmpty();
+    assertThat(snapshot.version()).isEqualTo(4);
+  }
+
+  @Test
+  void completeSync_reappliesEventsReceivedDuringTheLoad() {
+    snapshot.beginSync();
+    // arrives after the page containing p1 was read
+    snapshot.apply(event("MENU_ITEM_UPDATED", "p1", "Pizza", "15.00", NOW));
+    snapshot.completeSync(List.of(listed("p1", "Pizza", "12.50", null)));
+
+    assertThat(snapshot.get("p1").orElseThrow().price()).isEqualByComparingTo("15.00");
+  }
+
+  @Test
+  void completeSync_keepsTheListedItem_whenAJournaledEventIsOlder() {
+    snapshot.beginSync();
+    snapshot.apply(event("MENU_ITEM_UPDATED", "p1", "Pizza", "15.00", NOW.minusSeconds(5)));
+    snapshot.completeSync(List.of(listed("p1", "Pizza", "16.00", NOW)));
+
+    assertThat(snapshot.get("p1").orElseThrow().price()).isEqualByComparingTo("16.00");
+  }
+
+  @Test
+  void apply_dropsEventsOlderThanTheLastAppliedChange() {
+    snapshot.beginSync();
+    snapshot.completeSync(List.of(listed("p1", "Pizza", "12.50", NOW.minusSeconds(10))));
+    snapshot.apply(event("MENU_ITEM_UPDATED", "p1", "Pizza", "14.00", NOW));
+
+    // redelivered / overtaken update
+    boolean applied =
+        snapshot.apply(event("MENU_ITEM_UPDATED", "p1", "Pizza", "13.00", NOW.minusSeconds(1)));
+
+    assertThat(applied).isFalse();
+    assertThat(snapshot.get("p1").orElseThrow().price()).isEqualByComparingTo("14.00");
+    assertThat(snapshot.version()).isEqualTo(2);
+  }
+
+  @Test
+  void apply_doesNotResurrectADeletedItem() {
+    snapshot.beginSync();
+    snapshot.completeSync(List.of(listed("p1", "Pizza", "12.50", NOW.minusSeconds(10))));
+    snapshot.apply(event(MenuItemChangedEvent.DELETED, "p1", null, null, NOW));
+
+    snapshot.apply(event("MENU_ITEM_UPDATED", "p1", "Pizza", "13.00", NOW.minusSeconds(1)));
+
+    assertThat(snapshot.get("p1")).isEmpty();
+  }
+
+  private static RestClientMenuClient.ListedMenuItem listed(
+      String id, String name, String price, Instant updatedAt) {
+    return new RestClientMenuClient.ListedMenuItem(id, name, new BigDecimal(price), updatedAt);
+  }
+
+  private static MenuClient.MenuItem item(String id, String name, String price) {
+    return new MenuClient.MenuItem(id, name, new BigDecimal(price));
+  }
+
+  private static MenuItemChangedEvent event(
+      String type, String id, String name, String price, Instant occurredAt) {
+    return new MenuItemChangedEvent(
+        type, id, name, price == null ? null : new BigDecimal(price), true, occurredAt);
+  }
+}
@@ -0,0 +1,88 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelMenuClientTest {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void getMenuItems_returnsAllItemsInInputOrder() {
+    var client = new ParallelMenuClient(new FakeMenu(), executor, 4);
+
+    Map<String, MenuClient.MenuItem> result = client.getMenuItems(List.of("c", "a", "b", "a"));
+
+    assertThat(result.keySet()).containsExactly("c", "a", "b");
+  }
+
+  @Test
+  void getMenuItems_neverExceedsConcurrencyCap() {
+    FakeMenu menu = new FakeMenu();
+    var client = new ParallelMenuClient(menu, executor, 3);
+
+    client.getMenuItems(List.of("1", "2", "3", "4", "5", "6", "7", "8", "9", "10"));
+
+    assertThat(menu.maxInFlight.get()).isLessThanOrEqualTo(3);
+    assertThat(menu.calls.get()).isEqualTo(10);
+  }
+
+  @Test
+  void getMenuItems_returnsEveryFoundItem_whenAnIdInTheMiddleIsUnknown() {
+    FakeMenu menu = new FakeMenu();
+    var client = new ParallelMenuClient(menu, executor, 2);
+
+    Map<String, MenuClient.MenuItem> result =
+        client.getMenuItems(List.of("a", "missing", "b", "c"));
+
+    assertThat(result.keySet()).containsExactly("a", "b", "c");
+    assertThat(menu.calls.get()).isEqualTo(4);
+  }
+
+  @Test
+  void getMenuItems_failsFast_whenMenuUnavailable() {
+    var client = new ParallelMenuClient(new FakeMenu(), executor, 4);
+
+    assertThatThrownBy(() -> client.getMenuItems(List.of("a", "down", "b")))
+        .isInstanceOf(MenuClient.MenuUnavailableException.class)
+        .hasMessage("down");
+  }
+
+  private static class FakeMenu implements MenuClient {
+    final AtomicInteger calls = new AtomicInteger();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Override
+    public Optional<MenuItem> getMenuItem(String productId) {
+      calls.incrementAndGet();
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(5);
+        if (productId.equals("down")) throw new MenuUnavailableException("down");
+        if (productId.equals("missing")) return Optional.empty();
+        return Optional.of(new MenuItem(productId, productId, BigDecimal.ONE));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Optional.empty();
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ReplicatedMenuClientTest {
+
+  private static final MenuClient.MenuItem PIZZA =
+      new MenuClient.MenuItem("p1", "Pizza", new BigDecimal("12.50"));
+  private static final RestClientMenuClient.ListedMenuItem LISTED_PIZZA =
+      new RestClientMenuClient.ListedMenuItem("p1", "Pizza", new BigDecimal("12.50"), null);
+
+  private final MenuSnapshot snapshot = new MenuSnapshot(Clock.systemUTC());
+  private final MenuClient delegate = mock(MenuClient.class);
+  private final ReplicatedMenuClient client = new ReplicatedMenuClient(snapshot, delegate);
+
+  @Test
+  void getMenuItems_resolvesLocally_whenSnapshotReady() {
+    snapshot.beginSync();
+    snapshot.completeSync(List.of(LISTED_PIZZA));
+
+    assertThat(client.getMenuItems(List.of("p1"))).containsEntry("p1", PIZZA);
+    verifyNoInteractions(delegate);
+  }
+
+  @Test
+  void getMenuItems_treatsIdsMissingFromAReadySnapshotAsNotFound() {
+    snapshot.beginSync();
+    snapshot.completeSync(List.of(LISTED_PIZZA));
+
+    assertThat(client.getMenuItems(List.of("p1", "gone"))).containsOnlyKeys("p1");
+    assertThat(client.getMenuItem("gone")).isEmpty();
+    verifyNoInteractions(delegate);
+  }
+
+  @Test
+  void getMenuItems_delegates_untilFirstLoadCompletes() {
+    when(delegate.getMenuItems(List.of("p1"))).thenReturn(Map.of("p1", PIZZA));
+
+    assertThat(client.getMenuItems(List.of("p1"))).containsEntry("p1", PIZZA);
+    verify(delegate).getMenuItems(List.of("p1"));
+  }
+}
@@ -0,0 +1,72 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ResilientMenuClientTest {
+
+  private final MenuClient delegate = mock(MenuClient.class);
+  private final CircuitBreaker circuitBreaker =
+      CircuitBreaker.of(
+          "menu",
+          CircuitBreakerConfig.custom()
+              .slidingWindowSize(4)
+              .minimumNumberOfCalls(4)
+              .failureRateThreshold(50)
+              .waitDurationInOpenState(Duration.ofMinutes(1))
+              .recordExceptions(MenuClient.MenuUnavailableException.class)
+              .build());
+  private final Bulkhead bulkhead =
+      Bulkhead.of(
+          "menu",
+          BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build());
+  private final ResilientMenuClient client =
+      new ResilientMenuClient(delegate, circuitBreaker, bulkhead);
+
+  @Test
+  void opensCircuit_andFailsFastWithoutCallingMenu() {
+    when(delegate.getMenuItem("p1")).thenThrow(new MenuClient.MenuUnavailableException("down"));
+
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> client.getMenuItem("p1"))
+          .isInstanceOf(MenuClient.MenuUnavailableException.class);
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    assertThatThrownBy(() -> client.getMenuItem("p1"))
+        .isInstanceOf(MenuClient.MenuUnavailableException.class)
+        .hasMessageContaining("circuit open");
+    verify(delegate, times(4)).getMenuItem("p1");
+  }
+
+  @Test
+  void notFound_doesNotCountAsFailure() {
+    when(delegate.getMenuItem("missing")).thenReturn(Optional.empty());
+
+    for (int i = 0; i < 4; i++) client.getMenuItem("missing");
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void rejectsCall_whenBulkheadFull() {
+    bulkhead.acquirePermission(); // simulate a call already in flight
+
+    assertThatThrownBy(() -> client.getMenuItem("p1"))
+        .isInstanceOf(MenuClient.MenuUnavailableException.class)
+        .hasMessageContaining("too many concurrent calls");
+    assertThat(circuitBreaker.getMetrics().getNumberOfBufferedCalls()).isZero();
+  }
+}
@@ -0,0 +1,99 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rodrigobarbosa.order.config.MenuHttpClientConfig;
+import com.rodrigobarbosa.order.config.MenuProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+class RestClientMenuClientTest {
+
+  private HttpServer server;
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void startMenu() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/menu-items/lookup",
+        exchange -> {
+          byte[] body =
+              """
+              [{"id":"p1","name":"Pizza","price":12.50,"available":true}]
+              """
+                  .getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    server.start();
+  }
+
+  @AfterEach
+  void stopMenu() {
+    server.stop(0);
+  }
+
+  @Test
+  void getMenuItems_usesPooledTransport_andRecordsPoolMetrics() {
+    MenuClient client = client();
+
+    assertThat(client.getMenuItems(List.of("p1", "missing"))).containsOnlyKeys("p1");
+    assertThat(client.getMenuItems(List.of("p1"))).containsOnlyKeys("p1");
+
+    assertThat(registry.get("menu.client.pool.acquire").tag("result", "acquired").timer().count())
+        .isEqualTo(2);
+    assertThat(registry.get("httpcomponents.httpclient.pool.total.max").gauge().value())
+        .isEqualTo(4);
+  }
+
+  @Test
+  void getMenuItems_throwsMenuUnavailable_whenMenuDown() {
+    MenuClient client = client();
+    server.stop(0);
+
+    assertThatThrownBy(() -> client.getMenuItems(List.of("p1")))
+        .isInstanceOf(MenuClient.MenuUnavailableException.class);
+  }
+
+  private MenuClient client() {
+    var http =
+        new MenuProperties.Http(
+            Duration.ofMillis(500),
+            Duration.ofSeconds(1),
+            Duration.ofMillis(200),
+            4,
+            Duration.ofSeconds(20),
+            Duration.ofSeconds(30),
+            false);
+    var properties =
+        new MenuProperties(
+            "http://localhost:" + server.getAddress().getPort(),
+            http,
+            null,
+            null,
+            null,
+            null,
+            null);
+    var beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerSingleton("meterRegistry", registry);
+    ClientHttpRequestFactory requestFactory =
+        new MenuHttpClientConfig()
+            .menuRequestFactory(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    return new RestClientMenuClient(properties.baseUrl(), requestFactory);
+  }
+}
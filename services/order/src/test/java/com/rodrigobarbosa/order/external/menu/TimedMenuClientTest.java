@@ -0,0 +1,62 @@
+package com.rodrigobarbosa.order.external.menu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class TimedMenuClientTest {
+
+  private final MenuClient delegate = mock(MenuClient.class);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final TimedMenuClient client = new TimedMenuClient(delegate, registry);
+
+  @Test
+  void getMenuItem_isTaggedByOutcome() {
+    var burger = new MenuClient.MenuItem("p1", "Burger", new BigDecimal("10.00"));
+    when(delegate.getMenuItem("p1")).thenReturn(Optional.of(burger));
+    when(delegate.getMenuItem("p2")).thenReturn(Optional.empty());
+    when(delegate.getMenuItem("p3")).thenThrow(new MenuClient.MenuUnavailableException("down"));
+    when(delegate.getMenuItem("p4")).thenThrow(new IllegalArgumentException("bad id"));
+
+    assertThat(client.getMenuItem("p1")).contains(burger);
+    assertThat(client.getMenuItem("p2")).isEmpty();
+    assertThatThrownBy(() -> client.getMenuItem("p3"))
+        .isInstanceOf(MenuClient.MenuUnavailableException.class);
+    assertThatThrownBy(() -> client.getMenuItem("p4")).isInstanceOf(IllegalArgumentException.class);
+
+    assertThat(count("getMenuItem", "found")).isEqualTo(1);
+    assertThat(count("getMenuItem", "not_found")).isEqualTo(1);
+    assertThat(count("getMenuItem", "unavailable")).isEqualTo(1);
+    assertThat(count("getMenuItem", "error")).isEqualTo(1);
+  }
+
+  @Test
+  void getMenuItems_isFound_unlessNothingCameBack() {
+    var burger = new MenuClient.MenuItem("p1", "Burger", new BigDecimal("10.00"));
+    when(delegate.getMenuItems(List.of("p1", "p2"))).thenReturn(Map.of("p1", burger));
+    when(delegate.getMenuItems(List.of("p9"))).thenReturn(Map.of());
+
+    client.getMenuItems(List.of("p1", "p2"));
+    client.getMenuItems(List.of("p9"));
+
+    assertThat(count("getMenuItems", "found")).isEqualTo(1);
+    assertThat(count("getMenuItems", "not_found")).isEqualTo(1);
+  }
+
+  private long count(String method, String outcome) {
+    return registry
+        .get("menu.client.calls")
+        .tag("method", method)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+}
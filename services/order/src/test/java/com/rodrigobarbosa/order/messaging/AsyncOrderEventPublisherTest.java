@@ -0,0 +1,179 @@
+package com.rodrigobarbosa.order.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+class AsyncOrderEventPublisherTest {
+
+  private static final OrderEventRouting ROUTING = new OrderEventRouting("ex", "rk", "q", 0, "");
+
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final RabbitOperations channelOps = mock(RabbitOperations.class);
+  private AsyncOrderEventPublisher publisher;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    if (publisher != null) publisher.close();
+  }
+
+  @Test
+  void publishConfirmed_returnsAckedEvents_andRetriesNackedOnce() {
+    AtomicInteger e2Attempts = new AtomicInteger();
+    bindInvoke();
+    doAnswer(
+            inv -> {
+              CorrelationData correlation = inv.getArgument(3);
+              boolean ack = !"e2".equals(correlation.getId()) || e2Attempts.incrementAndGet() > 1;
+              correlation.getFuture().complete(new CorrelationData.Confirm(ack, null));
+              return null;
+            })
+        .when(channelOps)
+        .convertAndSend(eq("ex"), eq("rk"), any(Object.class), any(CorrelationData.class));
+    publisher = started(AsyncOrderEventPublisher.QueueFullPolicy.BLOCK, 10);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    publisher.bindTo(registry);
+
+    var confirmed = publisher.publishConfirmed(List.of(event("e1"), event("e2")));
+
+    assertThat(confirmed).containsExactlyInAnyOrder("e1", "e2");
+    assertThat(e2Attempts).hasValue(2);
+    assertThat(
+            registry
+                .get("order.events.published")
+                .tag("result", "confirmed")
+                .functionCounter()
+                .count())
+        .isEqualTo(2);
+    assertThat(registry.get("order.events.publish.retries").functionCounter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void publishConfirmed_givesUp_afterMaxAttempts() {
+    bindInvoke();
+    doAnswer(
+            inv -> {
+              CorrelationData correlation = inv.getArgument(3);
+              correlation.getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+              return null;
+            })
+        .when(channelOps)
+        .convertAndSend(eq("ex"), eq("rk"), any(Object.class), any(CorrelationData.class));
+    publisher = started(AsyncOrderEventPublisher.QueueFullPolicy.BLOCK, 10);
+
+    assertThat(publisher.publishConfirmed(List.of(event("e1")))).isEmpty();
+    verify(channelOps, times(2))
+        .convertAndSend(eq("ex"), eq("rk"), any(Object.class), any(CorrelationData.class));
+  }
+
+  @Test
+  void publishConfirmed_settlesAFailedSendOnce() throws InterruptedException {
+    AtomicInteger e2Attempts = new AtomicInteger();
+    bindInvoke();
+    doAnswer(
+            inv -> {
+              CorrelationData correlation = inv.getArgument(3);
+              if ("e2".equals(correlation.getId()) && e2Attempts.incrementAndGet() == 1) {
+                throw new AmqpException("channel closed");
+              }
+              correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+              return null;
+            })
+        .when(channelOps)
+        .convertAndSend(eq("ex"), eq("rk"), any(Object.class), any(CorrelationData.class));
+    publisher =
+        new AsyncOrderEventPublisher(
+            rabbitTemplate,
+            ROUTING,
+            10,
+            10,
+            10,
+            3,
+            Duration.ofMillis(100),
+            AsyncOrderEventPublisher.QueueFullPolicy.BLOCK);
+    publisher.start();
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    publisher.bindTo(registry);
+
+    var confirmed = publisher.publishConfirmed(List.of(event("e1"), event("e2"), event("e3")));
+    // Past the confirm timeout, when a confirm callback left on the failed send would fire.
+    Thread.sleep(300);
+
+    assertThat(confirmed).containsExactlyInAnyOrder("e1", "e2", "e3");
+    assertThat(e2Attempts).hasValue(2);
+    assertThat(registry.get("order.events.publish.in.flight").gauge().value()).isZero();
+  }
+
+  @Test
+  void publish_dropsOrFails_whenQueueFull() {
+    // Not started: nothing drains the queue.
+    var dropping = notStarted(AsyncOrderEventPublisher.QueueFullPolicy.DROP);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    dropping.bindTo(registry);
+    dropping.publish(event("e1"));
+    dropping.publish(event("e2"));
+    assertThat(
+            registry
+                .get("order.events.published")
+                .tag("result", "dropped")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+
+    var failing = notStarted(AsyncOrderEventPublisher.QueueFullPolicy.FAIL);
+    failing.publish(event("e1"));
+    assertThatThrownBy(() -> failing.publish(event("e2"))).isInstanceOf(AmqpException.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void bindInvoke() {
+    when(rabbitTemplate.invoke(any()))
+        .thenAnswer(
+            inv ->
+                ((RabbitOperations.OperationsCallback<Object>) inv.getArgument(0))
+                    .doInRabbit(channelOps));
+  }
+
+  private AsyncOrderEventPublisher started(
+      AsyncOrderEventPublisher.QueueFullPolicy policy, int capacity) {
+    var started =
+        new AsyncOrderEventPublisher(
+            rabbitTemplate, ROUTING, capacity, 10, 10, 2, Duration.ofSeconds(2), policy);
+    started.start();
+    return started;
+  }
+
+  private AsyncOrderEventPublisher notStarted(AsyncOrderEventPublisher.QueueFullPolicy policy) {
+    return new AsyncOrderEventPublisher(
+        rabbitTemplate, ROUTING, 1, 1, 1, 1, Duration.ofSeconds(1), policy);
+  }
+
+  private static OrderStatusChangedEvent event(String eventId) {
+    return new OrderStatusChangedEvent(
+        eventId,
+        OrderStatusChangedEvent.TYPE,
+        "order-" + eventId,
+        "john@example.com",
+        "John Doe",
+        "PREPARING",
+        Instant.parse("2026-03-01T12:00:00Z"));
+  }
+}
@@ -0,0 +1,132 @@
+package com.rodrigobarbosa.order.messaging;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CoalescingNotificationSinkTest {
+
+  private static final Instant T0 = Instant.parse("2026-03-01T12:00:00Z");
+
+  private final NotificationSink delegate = mock(NotificationSink.class);
+  private final AtomicLong nanos = new AtomicLong();
+  private final CoalescingNotificationSink sink =
+      new CoalescingNotificationSink(
+          delegate, Duration.ofSeconds(2), Duration.ofMinutes(10), 1000, nanos::get);
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    sink.close();
+  }
+
+  @Test
+  void forwardsOnlyLatestStatusPerOrder_onceWindowCloses() {
+    var preparing = event("e1", "o1", "PREPARING", T0);
+    var delivered = event("e2", "o1", "DELIVERED", T0.plusSeconds(1));
+    var other = event("e3", "o2", "PREPARING", T0);
+    sink.send(List.of(preparing, other));
+    nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+    sink.send(List.of(delivered));
+
+    sink.flushDue();
+    verifyNoInteractions(delegate);
+
+    nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+    sink.flushDue();
+    verify(delegate).send(List.of(delivered, other));
+  }
+
+  @Test
+  void dropsRedeliveredEvents_evenAfterTheirWindowClosed() {
+    var preparing = event("e1", "o1", "PREPARING", T0);
+    sink.send(List.of(preparing));
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    sink.flushDue();
+    verify(delegate).send(List.of(preparing));
+
+    sink.send(List.of(preparing));
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    sink.flushDue();
+
+    verify(delegate).send(List.of(preparing)); // still only once
+  }
+
+  @Test
+  void keepsNewestEvent_whenOlderOneArrivesLate() {
+    var delivered = event("e2", "o1", "DELIVERED", T0.plusSeconds(1));
+    var preparing = event("e1", "o1", "PREPARING", T0);
+    sink.send(List.of(delivered, preparing));
+
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    sink.flushDue();
+
+    verify(delegate).send(List.of(delivered));
+  }
+
+  @Test
+  void rebuffersBatch_whenDelegateFails_andForwardsItNextWindow() {
+    var preparing = event("e1", "o1", "PREPARING", T0);
+    var other = event("e2", "o2", "PREPARING", T0);
+    doThrow(new IllegalStateException("smtp down")).doNothing().when(delegate).send(any());
+    sink.send(List.of(preparing, other));
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+
+    assertThatThrownBy(sink::flushDue).isInstanceOf(IllegalStateException.class);
+    var delivered = event("e3", "o1", "DELIVERED", T0.plusSeconds(3));
+    sink.send(List.of(delivered, preparing)); // redelivered e1 is still a duplicate
+
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    sink.flushDue();
+
+    verify(delegate).send(List.of(delivered, other));
+  }
+
+  @Test
+  void dropsRedeliveredSupersededEvent_onceItsReplacementWasForwarded() {
+    var preparing = event("e1", "o1", "PREPARING", T0);
+    var delivered = event("e2", "o1", "DELIVERED", T0.plusSeconds(1));
+    sink.send(List.of(preparing, delivered));
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    sink.flushDue();
+
+    sink.send(List.of(preparing));
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    sink.flushDue();
+
+    verify(delegate).send(List.of(delivered));
+    verifyNoMoreInteractions(delegate);
+  }
+
+  @Test
+  void close_forwardsWhatIsStillBuffered() throws InterruptedException {
+    var preparing = event("e1", "o1", "PREPARING", T0);
+    sink.send(List.of(preparing));
+
+    sink.close();
+
+    verify(delegate).send(List.of(preparing));
+  }
+
+  private static OrderStatusChangedEvent event(
+      String eventId, String orderId, String status, Instant occurredAt) {
+    return new OrderStatusChangedEvent(
+        eventId,
+        OrderStatusChangedEvent.TYPE,
+        orderId,
+        "john@example.com",
+        "John Doe",
+        status,
+        occurredAt);
+  }
+}
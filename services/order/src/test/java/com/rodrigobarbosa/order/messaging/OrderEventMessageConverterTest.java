@@ -0,0 +1,55 @@
+package com.rodrigobarbosa.order.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+class OrderEventMessageConverterTest {
+
+  private final RabbitMessagingConfig config = new RabbitMessagingConfig();
+  private final MessageConverter jsonWriter =
+      config.orderEventMessageConverter(RabbitMessagingConfig.Serialization.JSON);
+  private final MessageConverter cborWriter =
+      config.orderEventMessageConverter(RabbitMessagingConfig.Serialization.CBOR);
+
+  @Test
+  void cbor_roundTrips_andIsSmallerThanJson() {
+    Message cbor = cborWriter.toMessage(EVENT, new MessageProperties());
+    Message json = jsonWriter.toMessage(EVENT, new MessageProperties());
+
+    assertThat(cbor.getMessageProperties().getContentType())
+        .isEqualTo(JacksonCborMessageConverter.CONTENT_TYPE_CBOR);
+    assertThat(cbor.getBody().length).isLessThan(json.getBody().length);
+    assertThat(read(jsonWriter, cbor)).isEqualTo(EVENT);
+  }
+
+  @Test
+  void eitherConverter_readsBothFormats_byContentType() {
+    Message json = jsonWriter.toMessage(EVENT, new MessageProperties());
+    Message cbor = cborWriter.toMessage(EVENT, new MessageProperties());
+
+    assertThat(json.getMessageProperties().getContentType())
+        .isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    assertThat(read(cborWriter, json)).isEqualTo(EVENT);
+    assertThat(read(jsonWriter, cbor)).isEqualTo(EVENT);
+  }
+
+  private static Object read(MessageConverter converter, Message message) {
+    message.getMessageProperties().setInferredArgumentType(OrderStatusChangedEvent.class);
+    return converter.fromMessage(message);
+  }
+
+  private static final OrderStatusChangedEvent EVENT =
+      new OrderStatusChangedEvent(
+          "2f1c8a52-51a4-4b43-9a3e-6a1f0e7c9d10",
+          OrderStatusChangedEvent.TYPE,
+          "65f1c0ffee0000000000abcd",
+          "ze.pequeno@city.god",
+          "Ze Pequeno",
+          "PREPARING",
+          Instant.parse("2026-02-20T10:15:30.123Z"));
+}
@@ -0,0 +1,66 @@
+package com.rodrigobarbosa.order.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+class OrderEventRetrierTest {
+
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final OrderEventRetrier retrier =
+      new OrderEventRetrier(
+          rabbitTemplate, List.of(Duration.ofSeconds(1), Duration.ofSeconds(10)), "parked");
+
+  @Test
+  void retryOrPark_sendsFirstFailureToFirstTier() {
+    Message message = consumed("order.notifications", null, null);
+
+    retrier.retryOrPark(message, new IllegalStateException("boom"));
+
+    verify(rabbitTemplate).send(eq(""), eq("order.notifications.retry.0"), same(message));
+    MessageProperties properties = message.getMessageProperties();
+    assertThat((Object) properties.getHeader(OrderEventRetrier.RETRY_COUNT)).isEqualTo(1);
+    assertThat((Object) properties.getHeader(OrderEventRetrier.ORIGINAL_QUEUE))
+        .isEqualTo("order.notifications");
+    assertThat((Object) properties.getHeader(OrderEventRetrier.LAST_ERROR)).isEqualTo("boom");
+  }
+
+  @Test
+  void retryOrPark_usesNextTier_forTheOriginalQueue() {
+    Message message = consumed("order.notifications.p3", 1, "order.notifications.p3");
+
+    retrier.retryOrPark(message, new IllegalStateException("boom"));
+
+    verify(rabbitTemplate).send(eq(""), eq("order.notifications.p3.retry.1"), same(message));
+    assertThat((Object) message.getMessageProperties().getHeader(OrderEventRetrier.RETRY_COUNT))
+        .isEqualTo(2);
+  }
+
+  @Test
+  void retryOrPark_parks_afterLastTier() {
+    Message message = consumed("order.notifications", 2, "order.notifications");
+
+    retrier.retryOrPark(message, new IllegalStateException("still failing"));
+
+    verify(rabbitTemplate).send(eq(""), eq("parked"), same(message));
+    assertThat((Object) message.getMessageProperties().getHeader(OrderEventRetrier.LAST_ERROR))
+        .isEqualTo("still failing");
+  }
+
+  private static Message consumed(String consumerQueue, Integer retryCount, String original) {
+    MessageProperties properties = new MessageProperties();
+    properties.setConsumerQueue(consumerQueue);
+    if (retryCount != null) properties.setHeader(OrderEventRetrier.RETRY_COUNT, retryCount);
+    if (original != null) properties.setHeader(OrderEventRetrier.ORIGINAL_QUEUE, original);
+    return new Message(new byte[0], properties);
+  }
+}
@@ -0,0 +1,43 @@
+package com.rodrigobarbosa.order.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class OrderEventRoutingTest {
+
+  @Test
+  void unpartitioned_usesSingleQueueAndRoutingKey() {
+    var routing = new OrderEventRouting("order.events", "order.status.changed", "order.q", 0, "");
+
+    assertThat(routing.routingKey("any-order")).isEqualTo("order.status.changed");
+    assertThat(routing.queueNames()).containsExactly("order.q");
+  }
+
+  @Test
+  void partitioned_routesEachOrderToOneStablePartition() {
+    var routing = new OrderEventRouting("order.events", "order.status.changed", "order.q", 4, "");
+
+    assertThat(routing.queueNames())
+        .containsExactly("order.q.p0", "order.q.p1", "order.q.p2", "order.q.p3");
+    assertThat(routing.ownedQueueNames()).containsExactly(routing.queueNames());
+    String orderId = "65f1c0ffee0000000000abcd";
+    int partition = Math.floorMod(orderId.hashCode(), 4);
+    assertThat(routing.partition(orderId)).isEqualTo(partition);
+    assertThat(routing.routingKey(orderId)).isEqualTo("order.status.changed." + partition);
+    assertThat(routing.partition("negative-hash-\u0000\uffff")).isBetween(0, 3);
+  }
+
+  @Test
+  void ownedPartitions_limitConsumedQueues_butNotRouting() {
+    var routing =
+        new OrderEventRouting("order.events", "order.status.changed", "order.q", 8, "0-2, 6");
+
+    assertThat(routing.ownedQueueNames())
+        .containsExactly("order.q.p0", "order.q.p1", "order.q.p2", "order.q.p6");
+    assertThat(routing.queueNames()).hasSize(8);
+    assertThatThrownBy(() -> new OrderEventRouting("order.events", "rk", "order.q", 4, "3-4"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -1,36 +1,102 @@
 package com.rodrigobarbosa.order.messaging;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.springframework.boot.test.system.CapturedOutput;
-import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
 
-@ExtendWith(OutputCaptureExtension.class)
 class OrderNotificationConsumerTest {
 
-  private final OrderNotificationConsumer consumer = new OrderNotificationConsumer();
+  private final JacksonJsonMessageConverter converter = new JacksonJsonMessageConverter();
+  private final NotificationSink sink = mock(NotificationSink.class);
+  private final OrderEventRetrier retrier = mock(OrderEventRetrier.class);
+  private final OrderNotificationConsumer consumer =
+      new OrderNotificationConsumer(sink, converter, retrier);
 
   @Test
-  void onMessage_logsNotification(CapturedOutput output) {
-    var event =
-        new OrderStatusChangedEvent(
-            OrderStatusChangedEvent.TYPE,
-            "order-123",
-            "ze.pequeno@city.god",
-            "Ze Pequeno",
-            "PREPARING",
-            Instant.parse("2026-02-20T10:15:30.00Z"));
-
-    consumer.onMessage(event);
-
-    assertThat(output.getOut())
-        .contains("NOTIFICATION:")
-        .contains("order-123")
-        .contains("Ze Pequeno")
-        .contains("PREPARING")
-        .contains("2026-02-20T10:15:30Z");
+  void onMessages_handsWholeBatchToSink() {
+    var e1 = event("e1", "order-1", "PREPARING");
+    var e2 = event("e2", "order-2", "DELIVERED");
+
+    consumer.onMessages(List.of(message(e1), message(e2)));
+
+    verify(sink).send(List.of(e1, e2));
+    verifyNoInteractions(retrier);
+  }
+
+  @Test
+  void onMessages_retriesOnlyTheEventsThatFailOnTheirOwn() {
+    var e1 = event("e1", "order-1", "PREPARING");
+    var e2 = event("e2", "order-2", "DELIVERED");
+    Message m2 = message(e2);
+    doThrow(new IllegalStateException("sink down")).when(sink).send(List.of(e1, e2));
+    doThrow(new IllegalStateException("bad order")).when(sink).send(List.of(e2));
+
+    consumer.onMessages(List.of(message(e1), m2));
+
+    verify(sink).send(List.of(e1));
+    verify(retrier).retryOrPark(same(m2), argThat(e -> "bad order".equals(e.getMessage())));
+    verify(retrier, never()).park(any(), any());
+  }
+
+  @Test
+  void onMessages_timesBatches_byHowTheyWereHandled() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    consumer.bindTo(registry);
+    var e1 = event("e1", "order-1", "PREPARING");
+    var e2 = event("e2", "order-2", "DELIVERED");
+    doThrow(new IllegalStateException("sink down")).when(sink).send(List.of(e2, e1));
+
+    consumer.onMessages(List.of(message(e1), message(e2)));
+    consumer.onMessages(List.of(message(e2), message(e1)));
+
+    assertThat(consumeCount(registry, "delivered")).isEqualTo(1);
+    assertThat(consumeCount(registry, "retried")).isEqualTo(1);
+  }
+
+  @Test
+  void onMessages_parksUnreadableMessages() {
+    var e1 = event("e1", "order-1", "PREPARING");
+    MessageProperties properties = new MessageProperties();
+    properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+    Message garbage = new Message("{not json".getBytes(StandardCharsets.UTF_8), properties);
+
+    consumer.onMessages(List.of(garbage, message(e1)));
+
+    verify(retrier).park(same(garbage), any());
+    verify(sink).send(List.of(e1));
+  }
+
+  private Message message(OrderStatusChangedEvent event) {
+    return converter.toMessage(event, new MessageProperties());
+  }
+
+  private static OrderStatusChangedEvent event(String eventId, String orderId, String status) {
+    return new OrderStatusChangedEvent(
+        eventId,
+        OrderStatusChangedEvent.TYPE,
+        orderId,
+        "ze.pequeno@city.god",
+        "Ze Pequeno",
+        status,
+        Instant.parse("2026-02-20T10:15:30.00Z"));
+  }
+
+  private static long consumeCount(SimpleMeterRegistry registry, String result) {
+    return registry.get("order.notifications.consume").tag("result", result).timer().count();
   }
 }
@@ -0,0 +1,126 @@
+package com.rodrigobarbosa.order.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rodrigobarbosa.order.domain.Customer;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import com.rodrigobarbosa.order.repo.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class OrderOutboxRelayTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+  private final OrderRepository repo = mock(OrderRepository.class);
+  private final OrderEventPublisher publisher = mock(OrderEventPublisher.class);
+  private final OrderOutboxRelay relay =
+      new OrderOutboxRelay(
+          repo, publisher, 10, Duration.ofSeconds(10), Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @Test
+  void relayBatch_publishesPendingEvents_andRemovesOnlyConfirmedOnes() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    relay.bindTo(registry);
+    Order order =
+        orderWithOutbox(
+            "o1",
+            new OutboxEvent(
+                "e1", OrderStatusChangedEvent.TYPE, OrderStatus.PREPARING, NOW.minusSeconds(3)),
+            new OutboxEvent(
+                "e2", OrderStatusChangedEvent.TYPE, OrderStatus.DELIVERED, NOW.minusSeconds(1)));
+    when(repo.findWithPendingEvents(10)).thenReturn(List.of(order));
+    when(publisher.publishConfirmed(anyList())).thenReturn(Set.of("e1"));
+
+    int relayed = relay.relayBatch();
+
+    assertThat(relayed).isZero(); // e2 stays for the next poll
+    verify(publisher)
+        .publishConfirmed(
+            List.of(
+                new OrderStatusChangedEvent(
+                    "e1",
+                    OrderStatusChangedEvent.TYPE,
+                    "o1",
+                    "john@example.com",
+                    "John Doe",
+                    "PREPARING",
+                    NOW.minusSeconds(3)),
+                new OrderStatusChangedEvent(
+                    "e2",
+                    OrderStatusChangedEvent.TYPE,
+                    "o1",
+                    "john@example.com",
+                    "John Doe",
+                    "DELIVERED",
+                    NOW.minusSeconds(1))));
+    verify(repo).removeOutboxEvents(Map.of("o1", List.of("e1")));
+    assertThat(relay.lag()).isEqualTo(Duration.ofSeconds(3));
+    assertThat(registry.get("order.events.publish").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void relayBatch_doesNothing_whenOutboxEmpty() {
+    when(repo.findWithPendingEvents(10)).thenReturn(List.of());
+
+    assertThat(relay.relayBatch()).isZero();
+
+    verify(publisher, never()).publishConfirmed(anyList());
+    assertThat(relay.lag()).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void relay_skipsPolling_whileAnotherInstanceHoldsTheLease() {
+    when(repo.acquireOutboxLease(anyString(), eq(NOW), eq(Duration.ofSeconds(10))))
+        .thenReturn(false);
+
+    relay.relay();
+
+    verify(repo, never()).findWithPendingEvents(anyInt());
+  }
+
+  @Test
+  void relay_takesTheLeaseOnce_andRenewsOnlyWhenHalfOfItHasPassed() {
+    when(repo.acquireOutboxLease(anyString(), eq(NOW), eq(Duration.ofSeconds(10))))
+        .thenReturn(true);
+    when(repo.findWithPendingEvents(10)).thenReturn(List.of());
+
+    relay.relay();
+    relay.relay();
+
+    verify(repo, times(1)).acquireOutboxLease(anyString(), eq(NOW), eq(Duration.ofSeconds(10)));
+    verify(repo, times(2)).findWithPendingEvents(10);
+  }
+
+  private static Order orderWithOutbox(String id, OutboxEvent... events) {
+    Order order =
+        new Order(
+            id,
+            new Customer("John Doe", "Street 1", "john@example.com"),
+            List.of(),
+            0,
+            OrderStatus.DELIVERED,
+            NOW,
+            NOW);
+    order.setOutbox(List.of(events));
+    return order;
+  }
+}
@@ -0,0 +1,95 @@
+package com.rodrigobarbosa.order.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+class ParkingLotTest {
+
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final Channel channel = mock(Channel.class);
+  private final ParkingLot parkingLot =
+      new ParkingLot(
+          rabbitTemplate,
+          new OrderEventRetrier(rabbitTemplate, List.of(Duration.ofSeconds(1)), "parked"),
+          Duration.ofSeconds(5));
+
+  @BeforeEach
+  void setUp() {
+    when(rabbitTemplate.execute(any()))
+        .thenAnswer(
+            invocation -> invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+  }
+
+  @Test
+  void replay_skipsAndReparksMessagesWithoutOriginalQueue() throws Exception {
+    GetResponse orphan = parked(1, Map.of(OrderEventRetrier.LAST_ERROR, "boom"));
+    GetResponse replayable =
+        parked(2, Map.of(OrderEventRetrier.ORIGINAL_QUEUE, "order.notifications"));
+    when(channel.messageCount("parked")).thenReturn(2L);
+    when(channel.basicGet("parked", false)).thenReturn(orphan, replayable);
+
+    assertThat(parkingLot.replay(10)).isEqualTo(1);
+
+    InOrder inOrder = inOrder(channel);
+    inOrder.verify(channel).confirmSelect();
+    inOrder.verify(channel).basicPublish(eq(""), eq("parked"), same(orphan.getProps()), any());
+    inOrder.verify(channel).basicPublish(eq(""), eq("order.notifications"), any(), any());
+    inOrder.verify(channel).waitForConfirmsOrDie(5000);
+    inOrder.verify(channel).basicAck(2, true);
+    verify(channel, never()).basicNack(any(Long.class), any(Boolean.class), any(Boolean.class));
+  }
+
+  @Test
+  void replay_leavesMessagesParked_whenRepublishIsNotConfirmed() throws Exception {
+    GetResponse replayable =
+        parked(1, Map.of(OrderEventRetrier.ORIGINAL_QUEUE, "order.notifications"));
+    when(channel.messageCount("parked")).thenReturn(1L);
+    when(channel.basicGet("parked", false)).thenReturn(replayable);
+    doThrow(new IOException("nack")).when(channel).waitForConfirmsOrDie(any(Long.class));
+
+    assertThatThrownBy(() -> parkingLot.replay(10)).hasMessageContaining("nack");
+
+    verify(channel, never()).basicAck(any(Long.class), any(Boolean.class));
+  }
+
+  @Test
+  void replay_looksOnlyAtMessagesParkedWhenItStarts() throws Exception {
+    GetResponse orphan = parked(1, Map.of());
+    when(channel.messageCount("parked")).thenReturn(1L);
+    when(channel.basicGet("parked", false)).thenReturn(orphan);
+
+    assertThat(parkingLot.replay(10)).isZero();
+
+    verify(channel).basicGet("parked", false);
+  }
+
+  private static GetResponse parked(long deliveryTag, Map<String, Object> headers) {
+    AMQP.BasicProperties props =
+        new AMQP.BasicProperties.Builder().contentType("application/json").headers(headers).build();
+    return new GetResponse(
+        new Envelope(deliveryTag, false, "", "parked"), props, "{}".getBytes(), 0);
+  }
+}
@@ -0,0 +1,44 @@
+package com.rodrigobarbosa.order.repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.Tag;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+class LowCardinalityMongoCommandTagsTest {
+
+  @Test
+  void commandTags_dropClusterIdAndServerAddress() {
+    LowCardinalityMongoCommandTags tags = new LowCardinalityMongoCommandTags();
+    ConnectionDescription connection =
+        new ConnectionDescription(
+            new ServerId(new ClusterId(), new ServerAddress("mongo-1.internal", 27017)));
+    tags.commandStarted(
+        new CommandStartedEvent(
+            null,
+            1,
+            7,
+            connection,
+            "orders",
+            "find",
+            new BsonDocument("find", new BsonString("orders"))));
+
+    Iterable<Tag> result =
+        tags.commandTags(
+            new CommandSucceededEvent(
+                null, 1, 7, connection, "orders", "find", new BsonDocument(), 1_000_000));
+
+    assertThat(result)
+        .extracting(Tag::getKey)
+        .containsExactlyInAnyOrder("command", "database", "collection", "status");
+    assertThat(result).contains(Tag.of("collection", "orders"), Tag.of("status", "SUCCESS"));
+  }
+}
@@ -0,0 +1,179 @@
+package com.rodrigobarbosa.order.repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class OrderRepositoryCustomImplTest {
+
+  private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+  @Test
+  void exact_shouldCountOnEveryCall() {
+    when(mongoTemplate.count(any(Query.class), eq(Order.class))).thenReturn(7L, 8L);
+    var repo = new OrderRepositoryCustomImpl(mongoTemplate, CountStrategy.EXACT, Duration.ZERO);
+
+    assertThat(repo.totalRecords()).isEqualTo(TotalCount.exact(7));
+    assertThat(repo.totalRecords()).isEqualTo(TotalCount.exact(8));
+  }
+
+  @Test
+  void cached_shouldReuseCountWithinTtl_andFlagItApproximate() {
+    when(mongoTemplate.count(any(Query.class), eq(Order.class))).thenReturn(7L, 8L);
+    var repo =
+        new OrderRepositoryCustomImpl(mongoTemplate, CountStrategy.CACHED, Duration.ofMinutes(1));
+
+    assertThat(repo.totalRecords()).isEqualTo(TotalCount.exact(7));
+    assertThat(repo.totalRecords()).isEqualTo(TotalCount.approximate(7));
+    verify(mongoTemplate, times(1)).count(any(Query.class), eq(Order.class));
+  }
+
+  @Test
+  void estimated_shouldUseCollectionMetadata() {
+    when(mongoTemplate.estimatedCount(Order.class)).thenReturn(42L);
+    var repo = new OrderRepositoryCustomImpl(mongoTemplate, CountStrategy.ESTIMATED, Duration.ZERO);
+
+    assertThat(repo.totalRecords()).isEqualTo(TotalCount.approximate(42));
+    verify(mongoTemplate, never()).count(any(Query.class), eq(Order.class));
+  }
+
+  @Test
+  void updateStatus_shouldReturnUpdatedOrder_whenGuardMatches() {
+    Order updated = new Order();
+    updated.setOrderStatus(OrderStatus.PREPARING);
+    when(mongoTemplate.findAndModify(
+            any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Order.class)))
+        .thenReturn(updated);
+    var repo = new OrderRepositoryCustomImpl(mongoTemplate, CountStrategy.EXACT, Duration.ZERO);
+
+    var result = repo.updateStatus("o1", OrderStatus.PREPARING, Instant.now(), null);
+
+    assertThat(result).isEqualTo(new StatusUpdateResult.Updated(updated));
+    verify(mongoTemplate, never()).findOne(any(Query.class), eq(Order.class));
+  }
+
+  @Test
+  void updateStatus_shouldTellMissingFromRejected_whenGuardDoesNotMatch() {
+    Order delivered = new Order();
+    delivered.setOrderStatus(OrderStatus.DELIVERED);
+    when(mongoTemplate.findOne(any(Query.class), eq(Order.class))).thenReturn(null, delivered);
+    var repo = new OrderRepositoryCustomImpl(mongoTemplate, CountStrategy.EXACT, Duration.ZERO);
+
+    assertThat(repo.updateStatus("missing", OrderStatus.CANCELLED, Instant.now(), null))
+        .isEqualTo(new StatusUpdateResult.NotFound());
+    assertThat(repo.updateStatus("o1", OrderStatus.CANCELLED, Instant.now(), null))
+        .isEqualTo(new StatusUpdateResult.Rejected(OrderStatus.DELIVERED));
+  }
+
+  @Test
+  void updateStatuses_shouldReadBackApplied_byEventId_onlyWhenSomeGuardsMissed() {
+    BulkOperations bulk = mock(BulkOperations.class);
+    BulkWriteResult result = mock(BulkWriteResult.class);
+    when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class)).thenReturn(bulk);
+    when(bulk.execute()).thenReturn(result);
+    when(result.getMatchedCount()).thenReturn(3, 1);
+    Instant now = Instant.now();
+    List<StatusChange> changes =
+        List.of(
+            change("o1", OrderStatus.CREATED, OrderStatus.PREPARING, now),
+            change("o2", OrderStatus.CREATED, OrderStatus.PREPARING, now),
+            change("o3", OrderStatus.PREPARING, OrderStatus.DELIVERED, now));
+    // o2 was moved to PREPARING by a concurrent request in the same millisecond; o3 is gone.
+    Order applied = readBack("o1", OrderStatus.PREPARING, changes.get(0).event().getEventId());
+    Order concurrent = readBack("o2", OrderStatus.PREPARING, "other-event");
+    when(mongoTemplate.find(any(Query.class), eq(Order.class)))
+        .thenReturn(List.of(applied, concurrent));
+    var repo = new OrderRepositoryCustomImpl(mongoTemplate, CountStrategy.EXACT, Duration.ZERO);
+
+    assertThat(repo.updateStatuses(changes, now).applied())
+        .containsExactlyInAnyOrder("o1", "o2", "o3");
+    verify(mongoTemplate, never()).find(any(Query.class), eq(Order.class));
+
+    BulkStatusResult partial = repo.updateStatuses(changes, now);
+    assertThat(partial.applied()).containsExactly("o1");
+    assertThat(partial.current()).isEqualTo(Map.of("o2", OrderStatus.PREPARING));
+    verify(bulk, times(6)).updateOne(any(Query.class), any(Update.class));
+  }
+
+  private static StatusChange change(String id, OrderStatus from, OrderStatus to, Instant at) {
+    return new StatusChange(
+        id, from, to, OutboxEvent.statusChanged("ORDER_STATUS_CHANGED", to, at));
+  }
+
+  private static Order readBack(String id, OrderStatus status, String statusEventId) {
+    Order order = new Order();
+    order.setId(id);
+    order.setOrderStatus(status);
+    order.setStatusEventId(statusEventId);
+    return order;
+  }
+
+  @Test
+  void insertUnordered_assignsIds_andReportsOnlyTheDocumentsThatFailed() {
+    BulkOperations bulk = mock(BulkOperations.class);
+    when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class)).thenReturn(bulk);
+    when(bulk.insert(anyList())).thenReturn(bulk);
+    BulkWriteError duplicate =
+        new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1);
+    when(bulk.execute())
+        .thenThrow(
+            new BulkOperationException(
+                "bulk failed",
+                new MongoBulkWriteException(
+                    BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()),
+                    List.of(duplicate),
+                    null,
+                    new ServerAddress(),
+                    Set.of())));
+    var repo = new OrderRepositoryCustomImpl(mongoTemplate, CountStrategy.EXACT, Duration.ZERO);
+    List<Order> orders = List.of(new Order(), new Order(), new Order());
+
+    assertThat(repo.insertUnordered(orders)).isEqualTo(Map.of(1, "E11000 duplicate key"));
+    assertThat(orders).allSatisfy(order -> assertThat(order.getId()).isNotNull());
+  }
+
+  @Test
+  void acquireOutboxLease_fails_whileAnotherOwnerHoldsIt() {
+    var repo = new OrderRepositoryCustomImpl(mongoTemplate, CountStrategy.EXACT, Duration.ZERO);
+    when(mongoTemplate.findAndModify(
+            any(Query.class),
+            any(Update.class),
+            any(FindAndModifyOptions.class),
+            eq(Document.class),
+            eq(OrderRepositoryCustomImpl.LEASES)))
+        .thenReturn(new Document("owner", "a"))
+        .thenThrow(new DuplicateKeyException("E11000"));
+
+    assertThat(repo.acquireOutboxLease("a", Instant.now(), Duration.ofSeconds(10))).isTrue();
+    assertThat(repo.acquireOutboxLease("b", Instant.now(), Duration.ofSeconds(10))).isFalse();
+  }
+}
@@ -0,0 +1,98 @@
+package com.rodrigobarbosa.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.rodrigobarbosa.order.domain.Customer;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderItem;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.repo.OrderFilter;
+import com.rodrigobarbosa.order.repo.OrderRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.ErrorResponseException;
+import tools.jackson.databind.json.JsonMapper;
+
+class OrderExportServiceTest {
+
+  private static final Instant T = Instant.parse("2026-03-01T12:00:00Z");
+  private static final OrderFilter ALL = new OrderFilter(null, null, null);
+
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+  private final OrderRepository repo = mock(OrderRepository.class);
+  private final OrderExportService service = new OrderExportService(repo, jsonMapper);
+
+  @Test
+  void export_writesCsvWithQuotedFields_andClosesTheCursor() throws Exception {
+    AtomicBoolean closed = new AtomicBoolean();
+    when(repo.streamOrders(ALL))
+        .thenReturn(
+            Stream.of(order("o1", "Doe, John"), order("o2", "Ana \"Bia\""))
+                .onClose(() -> closed.set(true)));
+
+    String csv = run(OrderExportService.Format.CSV);
+
+    assertThat(csv.lines())
+        .containsExactly(
+            "id,customerName,customerEmail,orderStatus,totalAmount,itemCount,createdAt,updatedAt",
+            "o1,\"Doe, John\",john@example.com,CREATED,25.00,1,2026-03-01T12:00:00Z,2026-03-01T12:00:00Z",
+            "o2,\"Ana \"\"Bia\"\"\",john@example.com,CREATED,25.00,1,2026-03-01T12:00:00Z,2026-03-01T12:00:00Z");
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  void csvField_prefixesFormulaLikeValues() {
+    assertThat(OrderExportService.csvField("=HYPERLINK(\"http://x\")"))
+        .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"");
+    assertThat(OrderExportService.csvField("+1")).isEqualTo("'+1");
+    assertThat(OrderExportService.csvField("-2+3")).isEqualTo("'-2+3");
+    assertThat(OrderExportService.csvField("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+    assertThat(OrderExportService.csvField("a=b")).isEqualTo("a=b");
+    assertThat(OrderExportService.csvField("")).isEmpty();
+  }
+
+  @Test
+  void export_writesOneOrderResponsePerLine_asNdjson() throws Exception {
+    when(repo.streamOrders(ALL)).thenReturn(Stream.of(order("o1", "John"), order("o2", "Ana")));
+
+    List<String> lines = run(OrderExportService.Format.NDJSON).lines().toList();
+
+    assertThat(lines).hasSize(2);
+    assertThat(jsonMapper.readTree(lines.get(1)).get("id").asString()).isEqualTo("o2");
+    assertThat(jsonMapper.readTree(lines.get(1)).get("totalAmount").decimalValue())
+        .isEqualByComparingTo("25.00");
+  }
+
+  @Test
+  void validate_rejectsEmptyDateRange() {
+    assertThatThrownBy(() -> service.validate(new OrderFilter(null, T, T)))
+        .isInstanceOf(ErrorResponseException.class)
+        .satisfies(
+            ex -> assertThat(((ErrorResponseException) ex).getStatusCode().value()).isEqualTo(400));
+  }
+
+  private String run(OrderExportService.Format format) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    service.export(ALL, format, out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  private static Order order(String id, String customerName) {
+    return new Order(
+        id,
+        new Customer(customerName, "123 Main St", "john@example.com"),
+        List.of(new OrderItem("pizza", "Pizza", 1250, 2)),
+        2500,
+        OrderStatus.CREATED,
+        T,
+        T);
+  }
+}
@@ -0,0 +1,157 @@
+package com.rodrigobarbosa.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rodrigobarbosa.order.api.dto.ImportResult;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.external.menu.MenuClient;
+import com.rodrigobarbosa.order.repo.OrderRepository;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+class OrderImportServiceTest {
+
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+  private final OrderRepository repo = mock(OrderRepository.class);
+  private final MenuClient menuClient = mock(MenuClient.class);
+
+  @Test
+  void importOrders_streamsOneResultPerRecord_inInputOrder() throws Exception {
+    when(menuClient.getMenuItems(any()))
+        .thenReturn(
+            Map.of("pizza", new MenuClient.MenuItem("pizza", "Pizza", new BigDecimal("12.50"))));
+    AtomicInteger ids = new AtomicInteger();
+    when(repo.insertUnordered(anyList()))
+        .thenAnswer(
+            inv -> {
+              List<Order> orders = inv.getArgument(0);
+              orders.forEach(o -> o.setId("order-" + ids.incrementAndGet()));
+              return Map.of();
+            });
+
+    List<ImportResult> results =
+        run(
+            2,
+            order("pizza", 2),
+            "{not json",
+            "",
+            order("unknown", 1),
+            order("pizza", 0),
+            order("pizza", 1));
+
+    assertThat(results)
+        .extracting(ImportResult::line, ImportResult::outcome, ImportResult::id)
+        .containsExactly(
+            tuple(1L, ImportResult.Outcome.CREATED, "order-1"),
+            tuple(2L, ImportResult.Outcome.REJECTED, null),
+            tuple(4L, ImportResult.Outcome.REJECTED, null),
+            tuple(5L, ImportResult.Outcome.REJECTED, null),
+            tuple(6L, ImportResult.Outcome.CREATED, "order-2"));
+    assertThat(results.get(2).error()).isEqualTo("Invalid product ID: unknown");
+    assertThat(results.get(3).error()).contains("quantity");
+    // Chunks of 2 records (lines 1-2, 4-5, 6): one menu lookup per chunk with parsed records.
+    verify(menuClient, times(3)).getMenuItems(any());
+  }
+
+  @Test
+  void importOrders_marksChunkFailed_whenMenuUnavailable() throws Exception {
+    when(menuClient.getMenuItems(any()))
+        .thenThrow(new MenuClient.MenuUnavailableException("Menu service unavailable"));
+
+    List<ImportResult> results = run(10, order("pizza", 1), order("pizza", 2));
+
+    assertThat(results)
+        .extracting(ImportResult::outcome)
+        .containsExactly(ImportResult.Outcome.FAILED, ImportResult.Outcome.FAILED);
+  }
+
+  @Test
+  void importOrders_marksOnlyRecordsMongoRejected_asFailed() throws Exception {
+    when(menuClient.getMenuItems(any()))
+        .thenReturn(
+            Map.of("pizza", new MenuClient.MenuItem("pizza", "Pizza", new BigDecimal("12.50"))));
+    when(repo.insertUnordered(anyList()))
+        .thenAnswer(
+            inv -> {
+              List<Order> orders = inv.getArgument(0);
+              for (int i = 0; i < orders.size(); i++) orders.get(i).setId("order-" + i);
+              return Map.of(1, "E11000 duplicate key");
+            });
+
+    List<ImportResult> results = run(10, order("pizza", 1), order("pizza", 2), order("pizza", 3));
+
+    assertThat(results)
+        .extracting(ImportResult::outcome, ImportResult::id)
+        .containsExactly(
+            tuple(ImportResult.Outcome.CREATED, "order-0"),
+            tuple(ImportResult.Outcome.FAILED, null),
+            tuple(ImportResult.Outcome.CREATED, "order-2"));
+    assertThat(results.get(1).error()).isEqualTo("Insert failed: E11000 duplicate key");
+  }
+
+  @Test
+  void importOrders_rejectsLinesLongerThanTheLimit_andKeepsReading() throws Exception {
+    when(menuClient.getMenuItems(any()))
+        .thenReturn(
+            Map.of("pizza", new MenuClient.MenuItem("pizza", "Pizza", new BigDecimal("12.50"))));
+    when(repo.insertUnordered(anyList())).thenReturn(Map.of());
+    String fits = order("pizza", 1);
+
+    List<ImportResult> results =
+        run(10, fits.length(), fits + "\r", "x".repeat(fits.length() + 1), fits);
+
+    assertThat(results)
+        .extracting(ImportResult::line, ImportResult::outcome)
+        .containsExactly(
+            tuple(1L, ImportResult.Outcome.CREATED),
+            tuple(2L, ImportResult.Outcome.REJECTED),
+            tuple(3L, ImportResult.Outcome.CREATED));
+    assertThat(results.get(1).error())
+        .isEqualTo("Line longer than " + fits.length() + " characters");
+  }
+
+  private List<ImportResult> run(int chunkSize, String... lines) throws Exception {
+    return run(chunkSize, 65536, lines);
+  }
+
+  private List<ImportResult> run(int chunkSize, int maxLineLength, String... lines)
+      throws Exception {
+    OrderImportService service =
+        new OrderImportService(
+            repo,
+            menuClient,
+            jsonMapper,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            chunkSize,
+            maxLineLength);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    service.importOrders(
+        new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)), out);
+    return out.toString(StandardCharsets.UTF_8)
+        .lines()
+        .map(line -> jsonMapper.readValue(line, ImportResult.class))
+        .toList();
+  }
+
+  private static String order(String productId, int quantity) {
+    return """
+        {"customer":{"fullName":"John Doe","address":"123 Main St","email":"john@example.com"},\
+        "orderItems":[{"productId":"%s","quantity":%d}]}"""
+        .formatted(productId, quantity);
+  }
+}
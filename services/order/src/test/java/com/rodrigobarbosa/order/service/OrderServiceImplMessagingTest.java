@@ -1,6 +1,8 @@
 package com.rodrigobarbosa.order.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,15 +11,16 @@ import com.rodrigobarbosa.order.api.dto.UpdateOrderStatusRequest;
 import com.rodrigobarbosa.order.domain.Customer;
 import com.rodrigobarbosa.order.domain.Order;
 import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.domain.OutboxEvent;
 import com.rodrigobarbosa.order.external.menu.MenuClient;
-import com.rodrigobarbosa.order.messaging.OrderEventPublisher;
+import com.rodrigobarbosa.order.messaging.OrderStatusChangedEvent;
 import com.rodrigobarbosa.order.repo.OrderRepository;
-import java.math.BigDecimal;
+import com.rodrigobarbosa.order.repo.StatusUpdateResult;
 import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,28 +30,33 @@ class OrderServiceImplMessagingTest {
 
   @Mock OrderRepository repo;
   @Mock MenuClient menuClient;
-  @Mock OrderEventPublisher publisher;
 
   @InjectMocks OrderServiceImpl service;
 
   @Test
-  void updateStatus_publishesEvent() {
+  void updateStatus_recordsEventInOutbox_withoutPublishingOnRequestThread() {
     Instant now = Instant.now();
     Order existing =
         new Order(
             "order123",
             new Customer("John Doe", "Street 1", "john@example.com"),
             List.of(),
-            BigDecimal.ZERO,
-            OrderStatus.CREATED,
+            0,
+            OrderStatus.PREPARING,
             now,
             now);
 
-    when(repo.findById("order123")).thenReturn(Optional.of(existing));
-    when(repo.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(repo.updateStatus(eq("order123"), eq(OrderStatus.PREPARING), any(Instant.class), any()))
+        .thenReturn(new StatusUpdateResult.Updated(existing));
 
     service.updateStatus("order123", new UpdateOrderStatusRequest(OrderStatus.PREPARING));
 
-    verify(publisher, times(1)).publish(any());
+    ArgumentCaptor<OutboxEvent> event = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(repo, times(1))
+        .updateStatus(
+            eq("order123"), eq(OrderStatus.PREPARING), any(Instant.class), event.capture());
+    assertThat(event.getValue().getEventType()).isEqualTo(OrderStatusChangedEvent.TYPE);
+    assertThat(event.getValue().getStatus()).isEqualTo(OrderStatus.PREPARING);
+    assertThat(event.getValue().getEventId()).isNotBlank();
   }
 }
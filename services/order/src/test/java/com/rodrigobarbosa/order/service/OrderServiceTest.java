@@ -2,23 +2,38 @@ package com.rodrigobarbosa.order.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest.StatusUpdate;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse.ItemResult;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse.Outcome;
 import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
+import com.rodrigobarbosa.order.api.dto.OrderHistoryResponse;
 import com.rodrigobarbosa.order.api.dto.OrderResponse;
+import com.rodrigobarbosa.order.domain.Customer;
 import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
 import com.rodrigobarbosa.order.external.menu.MenuClient;
-import com.rodrigobarbosa.order.messaging.OrderEventPublisher;
+import com.rodrigobarbosa.order.repo.BulkStatusResult;
+import com.rodrigobarbosa.order.repo.OrderCursor;
 import com.rodrigobarbosa.order.repo.OrderRepository;
+import com.rodrigobarbosa.order.repo.StatusChange;
+import com.rodrigobarbosa.order.repo.TotalCount;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.web.ErrorResponseException;
 
 class OrderServiceTest {
@@ -27,15 +42,14 @@ class OrderServiceTest {
   void create_shouldSnapshotNamePrice_andComputeTotalAmount() {
     OrderRepository repo = mock(OrderRepository.class);
     MenuClient menuClient = mock(MenuClient.class);
-    OrderEventPublisher publisher = mock(OrderEventPublisher.class);
 
-    when(menuClient.getMenuItem("abc123"))
+    when(menuClient.getMenuItems(List.of("abc123", "def456")))
         .thenReturn(
-            Optional.of(
-                new MenuClient.MenuItem("abc123", "Pizza Margherita", new BigDecimal("12.50"))));
-    when(menuClient.getMenuItem("def456"))
-        .thenReturn(
-            Optional.of(new MenuClient.MenuItem("def456", "Coca-Cola", new BigDecimal("3.00"))));
+            Map.of(
+                "abc123",
+                new MenuClient.MenuItem("abc123", "Pizza Margherita", new BigDecimal("12.50")),
+                "def456",
+                new MenuClient.MenuItem("def456", "Coca-Cola", new BigDecimal("3.00"))));
 
     when(repo.save(any(Order.class)))
         .thenAnswer(
@@ -45,13 +59,13 @@ class OrderServiceTest {
                   "order123",
                   orderMock.getCustomer(),
                   orderMock.getOrderItems(),
-                  orderMock.getTotalAmount(),
+                  orderMock.getTotalAmountCents(),
                   orderMock.getOrderStatus(),
                   orderMock.getCreatedAt(),
                   orderMock.getUpdatedAt());
             });
 
-    OrderService orderService = new OrderServiceImpl(repo, menuClient, publisher);
+    OrderService orderService = new OrderServiceImpl(repo, menuClient);
 
     CreateOrderRequest request =
         new CreateOrderRequest(
@@ -69,6 +83,8 @@ class OrderServiceTest {
     assertThat(response.orderItems().getFirst().name()).isEqualTo("Pizza Margherita");
     assertThat(response.totalAmount()).isEqualByComparingTo("34.00"); // 2 * 12.50 + 3 * 3.00
 
+    verify(menuClient, times(1)).getMenuItems(any());
+    verify(menuClient, never()).getMenuItem(any());
     verify(repo, times(1)).save(any(Order.class));
   }
 
@@ -76,11 +92,10 @@ class OrderServiceTest {
   void create_shouldThrow400_whenProductNotFoundInMenu() {
     OrderRepository repo = mock(OrderRepository.class);
     MenuClient menuClient = mock(MenuClient.class);
-    OrderEventPublisher publisher = mock(OrderEventPublisher.class);
 
-    when(menuClient.getMenuItem("invalid-product")).thenReturn(Optional.empty());
+    when(menuClient.getMenuItems(List.of("invalid-product"))).thenReturn(Map.of());
 
-    OrderService orderService = new OrderServiceImpl(repo, menuClient, publisher);
+    OrderService orderService = new OrderServiceImpl(repo, menuClient);
 
     CreateOrderRequest request =
         new CreateOrderRequest(
@@ -102,12 +117,11 @@ class OrderServiceTest {
   void create_shouldThrow503_whenMenuUnavailable() {
     OrderRepository repo = mock(OrderRepository.class);
     MenuClient menuClient = mock(MenuClient.class);
-    OrderEventPublisher publisher = mock(OrderEventPublisher.class);
 
-    when(menuClient.getMenuItem("any-product"))
+    when(menuClient.getMenuItems(List.of("any-product")))
         .thenThrow(new MenuClient.MenuUnavailableException("Menu service is down"));
 
-    OrderService orderService = new OrderServiceImpl(repo, menuClient, publisher);
+    OrderService orderService = new OrderServiceImpl(repo, menuClient);
 
     CreateOrderRequest request =
         new CreateOrderRequest(
@@ -124,4 +138,103 @@ class OrderServiceTest {
 
     verify(repo, never()).save(any());
   }
+
+  @Test
+  void listAfter_shouldResumeFromCursor_andReturnNextCursorOnFullPage() {
+    OrderRepository repo = mock(OrderRepository.class);
+    OrderService orderService = new OrderServiceImpl(repo, mock(MenuClient.class));
+
+    Instant createdAt = Instant.parse("2026-01-01T10:00:00Z");
+    OrderCursor cursor = new OrderCursor(createdAt, "order-9");
+    List<Order> page =
+        List.of(storedOrder("order-8", createdAt), storedOrder("order-7", createdAt));
+    when(repo.findAfter(cursor, 2)).thenReturn(page);
+    when(repo.totalRecords()).thenReturn(TotalCount.approximate(10));
+
+    OrderHistoryResponse<OrderResponse> response = orderService.listAfter(cursor.encode(), 2, true);
+
+    assertThat(response.orderItems())
+        .extracting(OrderResponse::id)
+        .containsExactly("order-8", "order-7");
+    assertThat(response.totalRecords()).isEqualTo(10L);
+    assertThat(response.totalExact()).isFalse();
+    assertThat(OrderCursor.decode(response.nextCursor()))
+        .isEqualTo(new OrderCursor(createdAt, "order-7"));
+  }
+
+  @Test
+  void listAfter_shouldThrow400_whenCursorMalformed() {
+    OrderRepository repo = mock(OrderRepository.class);
+    OrderService orderService = new OrderServiceImpl(repo, mock(MenuClient.class));
+
+    assertThatThrownBy(() -> orderService.listAfter("not-a-cursor", 20, true))
+        .isInstanceOf(ErrorResponseException.class)
+        .satisfies(
+            ex -> assertThat(((ErrorResponseException) ex).getStatusCode().value()).isEqualTo(400));
+
+    verify(repo, never()).findAfter(any(), anyInt());
+  }
+
+  @Test
+  void updateStatuses_shouldReportEachItem_andApplyValidOnesInOneBulkWrite() {
+    OrderRepository repo = mock(OrderRepository.class);
+    OrderService orderService = new OrderServiceImpl(repo, mock(MenuClient.class));
+    when(repo.findStatuses(List.of("o1", "o2", "o3", "o4")))
+        .thenReturn(
+            Map.of(
+                "o1", OrderStatus.CREATED,
+                "o2", OrderStatus.DELIVERED,
+                "o4", OrderStatus.PREPARING));
+    // o4 changes concurrently between the read and the bulk write.
+    when(repo.updateStatuses(any(), any()))
+        .thenReturn(new BulkStatusResult(Set.of("o1"), Map.of("o4", OrderStatus.CANCELLED)));
+
+    var response =
+        orderService.updateStatuses(
+            new BulkUpdateOrderStatusRequest(
+                List.of(
+                    new StatusUpdate("o1", OrderStatus.PREPARING),
+                    new StatusUpdate("o2", OrderStatus.PREPARING),
+                    new StatusUpdate("o3", OrderStatus.CANCELLED),
+                    new StatusUpdate("o4", OrderStatus.DELIVERED))));
+
+    assertThat(response.results())
+        .extracting(ItemResult::id, ItemResult::outcome, ItemResult::status)
+        .containsExactly(
+            tuple("o1", Outcome.UPDATED, OrderStatus.PREPARING),
+            tuple("o2", Outcome.CONFLICT, OrderStatus.DELIVERED),
+            tuple("o3", Outcome.NOT_FOUND, null),
+            tuple("o4", Outcome.CONFLICT, OrderStatus.CANCELLED));
+    ArgumentCaptor<List<StatusChange>> changes = ArgumentCaptor.captor();
+    verify(repo).updateStatuses(changes.capture(), any());
+    assertThat(changes.getValue())
+        .extracting(StatusChange::orderId, StatusChange::from, StatusChange::to)
+        .containsExactly(
+            tuple("o1", OrderStatus.CREATED, OrderStatus.PREPARING),
+            tuple("o4", OrderStatus.PREPARING, OrderStatus.DELIVERED));
+    assertThat(changes.getValue()).allSatisfy(c -> assertThat(c.event()).isNotNull());
+  }
+
+  @Test
+  void updateStatuses_shouldThrow400_whenOrderIdRepeated() {
+    OrderRepository repo = mock(OrderRepository.class);
+    OrderService orderService = new OrderServiceImpl(repo, mock(MenuClient.class));
+
+    var request =
+        new BulkUpdateOrderStatusRequest(
+            List.of(
+                new StatusUpdate("o1", OrderStatus.PREPARING),
+                new StatusUpdate("o1", OrderStatus.CANCELLED)));
+
+    assertThatThrownBy(() -> orderService.updateStatuses(request))
+        .isInstanceOf(ErrorResponseException.class)
+        .satisfies(
+            ex -> assertThat(((ErrorResponseException) ex).getStatusCode().value()).isEqualTo(400));
+    verify(repo, never()).updateStatuses(any(), any());
+  }
+
+  private static Order storedOrder(String id, Instant createdAt) {
+    Customer customer = new Customer("John Doe", "123 Main St", "john@example.com");
+    return new Order(id, customer, List.of(), 100, OrderStatus.CREATED, createdAt, createdAt);
+  }
 }
@@ -3,22 +3,23 @@ package com.rodrigobarbosa.order.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.rodrigobarbosa.order.api.dto.UpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.error.NotFoundException;
 import com.rodrigobarbosa.order.domain.Customer;
 import com.rodrigobarbosa.order.domain.Order;
 import com.rodrigobarbosa.order.domain.OrderItem;
 import com.rodrigobarbosa.order.domain.OrderStatus;
-import com.rodrigobarbosa.order.messaging.OrderEventPublisher;
+import com.rodrigobarbosa.order.domain.OrderStatusTransition;
 import com.rodrigobarbosa.order.repo.OrderRepository;
-import java.math.BigDecimal;
+import com.rodrigobarbosa.order.repo.StatusUpdateResult;
 import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.ErrorResponseException;
 
@@ -27,26 +28,25 @@ class OrderStatusTransitionsTest {
   @Test
   void updateStatus_created_to_preparing_ok() {
     OrderRepository repo = mock(OrderRepository.class);
-    OrderEventPublisher publisher = mock(OrderEventPublisher.class);
-    OrderService service = new OrderServiceImpl(repo, null, publisher);
+    OrderService service = new OrderServiceImpl(repo, null);
 
-    Order order = baseOrder(OrderStatus.CREATED);
-    when(repo.findById("o1")).thenReturn(Optional.of(order));
-    when(repo.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(repo.updateStatus(eq("o1"), eq(OrderStatus.PREPARING), any(Instant.class), any()))
+        .thenReturn(new StatusUpdateResult.Updated(baseOrder(OrderStatus.PREPARING)));
 
-    service.updateStatus("o1", new UpdateOrderStatusRequest(OrderStatus.PREPARING));
+    var response = service.updateStatus("o1", new UpdateOrderStatusRequest(OrderStatus.PREPARING));
 
-    verify(repo).save(any(Order.class));
+    assertThat(response.orderStatus()).isEqualTo("PREPARING");
+    verify(repo, never()).findById(any());
+    verify(repo, never()).save(any());
   }
 
   @Test
   void updateStatus_delivered_to_cancelled_invalid_throwsConflict() {
     OrderRepository repo = mock(OrderRepository.class);
-    OrderEventPublisher publisher = mock(OrderEventPublisher.class);
-    OrderService service = new OrderServiceImpl(repo, null, publisher);
+    OrderService service = new OrderServiceImpl(repo, null);
 
-    Order order = baseOrder(OrderStatus.DELIVERED);
-    when(repo.findById("o1")).thenReturn(Optional.of(order));
+    when(repo.updateStatus(eq("o1"), eq(OrderStatus.CANCELLED), any(Instant.class), any()))
+        .thenReturn(new StatusUpdateResult.Rejected(OrderStatus.DELIVERED));
 
     var request = new UpdateOrderStatusRequest(OrderStatus.CANCELLED);
     assertThatThrownBy(() -> service.updateStatus("o1", request))
@@ -56,20 +56,40 @@ class OrderStatusTransitionsTest {
               ErrorResponseException e = (ErrorResponseException) ex;
               assertThat(e.getStatusCode().value()).isEqualTo(409);
             });
+  }
 
-    verify(repo, never()).save(any());
+  @Test
+  void updateStatus_missingOrder_throwsNotFound() {
+    OrderRepository repo = mock(OrderRepository.class);
+    OrderService service = new OrderServiceImpl(repo, null);
+
+    when(repo.updateStatus(eq("o1"), eq(OrderStatus.CANCELLED), any(Instant.class), any()))
+        .thenReturn(new StatusUpdateResult.NotFound());
+
+    var request = new UpdateOrderStatusRequest(OrderStatus.CANCELLED);
+    assertThatThrownBy(() -> service.updateStatus("o1", request))
+        .isInstanceOf(NotFoundException.class);
+  }
+
+  @Test
+  void allowedSources_matchesIsAllowed() {
+    assertThat(OrderStatusTransition.allowedSources(OrderStatus.CANCELLED))
+        .containsExactlyInAnyOrder(
+            OrderStatus.CREATED, OrderStatus.PREPARING, OrderStatus.CANCELLED);
+    assertThat(OrderStatusTransition.allowedSources(OrderStatus.CREATED))
+        .containsExactly(OrderStatus.CREATED);
   }
 
   private static Order baseOrder(OrderStatus status) {
     Instant now = Instant.now();
-    BigDecimal totalAmount = new BigDecimal("19.98");
+    long totalAmountCents = 1998;
     return new Order(
         "o1",
         new Customer("Taylor Jordan", "123 Main St, Springfield", "taylor.jordan@example.com"),
         List.of(
-            new OrderItem("p1", "Margherita Pizza", new BigDecimal("9.99"), 1),
-            new OrderItem("p2", "Caesar Salad", new BigDecimal("9.99"), 1)),
-        totalAmount,
+            new OrderItem("p1", "Margherita Pizza", 999, 1),
+            new OrderItem("p2", "Caesar Salad", 999, 1)),
+        totalAmountCents,
         status,
         now,
         now);
@@ -0,0 +1,187 @@
+package com.rodrigobarbosa.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusRequest.StatusUpdate;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse.ItemResult;
+import com.rodrigobarbosa.order.api.dto.BulkUpdateOrderStatusResponse.Outcome;
+import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
+import com.rodrigobarbosa.order.api.dto.OrderResponse;
+import com.rodrigobarbosa.order.api.dto.UpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.error.NotFoundException;
+import com.rodrigobarbosa.order.domain.Customer;
+import com.rodrigobarbosa.order.domain.Order;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import com.rodrigobarbosa.order.external.menu.MenuClient;
+import com.rodrigobarbosa.order.external.menu.ReactiveMenuClient;
+import com.rodrigobarbosa.order.repo.BulkStatusResult;
+import com.rodrigobarbosa.order.repo.OrderCursor;
+import com.rodrigobarbosa.order.repo.ReactiveOrderRepository;
+import com.rodrigobarbosa.order.repo.StatusUpdateResult;
+import com.rodrigobarbosa.order.repo.TotalCount;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.ErrorResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReactiveOrderServiceImplTest {
+
+  private final ReactiveOrderRepository repo = mock(ReactiveOrderRepository.class);
+  private final ReactiveMenuClient menuClient = mock(ReactiveMenuClient.class);
+  private final ReactiveOrderService service = new ReactiveOrderServiceImpl(repo, menuClient);
+
+  @Test
+  void create_shouldSnapshotNamePrice_andSave() {
+    when(menuClient.getMenuItems(List.of("abc123", "def456")))
+        .thenReturn(
+            Mono.just(
+                Map.of(
+                    "abc123",
+                    new MenuClient.MenuItem("abc123", "Pizza Margherita", new BigDecimal("12.50")),
+                    "def456",
+                    new MenuClient.MenuItem("def456", "Coca-Cola", new BigDecimal("3.00")))));
+    when(repo.save(any(Order.class)))
+        .thenAnswer(invocation -> Mono.just(withId(invocation.getArgument(0), "order123")));
+
+    StepVerifier.create(service.create(request("abc123", "def456")))
+        .assertNext(
+            response -> {
+              assertThat(response.id()).isEqualTo("order123");
+              assertThat(response.totalAmount()).isEqualByComparingTo("31.00");
+              assertThat(response.orderStatus()).isEqualTo("CREATED");
+            })
+        .verifyComplete();
+  }
+
+  @Test
+  void create_shouldSignal400_whenProductNotFound_and503_whenMenuUnavailable() {
+    when(menuClient.getMenuItems(List.of("abc123", "def456"))).thenReturn(Mono.just(Map.of()));
+    StepVerifier.create(service.create(request("abc123", "def456")))
+        .verifyErrorSatisfies(ex -> assertStatus(ex, 400));
+
+    when(menuClient.getMenuItems(List.of("abc123", "def456")))
+        .thenReturn(Mono.error(new MenuClient.MenuUnavailableException("Menu service down")));
+    StepVerifier.create(service.create(request("abc123", "def456")))
+        .verifyErrorSatisfies(ex -> assertStatus(ex, 503));
+
+    verify(repo, never()).save(any(Order.class));
+  }
+
+  @Test
+  void getById_shouldSignalNotFound_whenMissing() {
+    when(repo.findById("missing")).thenReturn(Mono.empty());
+
+    StepVerifier.create(service.getById("missing")).verifyError(NotFoundException.class);
+  }
+
+  @Test
+  void listAfter_shouldResumeFromCursor_andCountConcurrently() {
+    Instant createdAt = Instant.parse("2026-01-01T10:00:00Z");
+    OrderCursor cursor = new OrderCursor(createdAt, "order-9");
+    when(repo.findAfter(cursor, 2))
+        .thenReturn(
+            Flux.just(storedOrder("order-8", createdAt), storedOrder("order-7", createdAt)));
+    when(repo.totalRecords()).thenReturn(Mono.just(TotalCount.approximate(10)));
+
+    StepVerifier.create(service.listAfter(cursor.encode(), 2, true))
+        .assertNext(
+            response -> {
+              assertThat(response.orderItems())
+                  .extracting(OrderResponse::id)
+                  .containsExactly("order-8", "order-7");
+              assertThat(response.totalRecords()).isEqualTo(10L);
+              assertThat(OrderCursor.decode(response.nextCursor()))
+                  .isEqualTo(new OrderCursor(createdAt, "order-7"));
+            })
+        .verifyComplete();
+  }
+
+  @Test
+  void listAfter_shouldSignal400_whenCursorMalformed() {
+    StepVerifier.create(service.listAfter("not-a-cursor", 20, false))
+        .verifyErrorSatisfies(ex -> assertStatus(ex, 400));
+
+    verify(repo, never()).findAfter(any(), anyInt());
+  }
+
+  @Test
+  void updateStatus_shouldSignal409_whenTransitionRejected() {
+    when(repo.updateStatus(eq("o1"), eq(OrderStatus.PREPARING), any(), any()))
+        .thenReturn(Mono.just(new StatusUpdateResult.Rejected(OrderStatus.DELIVERED)));
+
+    StepVerifier.create(
+            service.updateStatus("o1", new UpdateOrderStatusRequest(OrderStatus.PREPARING)))
+        .verifyErrorSatisfies(ex -> assertStatus(ex, 409));
+  }
+
+  @Test
+  void updateStatuses_shouldReportEachItemInRequestOrder() {
+    when(repo.findStatuses(List.of("o1", "o2", "o3")))
+        .thenReturn(Mono.just(Map.of("o1", OrderStatus.CREATED, "o2", OrderStatus.DELIVERED)));
+    when(repo.updateStatuses(any(), any()))
+        .thenReturn(Mono.just(BulkStatusResult.allApplied(Set.of("o1"))));
+
+    var request =
+        new BulkUpdateOrderStatusRequest(
+            List.of(
+                new StatusUpdate("o1", OrderStatus.PREPARING),
+                new StatusUpdate("o2", OrderStatus.PREPARING),
+                new StatusUpdate("o3", OrderStatus.CANCELLED)));
+
+    StepVerifier.create(service.updateStatuses(request))
+        .assertNext(
+            response ->
+                assertThat(response.results())
+                    .extracting(ItemResult::id, ItemResult::outcome)
+                    .containsExactly(
+                        tuple("o1", Outcome.UPDATED),
+                        tuple("o2", Outcome.CONFLICT),
+                        tuple("o3", Outcome.NOT_FOUND)))
+        .verifyComplete();
+  }
+
+  private static void assertStatus(Throwable ex, int status) {
+    assertThat(ex).isInstanceOf(ErrorResponseException.class);
+    assertThat(((ErrorResponseException) ex).getStatusCode().value()).isEqualTo(status);
+  }
+
+  private static CreateOrderRequest request(String... productIds) {
+    return new CreateOrderRequest(
+        new CreateOrderRequest.CustomerRequest("John Doe", "123 Main St", "john@example.com"),
+        Arrays.stream(productIds)
+            .map(id -> new CreateOrderRequest.CreateOrderItemRequest(id, 2))
+            .toList());
+  }
+
+  private static Order withId(Order order, String id) {
+    return new Order(
+        id,
+        order.getCustomer(),
+        order.getOrderItems(),
+        order.getTotalAmountCents(),
+        order.getOrderStatus(),
+        order.getCreatedAt(),
+        order.getUpdatedAt());
+  }
+
+  private static Order storedOrder(String id, Instant createdAt) {
+    Customer customer = new Customer("John Doe", "123 Main St", "john@example.com");
+    return new Order(id, customer, List.of(), 100, OrderStatus.CREATED, createdAt, createdAt);
+  }
+}
@@ -0,0 +1,87 @@
+package com.rodrigobarbosa.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.rodrigobarbosa.order.api.dto.CreateOrderRequest;
+import com.rodrigobarbosa.order.api.dto.OrderResponse;
+import com.rodrigobarbosa.order.api.dto.UpdateOrderStatusRequest;
+import com.rodrigobarbosa.order.api.error.NotFoundException;
+import com.rodrigobarbosa.order.domain.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.ErrorResponseException;
+
+class TimedOrderServiceTest {
+
+  private final OrderService delegate = mock(OrderService.class);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final TimedOrderService service = new TimedOrderService(delegate, registry);
+
+  @Test
+  void create_recordsSuccess_andItemsPerOrder() {
+    CreateOrderRequest request =
+        new CreateOrderRequest(
+            new CreateOrderRequest.CustomerRequest("John Doe", "Main St", "john@example.com"),
+            List.of(
+                new CreateOrderRequest.CreateOrderItemRequest("p1", 1),
+                new CreateOrderRequest.CreateOrderItemRequest("p2", 3)));
+    when(delegate.create(request)).thenReturn(response(2));
+
+    service.create(request);
+
+    assertThat(count("create", "success")).isEqualTo(1);
+    assertThat(registry.get("order.items").summary().totalAmount()).isEqualTo(2);
+  }
+
+  @Test
+  void failures_areTaggedByWhoIsAtFault() {
+    UpdateOrderStatusRequest delivered = new UpdateOrderStatusRequest(OrderStatus.DELIVERED);
+    when(delegate.getById("missing")).thenThrow(NotFoundException.order("missing"));
+    when(delegate.updateStatus("o1", delivered))
+        .thenThrow(OrderServiceImpl.conflict("Invalid status transition"));
+    when(delegate.list(0, 20, true)).thenThrow(OrderServiceImpl.serviceUnavailable("down"));
+
+    assertThatThrownBy(() -> service.getById("missing")).isInstanceOf(NotFoundException.class);
+    assertThatThrownBy(() -> service.updateStatus("o1", delivered))
+        .isInstanceOf(ErrorResponseException.class);
+    assertThatThrownBy(() -> service.list(0, 20, true)).isInstanceOf(ErrorResponseException.class);
+
+    assertThat(count("get", "client_error")).isEqualTo(1);
+    assertThat(count("updateStatus", "client_error")).isEqualTo(1);
+    assertThat(count("list", "server_error")).isEqualTo(1);
+    assertThat(count("list", "success")).isZero();
+    assertThat(registry.get("order.items").summary().count()).isZero();
+  }
+
+  private long count(String operation, String outcome) {
+    return registry
+        .get("order.service")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+
+  private static OrderResponse response(int items) {
+    List<OrderResponse.OrderItemResponse> lines =
+        IntStream.range(0, items)
+            .mapToObj(i -> new OrderResponse.OrderItemResponse("p" + i, "Item", BigDecimal.ONE, 1))
+            .toList();
+    Instant now = Instant.parse("2026-03-01T12:00:00Z");
+    return new OrderResponse(
+        "o1",
+        new OrderResponse.CustomerResponse("John Doe", "Main St", "john@example.com"),
+        lines,
+        BigDecimal.valueOf(items),
+        "CREATED",
+        now,
+        now);
+  }
+}